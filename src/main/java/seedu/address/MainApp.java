@@ -23,11 +23,11 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WriteBehindStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -57,10 +57,13 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        AddressBookStorage addressBookStorage = StorageManager.createAddressBookStorage(
+                userPrefs.getAddressBookFormat(), userPrefs.getAddressBookFilePath());
+        StorageManager storageManager = new StorageManager(addressBookStorage, userPrefsStorage);
+        storage = new WriteBehindStorage(storageManager);
 
         model = initModelManager(storage, userPrefs);
+        model.addAddressBookChangeListener(storageManager);
 
         logic = new LogicManager(model, storage);
 
@@ -71,14 +74,17 @@ public class MainApp extends Application {
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * The archive of paid off loans is read from {@code storage} as well.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
 
         Optional<ReadOnlyAddressBook> addressBookOptional;
         ReadOnlyAddressBook initialData;
+        boolean isLoadedFromFile = false;
         try {
             addressBookOptional = storage.readAddressBook();
+            isLoadedFromFile = addressBookOptional.isPresent();
             if (!addressBookOptional.isPresent()) {
                 logger.info("Creating a new data file " + storage.getAddressBookFilePath()
                         + " populated with a sample AddressBook.");
@@ -90,7 +96,19 @@ public class MainApp extends Application {
             initialData = new AddressBook();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        Model initialModel = new ModelManager(initialData, userPrefs);
+        if (isLoadedFromFile) {
+            // already on disk, so there is nothing to save until the first change
+            initialModel.markAddressBookSaved();
+        }
+
+        try {
+            initialModel.setLoanArchive(storage.readLoanArchive());
+        } catch (DataLoadingException e) {
+            logger.warning("Loan archive file at " + storage.getLoanArchiveFilePath() + " could not be loaded."
+                    + " Loans paid off before will not be shown.");
+        }
+        return initialModel;
     }
 
     private void initLogging(Config config) {
@@ -177,10 +195,16 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        ui.stop();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
     }
 }
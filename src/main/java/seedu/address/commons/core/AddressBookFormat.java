@@ -0,0 +1,53 @@
+package seedu.address.commons.core;
+
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * A format in which the address book data file can be kept.
+ */
+public enum AddressBookFormat {
+    /** A json snapshot, with changes journaled alongside it. */
+    JSON(".json"),
+    /** A compact binary snapshot. */
+    BINARY(".bin");
+
+    private final String fileExtension;
+
+    AddressBookFormat(String fileExtension) {
+        this.fileExtension = fileExtension;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    /**
+     * Returns the path of a file in this format next to {@code filePath}, which has the same name apart from its
+     * extension.
+     */
+    public Path toFilePath(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return filePath.resolveSibling(baseName + fileExtension);
+    }
+
+    /**
+     * Returns the format named {@code name}, ignoring case, if there is one.
+     */
+    public static Optional<AddressBookFormat> fromName(String name) {
+        for (AddressBookFormat format : values()) {
+            if (format.name().equalsIgnoreCase(name.trim())) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public String toString() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,142 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * Provides the date that loan calculations treat as today.
+ * <p>
+ * The date comes from a {@link Clock}, which can be replaced to evaluate loans as of any date. A {@link Snapshot}
+ * pins the date on the thread that opened it while it is open, so that everything done within one command or one
+ * refresh of the UI sees the same day even if midnight passes. Work handed to other threads is given the pinned
+ * date with {@link #pin(LocalDate)}. Outside of a snapshot, the date is read from the clock, but only converted
+ * to a day in its time zone again once the day is over.
+ */
+public class EvaluationDate {
+
+    private static volatile Clock clock = Clock.systemDefaultZone();
+    private static final ThreadLocal<Snapshot> pinned = new ThreadLocal<>();
+    private static volatile CachedDay cachedDay = null;
+
+    private EvaluationDate() {} // prevents instantiation
+
+    /**
+     * Returns the date that loan calculations should treat as today.
+     */
+    public static LocalDate today() {
+        Snapshot snapshot = pinned.get();
+        if (snapshot != null) {
+            return snapshot.date;
+        }
+        return readClock();
+    }
+
+    /**
+     * Returns the clock that dates are read from.
+     */
+    public static Clock getClock() {
+        return clock;
+    }
+
+    /**
+     * Makes dates be read from {@code newClock} from now on.
+     * A fixed clock evaluates every loan as of the same date, which makes results repeatable.
+     */
+    public static void setClock(Clock newClock) {
+        requireNonNull(newClock);
+        clock = newClock;
+        cachedDay = null;
+    }
+
+    /**
+     * Makes dates be read from the system clock again.
+     */
+    public static void useSystemClock() {
+        setClock(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Pins {@link #today()} on this thread to the current date until the returned snapshot is closed.
+     * Snapshots may be nested, in which case the date pinned by the outermost one is kept.
+     */
+    public static Snapshot capture() {
+        Snapshot previous = pinned.get();
+        return pin(previous == null ? readClock() : previous.date);
+    }
+
+    /**
+     * Pins {@link #today()} on this thread to {@code date} until the returned snapshot is closed, such as to work
+     * on another thread as of a date captured by a command.
+     */
+    public static Snapshot pin(LocalDate date) {
+        requireNonNull(date);
+        Snapshot snapshot = new Snapshot(date, pinned.get());
+        pinned.set(snapshot);
+        return snapshot;
+    }
+
+    private static LocalDate readClock() {
+        Clock currentClock = clock;
+        long now = currentClock.millis();
+        CachedDay day = cachedDay;
+        if (day != null && day.clock == currentClock && now >= day.startMillis && now < day.endMillis) {
+            return day.date;
+        }
+
+        ZoneId zone = currentClock.getZone();
+        LocalDate date = LocalDate.ofInstant(currentClock.instant(), zone);
+        cachedDay = new CachedDay(currentClock, date,
+                date.atStartOfDay(zone).toInstant().toEpochMilli(),
+                date.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli());
+        return date;
+    }
+
+    /**
+     * A date pinned by {@link #capture()} or {@link #pin(LocalDate)}, released by {@link #close()} on the same thread.
+     */
+    public static class Snapshot implements AutoCloseable {
+        private final LocalDate date;
+        private final Snapshot previous;
+
+        private Snapshot(LocalDate date, Snapshot previous) {
+            this.date = date;
+            this.previous = previous;
+        }
+
+        public LocalDate getDate() {
+            return date;
+        }
+
+        @Override
+        public void close() {
+            if (pinned.get() != this) {
+                return;
+            }
+            if (previous == null) {
+                pinned.remove();
+            } else {
+                pinned.set(previous);
+            }
+        }
+    }
+
+    /**
+     * A date read from {@code clock}, which stays correct while the clock reads between the two bounds.
+     */
+    private static class CachedDay {
+        private final Clock clock;
+        private final LocalDate date;
+        private final long startMillis;
+        private final long endMillis;
+
+        private CachedDay(Clock clock, LocalDate date, long startMillis, long endMillis) {
+            this.clock = clock;
+            this.date = date;
+            this.startMillis = startMillis;
+            this.endMillis = endMillis;
+        }
+    }
+}
@@ -3,15 +3,20 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -22,6 +27,7 @@ import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
 
 /**
  * Converts a Java object instance to JSON and vice versa
@@ -77,6 +83,84 @@ public class JsonUtil {
         return Optional.of(jsonFile);
     }
 
+    /**
+     * Reads the array in the field {@code fieldName} of the JSON object in the given file one element at a time,
+     * handing each element to {@code elementHandler} as soon as it is parsed, so that the file and the array are
+     * never held in memory whole. Other fields of the object are skipped, and a missing or null field is read as an
+     * empty array.
+     *
+     * @param filePath cannot be null. The file must exist.
+     * @param elementClass each element of the array has to correspond to the structure in the class given here.
+     * @throws IOException if the file could not be read or is not a JSON object with an array in that field.
+     * @throws IllegalValueException if {@code elementHandler} rejected an element.
+     */
+    public static <T> void readJsonArrayField(Path filePath, String fieldName, Class<T> elementClass,
+            ElementHandler<T> elementHandler) throws IOException, IllegalValueException {
+        requireNonNull(fieldName);
+        readJsonObjectFields(filePath, Map.of(fieldName, arrayReader(elementClass, elementHandler)));
+    }
+
+    /**
+     * Reads the JSON object in the given file one field at a time, in the order they are in the file, handing the
+     * value of each field named in {@code fieldReaders} to its reader. Other fields of the object, and fields whose
+     * value is null, are skipped.
+     *
+     * @param filePath cannot be null. The file must exist.
+     * @throws IOException if the file could not be read or is not a JSON object, or a reader could not read its field.
+     * @throws IllegalValueException if a reader rejected the value of its field.
+     */
+    public static void readJsonObjectFields(Path filePath, Map<String, FieldReader> fieldReaders)
+            throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+        requireNonNull(fieldReaders);
+
+        try (InputStream inputStream = Files.newInputStream(filePath);
+             JsonParser parser = objectMapper.getFactory().createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a JSON object in " + filePath);
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                FieldReader fieldReader = fieldReaders.get(parser.getCurrentName());
+                JsonToken value = parser.nextToken();
+                if (fieldReader == null || value == JsonToken.VALUE_NULL) {
+                    parser.skipChildren();
+                    continue;
+                }
+                fieldReader.read(parser);
+            }
+        }
+    }
+
+    /**
+     * Returns a reader that hands each element of an array field to {@code elementHandler} as soon as it is parsed.
+     *
+     * @param elementClass each element of the array has to correspond to the structure in the class given here.
+     */
+    public static <T> FieldReader arrayReader(Class<T> elementClass, ElementHandler<T> elementHandler) {
+        requireNonNull(elementClass);
+        requireNonNull(elementHandler);
+        return parser -> {
+            if (parser.currentToken() != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "Expected an array in field " + parser.getCurrentName());
+            }
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                elementHandler.handle(objectMapper.readValue(parser, elementClass));
+            }
+        };
+    }
+
+    /**
+     * Returns a reader that hands the value of a field to {@code valueHandler}.
+     *
+     * @param valueClass the value has to correspond to the structure in the class given here.
+     */
+    public static <T> FieldReader valueReader(Class<T> valueClass, ElementHandler<T> valueHandler) {
+        requireNonNull(valueClass);
+        requireNonNull(valueHandler);
+        return parser -> valueHandler.handle(objectMapper.readValue(parser, valueClass));
+    }
+
     /**
      * Saves the Json object to the specified file.
      * Overwrites existing file if it exists, creates a new file if it doesn't.
@@ -111,6 +195,45 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into a single-line JSON data string representation,
+     * suitable for appending to line-oriented files.
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, without any line breaks
+     */
+    public static <T> String toJsonLine(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Represents a function that takes in values as they are read, such as the elements of a JSON array.
+     */
+    @FunctionalInterface
+    public interface ElementHandler<T> {
+        /**
+         * Takes in the next value, such as the next element of the array.
+         *
+         * @throws IllegalValueException if the element cannot be accepted, which stops the reading.
+         */
+        void handle(T element) throws IllegalValueException;
+    }
+
+    /**
+     * Represents a function that reads the value of a field of a JSON object, from the parser positioned at the
+     * first token of the value, and leaves the parser at the last token of the value.
+     */
+    @FunctionalInterface
+    public interface FieldReader {
+        /**
+         * Reads the value of the field.
+         *
+         * @throws IOException if the value does not have the structure expected.
+         * @throws IllegalValueException if the value cannot be accepted, which stops the reading.
+         */
+        void read(JsonParser parser) throws IOException, IllegalValueException;
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
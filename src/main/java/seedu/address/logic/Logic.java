@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -8,6 +9,7 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 
 /**
@@ -33,6 +35,19 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
+    /**
+     * Shows only the persons that pass {@code predicate}, as a preview of a command still being typed.
+     * Does nothing if the person list cannot be changed.
+     */
+    void previewFilteredPersonList(Predicate<Person> predicate);
+
+    /**
+     * Shows only the persons whose names match {@code predicate}, found through the name index, as a preview of a
+     * {@code find} command still being typed.
+     * Does nothing if the person list cannot be changed.
+     */
+    void previewFilteredPersonListByName(NameContainsKeywordsPredicate predicate);
+
     /** Sets if the person list can be changed */
     void setPersonListChangeable(boolean change);
 
@@ -3,9 +3,14 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.core.AddressBookFormat;
+import seedu.address.commons.core.EvaluationDate;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
@@ -13,8 +18,12 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ArchivedNameChange;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Loan;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.storage.Storage;
 
@@ -32,6 +41,7 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private long skippedSaveCount = 0;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -46,26 +56,89 @@ public class LogicManager implements Logic {
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        CommandResult commandResult;
-        Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        // every loan calculation in this command, and the refresh it causes, is made as of the same day
+        try (EvaluationDate.Snapshot today = EvaluationDate.capture()) {
+            CommandResult commandResult;
+            Command command = addressBookParser.parseCommand(commandText);
+            AddressBookFormat formatBefore = model.getAddressBookFormat();
+            Path filePathBefore = model.getAddressBookFilePath();
+            commandResult = command.execute(model);
 
-        try {
-            storage.saveAddressBook(model.getAddressBook());
             try {
-                Person tempPerson = model.getFilteredPersonList().get(0);
-                model.setPerson(tempPerson, tempPerson); // force ui refresh
-            } catch (Exception e) {
-                System.out.println(e.getMessage());
+                // archived first, so that a failed archive never leaves paid off loans saved nowhere
+                archivePaidOffLoans();
+                saveIfChanged();
+                moveIfRelocated(formatBefore, filePathBefore);
+            } catch (AccessDeniedException e) {
+                throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            } catch (IOException ioe) {
+                throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
             }
 
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            return commandResult;
+        }
+    }
+
+    /**
+     * Saves the address book, unless nothing persisted has changed since the last save.
+     * A save is only skipped once the earlier saves are known not to have failed in the background.
+     */
+    private void saveIfChanged() throws IOException {
+        if (!model.hasUnsavedChanges()) {
+            skippedSaveCount++;
+            logger.fine("Address book unchanged, skipped save (" + skippedSaveCount + " skipped so far)");
+            storage.checkSaves();
+            return;
+        }
+
+        storage.saveAddressBook(model.getAddressBook());
+        model.markAddressBookSaved();
+    }
+
+    /**
+     * Adds the loans paid off since the last archive to the loan archive, after moving or retiring the loans of the
+     * persons renamed or deleted since then.
+     * Changes that could not be archived are kept, to be archived after the next command.
+     */
+    private void archivePaidOffLoans() throws IOException {
+        Map<Name, List<Loan>> paidOffLoans = model.getUnarchivedLoans();
+        List<ArchivedNameChange> nameChanges = model.getUnarchivedNameChanges();
+        if (paidOffLoans.isEmpty() && nameChanges.isEmpty()) {
+            return;
+        }
+
+        storage.archiveLoans(nameChanges, paidOffLoans);
+        model.markLoansArchived();
+    }
+
+    /**
+     * Moves the address book to the file in the user prefs, if the command changed it from
+     * {@code filePathBefore} or {@code formatBefore}.
+     * If the move fails, the user prefs are set back to those.
+     */
+    private void moveIfRelocated(AddressBookFormat formatBefore, Path filePathBefore) throws IOException {
+        Path filePath = model.getAddressBookFilePath();
+        if (filePath.equals(filePathBefore) && model.getAddressBookFormat() == formatBefore) {
+            return;
+        }
+
+        try {
+            storage.moveAddressBook(model.getAddressBook(), model.getAddressBookFormat(), filePath);
+        } catch (IOException e) {
+            model.setAddressBookFormat(formatBefore);
+            model.setAddressBookFilePath(filePathBefore);
+            throw e;
         }
+        model.markAddressBookSaved();
+        // later saves only go to the new file, so the prefs must point there even if the app does not exit cleanly
+        storage.saveUserPrefs(model.getUserPrefs());
+    }
 
-        return commandResult;
+    /**
+     * Returns the number of saves skipped because the command left the address book unchanged.
+     */
+    public long getSkippedSaveCount() {
+        return skippedSaveCount;
     }
 
     @Override
@@ -78,6 +151,20 @@ public class LogicManager implements Logic {
         return model.getFilteredPersonList();
     }
 
+    @Override
+    public void previewFilteredPersonList(Predicate<Person> predicate) {
+        if (model.isChangeable()) {
+            model.updateFilteredPersonList(predicate);
+        }
+    }
+
+    @Override
+    public void previewFilteredPersonListByName(NameContainsKeywordsPredicate predicate) {
+        if (model.isChangeable()) {
+            model.updateFilteredPersonListByName(predicate);
+        }
+    }
+
     @Override
     public void setPersonListChangeable(boolean change) {
         model.setIsChangeable(change);
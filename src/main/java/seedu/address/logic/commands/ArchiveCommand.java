@@ -0,0 +1,119 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyLoanArchive;
+import seedu.address.model.person.Loan;
+import seedu.address.model.person.Person;
+
+/**
+ * Shows a page of the loans a person has paid off, which are no longer in their loan list.
+ */
+public class ArchiveCommand extends Command {
+
+    public static final String COMMAND_WORD = "archive";
+
+    public static final int PAGE_SIZE = 10;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows the loans paid off by the person identified by the index number used in the displayed person "
+            + "list, " + PAGE_SIZE + " at a time.\n"
+            + "Parameters: INDEX (must be a positive integer) [PAGE] (must be a positive integer, 1 by default)\n"
+            + "Example: " + COMMAND_WORD + " 1 2";
+
+    public static final String MESSAGE_NO_ARCHIVED_LOANS = "%1$s has not paid off any loans.";
+    public static final String MESSAGE_INVALID_PAGE = "There are only %1$d pages of loans paid off by %2$s.";
+    public static final String MESSAGE_ARCHIVED_LOANS = "Loans paid off by %1$s (page %2$d of %3$d):\n%4$s";
+
+    private final Index targetIndex;
+    private final Index page;
+
+    /**
+     * Creates an ArchiveCommand to show the {@code page} of the loans paid off by the person at {@code targetIndex}.
+     */
+    public ArchiveCommand(Index targetIndex, Index page) {
+        requireNonNull(targetIndex);
+        requireNonNull(page);
+        this.targetIndex = targetIndex;
+        this.page = page;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Person> lastShownList = model.getFilteredPersonList();
+
+        if (targetIndex.getZeroBased() >= lastShownList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        }
+
+        Person person = lastShownList.get(targetIndex.getZeroBased());
+        String name = person.getName().fullName;
+        ReadOnlyLoanArchive archive = model.getLoanArchive();
+        int loanCount = archive.getArchivedLoanCount(person.getName());
+        if (loanCount == 0) {
+            return new CommandResult(String.format(MESSAGE_NO_ARCHIVED_LOANS, name));
+        }
+
+        int pageCount = (loanCount + PAGE_SIZE - 1) / PAGE_SIZE;
+        if (page.getOneBased() > pageCount) {
+            throw new CommandException(String.format(MESSAGE_INVALID_PAGE, pageCount, name));
+        }
+
+        int fromIndex = page.getZeroBased() * PAGE_SIZE;
+        List<Loan> loans = archive.getArchivedLoans(person.getName(), fromIndex, PAGE_SIZE);
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < loans.size(); i++) {
+            builder.append(fromIndex + i + 1).append(". ").append(format(loans.get(i))).append("\n");
+        }
+        return new CommandResult(String.format(MESSAGE_ARCHIVED_LOANS, name, page.getOneBased(), pageCount,
+                builder));
+    }
+
+    /**
+     * Formats {@code loan}, which has been paid off, for display to the user.
+     */
+    private static String format(Loan loan) {
+        return loan.getName()
+                + ": [Principal: $"
+                + String.format("%.2f", loan.getPrincipal())
+                + ", Total paid: $"
+                + String.format("%.2f", loan.getAmtPaid())
+                + ", Created: "
+                + loan.getDateCreated()
+                + ", Due: "
+                + loan.getDueDate()
+                + "]";
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ArchiveCommand)) {
+            return false;
+        }
+
+        ArchiveCommand otherArchiveCommand = (ArchiveCommand) other;
+        return targetIndex.equals(otherArchiveCommand.targetIndex)
+                && page.equals(otherArchiveCommand.page);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("targetIndex", targetIndex)
+                .add("page", page)
+                .toString();
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+
+import seedu.address.commons.core.AddressBookFormat;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Converts the data file to another format, which it is kept in from then on.
+ */
+public class ConvertCommand extends Command {
+
+    public static final String COMMAND_WORD = "convert";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Converts the data file to the given format, "
+            + "which is used from then on. The file keeps its name, with the extension of the new format.\n"
+            + "Parameters: FORMAT (" + AddressBookFormat.JSON + " or " + AddressBookFormat.BINARY + ")\n"
+            + "Example: " + COMMAND_WORD + " " + AddressBookFormat.BINARY;
+
+    public static final String MESSAGE_SUCCESS = "Data file converted to %1$s: %2$s";
+    public static final String MESSAGE_ALREADY_IN_FORMAT = "The data file is already kept in %1$s.";
+
+    private final AddressBookFormat format;
+
+    /**
+     * Creates a ConvertCommand to convert the data file to {@code format}.
+     */
+    public ConvertCommand(AddressBookFormat format) {
+        requireNonNull(format);
+        this.format = format;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (model.getAddressBookFormat() == format) {
+            throw new CommandException(String.format(MESSAGE_ALREADY_IN_FORMAT, format));
+        }
+
+        // the data is written to the new file once the command has run
+        Path filePath = format.toFilePath(model.getAddressBookFilePath());
+        model.setAddressBookFormat(format);
+        model.setAddressBookFilePath(filePath);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, format, filePath));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ConvertCommand)) {
+            return false;
+        }
+
+        ConvertCommand otherConvertCommand = (ConvertCommand) other;
+        return format == otherConvertCommand.format;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("format", format)
+                .toString();
+    }
+}
@@ -55,7 +55,7 @@ public class DeleteLoanCommand extends DeleteCommand {
         }
 
         try {
-            personToDeleteLoan.removeLoan(loanIndex.getZeroBased());
+            model.deleteLoan(personToDeleteLoan, loanIndex.getZeroBased());
         } catch (Exception e) {
             throw new CommandException(e.getMessage());
         }
@@ -36,7 +36,7 @@ public class FindCommand extends Command {
             throw new CommandException(UniquePersonList.UNMODIFIABLE_MESSAGE);
         }
 
-        model.updateFilteredPersonList(predicate);
+        model.updateFilteredPersonListByName(predicate);
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
@@ -2,13 +2,11 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.Optional;
 import java.util.Set;
 
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.LoanPredicate;
-import seedu.address.model.person.LoanPredicate.LoanParameter;
 
 /**
  * Filters and displays all loans across all persons in the address book
@@ -17,26 +15,35 @@ import seedu.address.model.person.LoanPredicate.LoanParameter;
  * amount (less than | greater than or equals)
  * loanType (simple | compound)
  * dueDate (earlier than | later than or equals)
+ * dueIn (due between today and a number of days from today)
  * paidStatus (paid | unpaid).
+ * With {@code explain}, it also shows how the loans were found, such as which index was used.
  */
 public class LoanFilterCommand extends Command {
     public static final String COMMAND_WORD = "filter";
 
     public static final String CLEAR = "clear";
 
+    public static final String EXPLAIN = "explain";
+
+    public static final String MESSAGE_PLAN = "Plan: %1$s";
+
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Filters loans of specified person by given parameters.\n"
-            + "Parameters: [personIndex] pred/ [predicate type] [predicate parameters]\n"
-            + "Available Predicate Types: amount, loanType, dueDate, paidStatus \n"
+            + "Parameters: [personIndex] [explain] pred/ [predicate type] [predicate parameters]\n"
+            + "Available Predicate Types: amount, loanType, dueDate, dueIn, paidStatus \n"
             + "amount parameters:   pred/ amount [< or >] [amount] \n"
             + "dueDate parameters:  pred/ dueDate [< or >] [date in yyyy-mm-dd] \n"
+            + "dueIn parameters:    pred/ dueIn [number of days from today] \n"
             + "loanType parameters: pred/ loanType [s or c] \n"
             + "isPaid parameters:   pred/ isPaid [y or n] \n"
+            + "Add explain to also show which index was used to find the loans.\n"
             + "Example: " + COMMAND_WORD + " 3 pred/ amount > 100.00 pred/ loanType s";
 
     private final Set<LoanPredicate> predicateSet;
     private final Integer personIndex;
     private Boolean clear = false;
+    private final boolean isExplain;
 
     /**
      * Constructs a LoanFilterCommand.
@@ -44,8 +51,18 @@ public class LoanFilterCommand extends Command {
      * @param predicateSet Set of LoanPredicate which will be used for filtering
      */
     public LoanFilterCommand(Integer personIndex, Set<LoanPredicate> predicateSet) {
+        this(personIndex, predicateSet, false);
+    }
+
+    /**
+     * Constructs a LoanFilterCommand that also shows how the loans were found if {@code isExplain} is true.
+     *
+     * @param predicateSet Set of LoanPredicate which will be used for filtering
+     */
+    public LoanFilterCommand(Integer personIndex, Set<LoanPredicate> predicateSet, boolean isExplain) {
         this.personIndex = personIndex;
         this.predicateSet = predicateSet;
+        this.isExplain = isExplain;
     }
 
     /**
@@ -57,6 +74,7 @@ public class LoanFilterCommand extends Command {
         this.clear = clear;
         this.personIndex = personIndex;
         this.predicateSet = null;
+        this.isExplain = false;
     }
 
     /**
@@ -76,23 +94,19 @@ public class LoanFilterCommand extends Command {
             model.filter(personIndex - 1, null);
             result = "Filter Cleared.";
         } else {
-            // default predicate will always resolve to true
-            LoanPredicate combinedPred = new LoanPredicate(
-                LoanParameter.AMOUNT,
-                Optional.empty(),
-                Optional.of(-10f),
-                Optional.empty(),
-                Optional.of('>')
-            );
-
-            // combine predicates
+            // combine predicates, keeping each one as a condition the query planner can look at
+            LoanPredicate combinedPred = null;
             for (LoanPredicate pred : predicateSet) {
-                combinedPred = combinedPred.and(pred);
+                combinedPred = combinedPred == null ? pred : combinedPred.and(pred);
                 result += pred.toString();
             }
 
             // filter
             model.filter(personIndex - 1, combinedPred);
+
+            if (isExplain) {
+                result += String.format(MESSAGE_PLAN, model.getLastLoanFilterPlan());
+            }
         }
 
         return new CommandResult(result);
@@ -135,7 +135,7 @@ public class PayCommand extends Command {
 
             checkFloat(totalPayment, "Total payment overflow error");
 
-            personWhoPaid.payLoan(adjustedLoanIndex, totalPayment);
+            model.payLoan(personWhoPaid, adjustedLoanIndex, totalPayment);
 
         } catch (IllegalValueException e) {
             throw new CommandException(e.getMessage());
@@ -0,0 +1,88 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.PersonSearchResult;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+
+/**
+ * Finds and lists all persons whose name, phone, email, address or tags match any of the argument words, even if
+ * only part of a detail is given or a word is misspelled. The best matches are named in the result.
+ */
+public class SearchCommand extends Command {
+
+    public static final String COMMAND_WORD = "search";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose name, phone, email, address "
+            + "or tags match any of the specified words, even partly or with a typo, and displays them as a list "
+            + "with index numbers. The best matches are listed first in the result.\n"
+            + "Parameters: WORD [MORE_WORDS]...\n"
+            + "Example: " + COMMAND_WORD + " alcie 9435";
+
+    public static final String MESSAGE_BEST_MATCH = "\n%1$d. %2$s (%3$s)";
+
+    // only the best few matches are named, the rest are just shown in the list
+    public static final int MAX_MATCHES_SHOWN = 5;
+
+    private final List<String> words;
+
+    public SearchCommand(List<String> words) {
+        requireNonNull(words);
+        this.words = List.copyOf(words);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.isChangeable()) {
+            throw new CommandException(UniquePersonList.UNMODIFIABLE_MESSAGE);
+        }
+
+        List<PersonSearchResult> results = model.searchPersons(words);
+        Set<Person> found = Collections.newSetFromMap(new IdentityHashMap<>());
+        results.forEach(result -> found.add(result.getPerson()));
+        model.updateFilteredPersonList(found::contains);
+
+        StringBuilder message = new StringBuilder(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+        for (PersonSearchResult result : results.subList(0, Math.min(MAX_MATCHES_SHOWN, results.size()))) {
+            int displayedIndex = model.getFilteredPersonList().indexOf(result.getPerson()) + 1;
+            message.append(String.format(MESSAGE_BEST_MATCH, displayedIndex, result.getPerson().getName(),
+                    String.join(", ", result.getMatches())));
+        }
+        return new CommandResult(message.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SearchCommand)) {
+            return false;
+        }
+
+        SearchCommand otherSearchCommand = (SearchCommand) other;
+        return words.equals(otherSearchCommand.words);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("words", words)
+                .toString();
+    }
+}
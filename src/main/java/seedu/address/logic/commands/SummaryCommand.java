@@ -0,0 +1,49 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.model.Model;
+import seedu.address.model.PortfolioSummary;
+import seedu.address.model.PortfolioSummary.LoanTotals;
+
+/**
+ * Shows the totals over every loan in the address book.
+ */
+public class SummaryCommand extends Command {
+
+    public static final String COMMAND_WORD = "summary";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the totals over all loans of all borrowers.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUMMARY = "Portfolio summary\n"
+            + "All loans: %1$s\n"
+            + "Simple interest loans: %2$s\n"
+            + "Compound interest loans: %3$s\n"
+            + "Overdue loans: %4$d, $%5$.2f outstanding";
+
+    public static final String MESSAGE_LOAN_TOTALS = "%1$d, principal $%2$.2f, owed $%3$.2f, paid $%4$.2f, "
+            + "outstanding $%5$.2f";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        PortfolioSummary summary = model.getPortfolioSummary();
+        LoanTotals overdueLoans = summary.getOverdueLoans();
+        return new CommandResult(String.format(MESSAGE_SUMMARY,
+                format(summary.getAllLoans()),
+                format(summary.getSimpleInterestLoans()),
+                format(summary.getCompoundInterestLoans()),
+                overdueLoans.getCount(), overdueLoans.getOutstanding()));
+    }
+
+    private static String format(LoanTotals totals) {
+        return String.format(MESSAGE_LOAN_TOTALS, totals.getCount(), totals.getPrincipal(), totals.getOwed(),
+                totals.getPaid(), totals.getOutstanding());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this || other instanceof SummaryCommand;
+    }
+}
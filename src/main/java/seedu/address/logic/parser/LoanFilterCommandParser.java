@@ -37,13 +37,20 @@ public class LoanFilterCommandParser implements Parser<LoanFilterCommand> {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, LoanFilterCommand.MESSAGE_USAGE));
         }
 
+        // explain may follow the person index
+        String preamble = argMultimap.getPreamble().strip();
+        boolean isExplain = false;
+        String[] preambleWords = preamble.split("\\s+");
+        if (preambleWords[preambleWords.length - 1].equalsIgnoreCase(LoanFilterCommand.EXPLAIN)) {
+            isExplain = true;
+            preamble = preamble.substring(0, preamble.length() - LoanFilterCommand.EXPLAIN.length());
+        }
+
         int personIndex;
 
         try {
             // filter loans from specific person
-            //personIndex = Integer.parseInt(argMultimap.getPreamble());
-            System.out.println(argMultimap.getPreamble());
-            personIndex = ParserUtil.parseOptionalIndex(argMultimap.getPreamble());
+            personIndex = ParserUtil.parseOptionalIndex(preamble);
 
             if (personIndex < 1) {
                 throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
@@ -54,6 +61,6 @@ public class LoanFilterCommandParser implements Parser<LoanFilterCommand> {
             personIndex = -1;
         }
 
-        return new LoanFilterCommand(personIndex, preds);
+        return new LoanFilterCommand(personIndex, preds, isExplain);
     }
 }
@@ -9,6 +9,7 @@ import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
 
+import seedu.address.commons.core.EvaluationDate;
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -196,6 +197,21 @@ public class ParserUtil {
                 } catch (DateTimeParseException e) {
                     throw new ParseException("Date must be in format yyyy-mm-dd");
                 }
+            } else if (parameter == LoanPredicate.LoanParameter.DUE_IN) {
+                if (tokens.length < 2) {
+                    throw new ParseException("Insufficient Arguments");
+                }
+                try {
+                    int days = Integer.parseInt(tokens[1]);
+                    if (days < 0) {
+                        throw new ParseException("Number of days must be non-negative");
+                    }
+                    value = Optional.of((float) days);
+                } catch (NumberFormatException e) {
+                    throw new ParseException("Number of days must be a whole number and non-negative");
+                }
+                operator = Optional.empty();
+                date = Optional.of(EvaluationDate.today()); // days are counted from the day the command is run
             } else if (parameter == LoanPredicate.LoanParameter.LOAN_TYPE) {
                 if (tokens.length < 2) {
                     throw new ParseException("Insufficient Arguments");
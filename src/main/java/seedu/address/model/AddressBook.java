@@ -2,13 +2,24 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Loan;
 import seedu.address.model.person.LoanPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
 
 /**
  * Wraps all data at the address-book level
@@ -16,7 +27,24 @@ import seedu.address.model.person.UniquePersonList;
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
+    public static final String MESSAGE_NO_LOAN_FILTER_PLAN = "no filter has been applied to every person's loans";
+    public static final String MESSAGE_ONE_PERSON_PLAN = "scan of one person's loans, filter: %1$s";
+
     private final UniquePersonList persons;
+    private final List<AddressBookChange.Listener> changeListeners = new ArrayList<>();
+    private final PortfolioIndex portfolioIndex = new PortfolioIndex();
+    private final LoanRangeIndex<Long> dueDateIndex =
+            new LoanRangeIndex<>("dueDate", loan -> loan.getDueDate().toEpochDay());
+    private final LoanRangeIndex<Float> amountIndex = new LoanRangeIndex<>("amount", Loan::getRemainingOwed);
+    private final LoanBitmapIndex bitmapIndex = new LoanBitmapIndex();
+    private final PersonSearchIndex personSearchIndex = new PersonSearchIndex();
+    private final LoanQueryPlanner loanQueryPlanner = new LoanQueryPlanner(dueDateIndex, amountIndex, bitmapIndex);
+
+    // the loan filter last applied to every person, and the persons whose loans have been filtered on their own since
+    private LoanPredicate loanFilterForAll = null;
+    private final Set<Person> personsFilteredOnTheirOwn = Collections.newSetFromMap(new IdentityHashMap<>());
+    private String lastLoanFilterPlan = MESSAGE_NO_LOAN_FILTER_PLAN;
+    private long version = 0;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -39,6 +67,43 @@ public class AddressBook implements ReadOnlyAddressBook {
         resetData(toBeCopied);
     }
 
+    //// change listeners
+
+    /**
+     * Registers {@code listener} to be told about every change made to the persisted contents of this address book.
+     */
+    public void addChangeListener(AddressBookChange.Listener listener) {
+        requireNonNull(listener);
+        changeListeners.add(listener);
+    }
+
+    /**
+     * Stops telling {@code listener} about changes made to this address book.
+     */
+    public void removeChangeListener(AddressBookChange.Listener listener) {
+        changeListeners.remove(listener);
+    }
+
+    private void publish(AddressBookChange change) {
+        version++;
+        portfolioIndex.onChange(change);
+        dueDateIndex.onChange(change);
+        amountIndex.onChange(change);
+        bitmapIndex.onChange(change);
+        personSearchIndex.onChange(change);
+        reapplyLoanFilter(change);
+        for (AddressBookChange.Listener listener : changeListeners) {
+            listener.onChange(change);
+        }
+    }
+
+    /**
+     * Returns a number that changes whenever the persisted contents of this address book change.
+     */
+    public long getVersion() {
+        return version;
+    }
+
     //// list overwrite operations
 
     /**
@@ -60,14 +125,94 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code persons} must not contain duplicate persons.
      */
     public void sortPeople(String sort, String order) {
-        this.persons.sort(sort, order);
+        if (this.persons.sort(sort, order)) {
+            publish(AddressBookChange.reordered(this));
+        }
     }
 
     /**
      * filters people
+     * <p>
+     * A filter applied to every person is planned by the {@code LoanQueryPlanner}, which narrows the loans down with
+     * the most selective index before the rest of the predicate is checked.
      */
     public void filter(Integer index, LoanPredicate pred) {
-        this.persons.filter(index, pred);
+        if (index != -2) { // filter a specific person
+            personsFilteredOnTheirOwn.add(persons.asUnmodifiableObservableList().get(index));
+            this.persons.filter(index, pred);
+            lastLoanFilterPlan = String.format(MESSAGE_ONE_PERSON_PLAN,
+                    LoanQueryPlanner.Plan.describe(pred == null ? List.of() : pred.getConditions()));
+            return;
+        }
+
+        loanFilterForAll = pred;
+        personsFilteredOnTheirOwn.clear();
+        if (pred == null) {
+            this.persons.filter(index, null);
+            lastLoanFilterPlan = MESSAGE_NO_LOAN_FILTER_PLAN;
+            return;
+        }
+
+        LoanQueryPlanner.Plan plan = loanQueryPlanner.plan(pred);
+        this.persons.filterEach(plan.toLoanFilter());
+        lastLoanFilterPlan = plan.explain();
+    }
+
+    /**
+     * Returns a description of how the last loan filter was carried out, such as which index it used.
+     */
+    public String getLastLoanFilterPlan() {
+        return lastLoanFilterPlan;
+    }
+
+    /**
+     * Filters the loans of a person who has just changed with the filter last applied to every person, so that the
+     * filter carries over to loans added since and to edited copies of the person.
+     */
+    private void reapplyLoanFilter(AddressBookChange change) {
+        if (change.getType() == AddressBookChange.Type.RESET) {
+            loanFilterForAll = null;
+            personsFilteredOnTheirOwn.clear();
+            return;
+        }
+
+        change.getTarget().ifPresent(personsFilteredOnTheirOwn::remove);
+        Optional<Person> person = change.getPerson();
+        if (loanFilterForAll == null || person.isEmpty() || personsFilteredOnTheirOwn.contains(person.get())) {
+            return;
+        }
+        person.get().getLoanList().filter(loanFilterForAll);
+    }
+
+    /**
+     * Returns the loans due between {@code earliest} and {@code latest}, both inclusive, grouped by their owner.
+     */
+    public Map<Person, Set<Loan>> getLoansDueBetween(LocalDate earliest, LocalDate latest) {
+        requireNonNull(earliest);
+        requireNonNull(latest);
+        return dueDateIndex.getLoansIn(new LoanRangeIndex.Range<>(Optional.of(earliest.toEpochDay()), true,
+                Optional.of(latest.toEpochDay()), true));
+    }
+
+    /**
+     * Returns the persons whose names contain any of {@code lowerCaseWords} as a whole word.
+     */
+    public Set<Person> getPersonsWithNameWords(Collection<String> lowerCaseWords) {
+        return persons.getPersonsWithNameWords(lowerCaseWords);
+    }
+
+    /**
+     * Returns the persons whose details match any of {@code words}, even partly or with typos, best match first.
+     */
+    public List<PersonSearchResult> searchPersons(List<String> words) {
+        return personSearchIndex.search(words);
+    }
+
+    /**
+     * Returns a number that changes whenever the persons {@link #getPersonsWithNameWords} finds may have changed.
+     */
+    public long getNameWordIndexVersion() {
+        return persons.getNameWordIndexVersion();
     }
 
     /**
@@ -76,6 +221,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        publish(AddressBookChange.reset(this));
     }
 
     /**
@@ -103,6 +249,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        publish(AddressBookChange.added(this, p));
     }
 
     /**
@@ -114,6 +261,9 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        if (target != editedPerson) {
+            publish(AddressBookChange.replaced(this, target, editedPerson));
+        }
     }
 
     /**
@@ -122,6 +272,69 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        publish(AddressBookChange.removed(this, key));
+    }
+
+    //// loan-level operations
+
+    /**
+     * Adds {@code loan} to the loans of {@code person}.
+     * {@code person} must exist in the address book.
+     */
+    public void addLoan(Person person, Loan loan) {
+        requireNonNull(loan);
+        requirePresent(person);
+
+        person.addLoan(loan);
+        publish(AddressBookChange.loanAdded(this, person, loan));
+        persons.refresh(person);
+    }
+
+    /**
+     * Pays {@code amount} towards the loan at {@code zeroBasedLoanIndex} of {@code person}.
+     * {@code person} must exist in the address book.
+     *
+     * @return the loan, if the payment paid it off and so removed it.
+     * @throws IllegalValueException if the payment is not valid for the loan.
+     */
+    public Optional<Loan> payLoan(Person person, int zeroBasedLoanIndex, float amount)
+            throws IllegalValueException {
+        requirePresent(person);
+
+        Optional<Loan> paidOffLoan = person.payLoan(zeroBasedLoanIndex, amount);
+        publish(paidOffLoan.isPresent()
+                ? AddressBookChange.loanRemoved(this, person, zeroBasedLoanIndex)
+                : AddressBookChange.loanPaid(this, person, zeroBasedLoanIndex));
+        persons.refresh(person);
+        return paidOffLoan;
+    }
+
+    /**
+     * Removes the loan at {@code zeroBasedLoanIndex} from the loans of {@code person}.
+     * {@code person} must exist in the address book.
+     */
+    public void removeLoan(Person person, int zeroBasedLoanIndex) {
+        requirePresent(person);
+
+        person.removeLoan(zeroBasedLoanIndex);
+        publish(AddressBookChange.loanRemoved(this, person, zeroBasedLoanIndex));
+        persons.refresh(person);
+    }
+
+    private void requirePresent(Person person) {
+        requireNonNull(person);
+        if (!persons.containsInstance(person)) {
+            throw new PersonNotFoundException();
+        }
+    }
+
+    //// summary methods
+
+    /**
+     * Returns the totals over every loan in this address book, as of the current evaluation date.
+     */
+    public PortfolioSummary getPortfolioSummary() {
+        return portfolioIndex.getSummary();
     }
 
     //// util methods
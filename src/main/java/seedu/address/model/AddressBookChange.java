@@ -0,0 +1,205 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Loan;
+import seedu.address.model.person.Person;
+
+/**
+ * Describes a single change made to the persisted contents of an {@code AddressBook}.
+ * Changes are published to registered {@link Listener}s right after they are applied.
+ */
+public class AddressBookChange {
+
+    /**
+     * The kinds of changes an {@code AddressBook} can publish.
+     */
+    public enum Type {
+        /** A new person was appended to the list. */
+        ADDED,
+        /** One of a person's loans was changed in place, as described by {@link #getLoanChange()}. */
+        UPDATED,
+        /** A person was replaced by an edited copy. */
+        REPLACED,
+        /** A person was removed from the list. */
+        REMOVED,
+        /** The order of the list was changed. */
+        REORDERED,
+        /** The whole list was replaced. */
+        RESET
+    }
+
+    /**
+     * Receives the changes published by an {@code AddressBook}.
+     */
+    @FunctionalInterface
+    public interface Listener {
+        void onChange(AddressBookChange change);
+    }
+
+    private final Type type;
+    private final ReadOnlyAddressBook source;
+    private final Person target;
+    private final Person person;
+    private final LoanChange loanChange;
+
+    private AddressBookChange(Type type, ReadOnlyAddressBook source, Person target, Person person,
+            LoanChange loanChange) {
+        requireNonNull(type);
+        requireNonNull(source);
+        this.type = type;
+        this.source = source;
+        this.target = target;
+        this.person = person;
+        this.loanChange = loanChange;
+    }
+
+    private AddressBookChange(Type type, ReadOnlyAddressBook source, Person target, Person person) {
+        this(type, source, target, person, null);
+    }
+
+    public static AddressBookChange added(ReadOnlyAddressBook source, Person person) {
+        return new AddressBookChange(Type.ADDED, source, null, requireNonNull(person));
+    }
+
+    /**
+     * Returns a change in which {@code loan} was added to the end of the loans of {@code person}.
+     */
+    public static AddressBookChange loanAdded(ReadOnlyAddressBook source, Person person, Loan loan) {
+        return new AddressBookChange(Type.UPDATED, source, null, requireNonNull(person),
+                new LoanChange(LoanChange.Kind.ADDED, person.getLoans().size() - 1, requireNonNull(loan)));
+    }
+
+    /**
+     * Returns a change in which a payment was made towards the loan at {@code zeroBasedLoanIndex} of {@code person},
+     * which is still there.
+     */
+    public static AddressBookChange loanPaid(ReadOnlyAddressBook source, Person person, int zeroBasedLoanIndex) {
+        return new AddressBookChange(Type.UPDATED, source, null, requireNonNull(person),
+                new LoanChange(LoanChange.Kind.PAID, zeroBasedLoanIndex, person.getLoans().get(zeroBasedLoanIndex)));
+    }
+
+    /**
+     * Returns a change in which the loan at {@code zeroBasedLoanIndex} of {@code person} was removed.
+     */
+    public static AddressBookChange loanRemoved(ReadOnlyAddressBook source, Person person, int zeroBasedLoanIndex) {
+        return new AddressBookChange(Type.UPDATED, source, null, requireNonNull(person),
+                new LoanChange(LoanChange.Kind.REMOVED, zeroBasedLoanIndex, null));
+    }
+
+    public static AddressBookChange replaced(ReadOnlyAddressBook source, Person target, Person editedPerson) {
+        return new AddressBookChange(Type.REPLACED, source, requireNonNull(target), requireNonNull(editedPerson));
+    }
+
+    public static AddressBookChange removed(ReadOnlyAddressBook source, Person person) {
+        return new AddressBookChange(Type.REMOVED, source, requireNonNull(person), null);
+    }
+
+    public static AddressBookChange reordered(ReadOnlyAddressBook source) {
+        return new AddressBookChange(Type.REORDERED, source, null, null);
+    }
+
+    public static AddressBookChange reset(ReadOnlyAddressBook source) {
+        return new AddressBookChange(Type.RESET, source, null, null);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the address book the change was applied to, in its state right after the change.
+     */
+    public ReadOnlyAddressBook getSource() {
+        return source;
+    }
+
+    /**
+     * Returns the person that was replaced or removed, if any.
+     */
+    public Optional<Person> getTarget() {
+        return Optional.ofNullable(target);
+    }
+
+    /**
+     * Returns the person that was added, updated or put in place of the target, if any.
+     */
+    public Optional<Person> getPerson() {
+        return Optional.ofNullable(person);
+    }
+
+    /**
+     * Returns how the loans of the person were changed, if the person was updated.
+     */
+    public Optional<LoanChange> getLoanChange() {
+        return Optional.ofNullable(loanChange);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("type", type)
+                .add("target", target)
+                .add("person", person)
+                .add("loanChange", loanChange)
+                .toString();
+    }
+
+    /**
+     * Describes a change made to a single loan of an updated person.
+     */
+    public static class LoanChange {
+
+        /**
+         * The kinds of changes that can be made to a single loan.
+         */
+        public enum Kind {
+            /** The loan was added to the end of the loans. */
+            ADDED,
+            /** A payment was made towards the loan, which was not paid off by it. */
+            PAID,
+            /** The loan was removed, such as by being paid off. */
+            REMOVED
+        }
+
+        private final Kind kind;
+        private final int index;
+        private final Loan loan;
+
+        private LoanChange(Kind kind, int index, Loan loan) {
+            this.kind = kind;
+            this.index = index;
+            this.loan = loan;
+        }
+
+        public Kind getKind() {
+            return kind;
+        }
+
+        /**
+         * Returns the zero-based index of the loan among the loans of the person, before it was removed if it was.
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        /**
+         * Returns the loan that was added or paid towards, in its state right after the change, if it is still there.
+         */
+        public Optional<Loan> getLoan() {
+            return Optional.ofNullable(loan);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("kind", kind)
+                    .add("index", index)
+                    .add("loan", loan)
+                    .toString();
+        }
+    }
+}
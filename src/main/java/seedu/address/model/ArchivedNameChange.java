@@ -0,0 +1,92 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Loan;
+import seedu.address.model.person.Name;
+
+/**
+ * A change to the name that a person's paid off loans are archived under: the loans are moved to the person's new
+ * name when the person is renamed, and retired when the person is deleted. Retired loans are kept as the history of
+ * the deleted person, apart from the loans of anyone given the name later.
+ */
+public class ArchivedNameChange {
+
+    private final Name name;
+    private final Name newName;
+    private final List<Loan> retiredLoans;
+
+    private ArchivedNameChange(Name name, Name newName, List<Loan> retiredLoans) {
+        this.name = requireNonNull(name);
+        this.newName = newName;
+        this.retiredLoans = List.copyOf(retiredLoans);
+    }
+
+    public static ArchivedNameChange moved(Name name, Name newName) {
+        return new ArchivedNameChange(name, requireNonNull(newName), List.of());
+    }
+
+    /**
+     * Returns a change that retires the loans archived under {@code name}, along with {@code unarchivedLoans}, the
+     * loans paid off under it that were not archived yet.
+     */
+    public static ArchivedNameChange retired(Name name, List<Loan> unarchivedLoans) {
+        return new ArchivedNameChange(name, null, unarchivedLoans);
+    }
+
+    /**
+     * Returns the name the loans were archived under.
+     */
+    public Name getName() {
+        return name;
+    }
+
+    /**
+     * Returns the name the loans are moved to, or an empty {@code Optional} if they are retired.
+     */
+    public Optional<Name> getNewName() {
+        return Optional.ofNullable(newName);
+    }
+
+    /**
+     * Returns the loans paid off under the name that are retired along with those already archived.
+     */
+    public List<Loan> getRetiredLoans() {
+        return retiredLoans;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ArchivedNameChange)) {
+            return false;
+        }
+
+        ArchivedNameChange otherChange = (ArchivedNameChange) other;
+        return name.equals(otherChange.name) && Objects.equals(newName, otherChange.newName)
+                && retiredLoans.equals(otherChange.retiredLoans);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, newName, retiredLoans);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("name", name)
+                .add("newName", newName)
+                .add("retiredLoans", retiredLoans)
+                .toString();
+    }
+}
@@ -0,0 +1,206 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.model.person.Loan;
+import seedu.address.model.person.LoanPredicate;
+import seedu.address.model.person.LoanPredicate.LoanParameter;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.SimpleInterestLoan;
+
+/**
+ * Keeps a bitmap per loan type and paid status over every loan in an {@code AddressBook}, so that conditions on them
+ * can be combined by intersecting bitmaps before any loan is looked at.
+ * <p>
+ * Each loan is given an id when it is first indexed, which it keeps until it leaves the address book, even if its
+ * owner is replaced by an edited copy. Ids of removed loans are given out again, so the bitmaps stay as dense as the
+ * address book is large.
+ */
+class LoanBitmapIndex implements AddressBookChange.Listener {
+
+    private final Map<Loan, Integer> idsByLoan = new IdentityHashMap<>();
+    private final Map<Person, List<Loan>> loansByPerson = new IdentityHashMap<>();
+    private final List<Loan> loansById = new ArrayList<>();
+    private final List<Person> ownersById = new ArrayList<>();
+    private final BitSet freeIds = new BitSet();
+    private final BitSet allLoans = new BitSet();
+    private final BitSet simpleInterestLoans = new BitSet();
+    private final BitSet paidLoans = new BitSet();
+
+    @Override
+    public void onChange(AddressBookChange change) {
+        switch (change.getType()) {
+        case ADDED:
+        case UPDATED:
+            change.getPerson().ifPresent(this::put);
+            break;
+        case REPLACED:
+            // the edited copy takes over the loans first, so that they keep their ids
+            change.getPerson().ifPresent(this::put);
+            change.getTarget().ifPresent(this::remove);
+            break;
+        case REMOVED:
+            change.getTarget().ifPresent(this::remove);
+            break;
+        case RESET:
+            clear();
+            change.getSource().getPersonList().forEach(this::put);
+            break;
+        default:
+            // the order of persons does not affect any bitmap
+            break;
+        }
+    }
+
+    /**
+     * Returns the number of loans in the index.
+     */
+    public int size() {
+        return allLoans.cardinality();
+    }
+
+    /**
+     * Returns the id of {@code loan}, or -1 if it is not in the index.
+     */
+    public int getId(Loan loan) {
+        Integer id = idsByLoan.get(loan);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * Returns true if {@code condition} can be answered by a bitmap of this index.
+     */
+    public static boolean covers(LoanPredicate condition) {
+        return condition.getOperator().isPresent()
+                && (condition.getParameter() == LoanParameter.LOAN_TYPE
+                || condition.getParameter() == LoanParameter.IS_PAID);
+    }
+
+    /**
+     * Returns the ids of the loans that pass every condition in {@code conditions} this index covers, or an empty
+     * {@code Optional} if it covers none of them.
+     */
+    public Optional<BitSet> select(List<LoanPredicate> conditions) {
+        BitSet selected = null;
+        for (LoanPredicate condition : conditions) {
+            if (!covers(condition)) {
+                continue;
+            }
+            if (selected == null) {
+                selected = (BitSet) allLoans.clone();
+            }
+            selected.and(bitmapOf(condition));
+        }
+        return Optional.ofNullable(selected);
+    }
+
+    private BitSet bitmapOf(LoanPredicate condition) {
+        char operator = condition.getOperator().get();
+        BitSet bitmap;
+        boolean isNegated;
+        if (condition.getParameter() == LoanParameter.LOAN_TYPE) {
+            bitmap = simpleInterestLoans;
+            isNegated = operator != 's';
+        } else {
+            bitmap = paidLoans;
+            isNegated = operator != 'y';
+        }
+
+        if (!isNegated) {
+            return bitmap;
+        }
+        BitSet complement = (BitSet) allLoans.clone();
+        complement.andNot(bitmap);
+        return complement;
+    }
+
+    /**
+     * Returns the loans with the given ids, grouped by their owner.
+     */
+    public Map<Person, Set<Loan>> getLoans(BitSet ids) {
+        Map<Person, Set<Loan>> loansByOwner = new IdentityHashMap<>();
+        for (int id = ids.nextSetBit(0); id >= 0; id = ids.nextSetBit(id + 1)) {
+            loansByOwner.computeIfAbsent(ownersById.get(id), owner -> Collections.newSetFromMap(
+                    new IdentityHashMap<>())).add(loansById.get(id));
+        }
+        return loansByOwner;
+    }
+
+    private void put(Person person) {
+        List<Loan> loans = new ArrayList<>();
+        person.getLoanList().stream().forEach(loans::add);
+
+        // loans the person no longer has leave the index before the rest are given ids
+        List<Loan> previousLoans = loansByPerson.put(person, loans);
+        if (previousLoans != null) {
+            Set<Loan> kept = Collections.newSetFromMap(new IdentityHashMap<>());
+            kept.addAll(loans);
+            previousLoans.stream().filter(loan -> !kept.contains(loan)).forEach(this::release);
+        }
+
+        for (Loan loan : loans) {
+            int id = idsByLoan.computeIfAbsent(loan, this::assignId);
+            ownersById.set(id, person);
+            allLoans.set(id);
+            simpleInterestLoans.set(id, loan instanceof SimpleInterestLoan);
+            paidLoans.set(id, loan.isPaid());
+        }
+    }
+
+    private void remove(Person person) {
+        List<Loan> loans = loansByPerson.remove(person);
+        if (loans == null) {
+            return;
+        }
+
+        for (Loan loan : loans) {
+            Integer id = idsByLoan.get(loan);
+            if (id != null && ownersById.get(id) == person) {
+                release(loan);
+            }
+        }
+    }
+
+    private int assignId(Loan loan) {
+        int id = freeIds.nextSetBit(0);
+        if (id < 0) {
+            loansById.add(loan);
+            ownersById.add(null);
+            return loansById.size() - 1;
+        }
+        freeIds.clear(id);
+        loansById.set(id, loan);
+        return id;
+    }
+
+    private void release(Loan loan) {
+        Integer id = idsByLoan.remove(loan);
+        if (id == null) {
+            return;
+        }
+        loansById.set(id, null);
+        ownersById.set(id, null);
+        allLoans.clear(id);
+        simpleInterestLoans.clear(id);
+        paidLoans.clear(id);
+        freeIds.set(id);
+    }
+
+    private void clear() {
+        idsByLoan.clear();
+        loansByPerson.clear();
+        loansById.clear();
+        ownersById.clear();
+        freeIds.clear();
+        allLoans.clear();
+        simpleInterestLoans.clear();
+        paidLoans.clear();
+    }
+}
@@ -0,0 +1,291 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.model.LoanRangeIndex.Range;
+import seedu.address.model.person.Loan;
+import seedu.address.model.person.LoanPredicate;
+import seedu.address.model.person.LoanPredicate.LoanParameter;
+import seedu.address.model.person.Person;
+
+/**
+ * Decides how the loans that pass a {@code LoanPredicate} are found.
+ * <p>
+ * Each index that can narrow down the loans for the predicate is asked how many loans it would give, and the index
+ * giving the fewest is used. The conditions that index does not cover are left to be checked on each loan it gives.
+ * If no index gives fewer loans than there are in total, every loan is checked against the whole predicate.
+ * <p>
+ * Conditions on the loan type and paid status are answered by intersecting bitmaps. The intersection is either
+ * scanned on its own or, if a range index gives fewer loans, used to drop loans from that range before they are
+ * checked against the rest of the predicate.
+ */
+class LoanQueryPlanner {
+
+    private final LoanRangeIndex<Long> dueDateIndex;
+    private final LoanRangeIndex<Float> amountIndex;
+    private final LoanBitmapIndex bitmapIndex;
+
+    /**
+     * Creates a planner that chooses between scanning every loan and the given indexes.
+     *
+     * @param dueDateIndex loans ordered by the epoch day of their due dates.
+     * @param amountIndex  loans ordered by the amount that remains to be paid.
+     * @param bitmapIndex  bitmaps of the loans by loan type and paid status.
+     */
+    LoanQueryPlanner(LoanRangeIndex<Long> dueDateIndex, LoanRangeIndex<Float> amountIndex,
+                     LoanBitmapIndex bitmapIndex) {
+        requireNonNull(dueDateIndex);
+        requireNonNull(amountIndex);
+        requireNonNull(bitmapIndex);
+        this.dueDateIndex = dueDateIndex;
+        this.amountIndex = amountIndex;
+        this.bitmapIndex = bitmapIndex;
+    }
+
+    /**
+     * Returns the cheapest plan for finding the loans that pass {@code predicate}.
+     */
+    Plan plan(LoanPredicate predicate) {
+        requireNonNull(predicate);
+        int totalLoans = dueDateIndex.size();
+        List<LoanPredicate> conditions = predicate.getConditions();
+        Plan best = new FullScan(predicate, totalLoans);
+
+        Optional<BitSet> bitmap = bitmapIndex.select(conditions);
+        List<LoanPredicate> bitmapConditions = conditions.stream()
+                .filter(LoanBitmapIndex::covers).collect(Collectors.toList());
+        if (bitmap.isPresent() && bitmap.get().cardinality() < totalLoans) {
+            best = new BitmapScan(bitmapIndex, bitmap.get(), bitmapConditions,
+                    residual(conditions, LoanBitmapIndex::covers), totalLoans);
+        }
+
+        Range<Long> dueDates = new Range<>(predicate.getEarliestDueDate().map(LocalDate::toEpochDay), true,
+                predicate.getLatestDueDate().map(LocalDate::toEpochDay), true);
+        best = cheaper(best, dueDateIndex, dueDates, day -> LocalDate.ofEpochDay(day).toString(), conditions,
+                bitmap, bitmapConditions, totalLoans, LoanParameter.DUE_DATE, LoanParameter.DUE_IN);
+
+        Range<Float> amounts = new Range<>(predicate.getMinimumRemainingOwed(), true,
+                predicate.getRemainingOwedBelow(), false);
+        best = cheaper(best, amountIndex, amounts, String::valueOf, conditions, bitmap, bitmapConditions,
+                totalLoans, LoanParameter.AMOUNT);
+
+        return best;
+    }
+
+    /**
+     * Returns a scan of {@code range} in {@code index} if it gives fewer loans than {@code best}, or else
+     * {@code best}. Loans in the range that are not in {@code bitmap}, if there is one, are dropped before the
+     * residual filter, which leaves out the conditions on the {@code coveredParameters} and those the bitmap answers.
+     */
+    private <K extends Comparable<K>> Plan cheaper(Plan best, LoanRangeIndex<K> index, Range<K> range,
+            Function<K, String> formatKey, List<LoanPredicate> conditions, Optional<BitSet> bitmap,
+            List<LoanPredicate> bitmapConditions, int totalLoans, LoanParameter... coveredParameters) {
+        if (range.isUnbounded()) {
+            return best;
+        }
+
+        int estimatedLoans = index.countIn(range, best.getEstimatedLoans());
+        if (estimatedLoans >= best.getEstimatedLoans()) {
+            return best;
+        }
+
+        List<LoanParameter> covered = List.of(coveredParameters);
+        List<LoanPredicate> residualConditions = residual(conditions, condition -> covered.contains(
+                condition.getParameter()) || (bitmap.isPresent() && LoanBitmapIndex.covers(condition)));
+        return new IndexScan<>(index, range, formatKey, bitmapIndex, bitmap.orElse(null), bitmapConditions,
+                residualConditions, estimatedLoans, totalLoans);
+    }
+
+    private static List<LoanPredicate> residual(List<LoanPredicate> conditions, Predicate<LoanPredicate> isCovered) {
+        List<LoanPredicate> residualConditions = new ArrayList<>();
+        for (LoanPredicate condition : conditions) {
+            if (!isCovered.test(condition)) {
+                residualConditions.add(condition);
+            }
+        }
+        return residualConditions;
+    }
+
+    /**
+     * A way of finding the loans that pass a predicate.
+     */
+    abstract static class Plan {
+        private final int estimatedLoans;
+        private final int totalLoans;
+
+        Plan(int estimatedLoans, int totalLoans) {
+            this.estimatedLoans = estimatedLoans;
+            this.totalLoans = totalLoans;
+        }
+
+        /**
+         * Returns the number of loans the plan checks.
+         */
+        int getEstimatedLoans() {
+            return estimatedLoans;
+        }
+
+        int getTotalLoans() {
+            return totalLoans;
+        }
+
+        /**
+         * Returns the filter to apply to the loans of each person.
+         */
+        abstract Function<Person, Predicate<Loan>> toLoanFilter();
+
+        /**
+         * Returns a description of the plan, such as which index it scans and what it checks on each loan.
+         */
+        abstract String explain();
+
+        static boolean passesAll(List<LoanPredicate> conditions, Loan loan) {
+            for (LoanPredicate condition : conditions) {
+                if (!condition.test(loan)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        static String describe(List<LoanPredicate> conditions) {
+            String described = conditions.stream()
+                    .map(condition -> condition.toString().strip())
+                    .filter(description -> !description.isEmpty())
+                    .collect(Collectors.joining(", "));
+            return described.isEmpty() ? "none" : described;
+        }
+
+        @Override
+        public String toString() {
+            return explain();
+        }
+    }
+
+    /**
+     * Checks every loan of every person against the whole predicate.
+     */
+    private static class FullScan extends Plan {
+        private final LoanPredicate predicate;
+
+        FullScan(LoanPredicate predicate, int totalLoans) {
+            super(totalLoans, totalLoans);
+            this.predicate = predicate;
+        }
+
+        @Override
+        Function<Person, Predicate<Loan>> toLoanFilter() {
+            return person -> predicate;
+        }
+
+        @Override
+        String explain() {
+            return String.format("full scan (%1$d of %2$d loans), filter: %3$s", getEstimatedLoans(),
+                    getTotalLoans(), describe(predicate.getConditions()));
+        }
+    }
+
+    /**
+     * Takes the loans in the intersection of the bitmaps, and checks only the conditions the bitmaps do not answer.
+     */
+    private static class BitmapScan extends Plan {
+        private final LoanBitmapIndex bitmapIndex;
+        private final BitSet bitmap;
+        private final List<LoanPredicate> bitmapConditions;
+        private final List<LoanPredicate> residualConditions;
+
+        BitmapScan(LoanBitmapIndex bitmapIndex, BitSet bitmap, List<LoanPredicate> bitmapConditions,
+                   List<LoanPredicate> residualConditions, int totalLoans) {
+            super(bitmap.cardinality(), totalLoans);
+            this.bitmapIndex = bitmapIndex;
+            this.bitmap = bitmap;
+            this.bitmapConditions = bitmapConditions;
+            this.residualConditions = residualConditions;
+        }
+
+        @Override
+        Function<Person, Predicate<Loan>> toLoanFilter() {
+            Map<Person, Set<Loan>> selectedLoans = bitmapIndex.getLoans(bitmap);
+            return person -> {
+                Set<Loan> loans = selectedLoans.get(person);
+                if (loans == null) {
+                    return loan -> false;
+                }
+                return loan -> loans.contains(loan) && passesAll(residualConditions, loan);
+            };
+        }
+
+        @Override
+        String explain() {
+            return String.format("bitmap scan on %1$s (%2$d of %3$d loans), residual filter: %4$s",
+                    describe(bitmapConditions), getEstimatedLoans(), getTotalLoans(), describe(residualConditions));
+        }
+    }
+
+    /**
+     * Takes the loans within a range of an index, drops those not in the bitmap if there is one, and checks only the
+     * conditions neither covers.
+     */
+    private static class IndexScan<K extends Comparable<K>> extends Plan {
+        private final LoanRangeIndex<K> index;
+        private final Range<K> range;
+        private final Function<K, String> formatKey;
+        private final LoanBitmapIndex bitmapIndex;
+        private final BitSet bitmap;
+        private final List<LoanPredicate> bitmapConditions;
+        private final List<LoanPredicate> residualConditions;
+
+        IndexScan(LoanRangeIndex<K> index, Range<K> range, Function<K, String> formatKey,
+                  LoanBitmapIndex bitmapIndex, BitSet bitmap, List<LoanPredicate> bitmapConditions,
+                  List<LoanPredicate> residualConditions, int estimatedLoans, int totalLoans) {
+            super(estimatedLoans, totalLoans);
+            this.index = index;
+            this.range = range;
+            this.formatKey = formatKey;
+            this.bitmapIndex = bitmapIndex;
+            this.bitmap = bitmap;
+            this.bitmapConditions = bitmapConditions;
+            this.residualConditions = residualConditions;
+        }
+
+        @Override
+        Function<Person, Predicate<Loan>> toLoanFilter() {
+            Map<Person, Set<Loan>> loansInRange = index.getLoansIn(range);
+            if (bitmap != null) {
+                loansInRange.values().forEach(loans -> loans.removeIf(loan -> !isInBitmap(loan)));
+            }
+            return person -> {
+                Set<Loan> loans = loansInRange.get(person);
+                if (loans == null || loans.isEmpty()) {
+                    return loan -> false;
+                }
+                return loan -> loans.contains(loan) && passesAll(residualConditions, loan);
+            };
+        }
+
+        private boolean isInBitmap(Loan loan) {
+            int id = bitmapIndex.getId(loan);
+            return id >= 0 && bitmap.get(id);
+        }
+
+        @Override
+        String explain() {
+            String bitmapFilter = bitmap == null ? ""
+                    : String.format(", bitmap filter: %1$s", describe(bitmapConditions));
+            return String.format("index scan on %1$s %2$s (%3$d of %4$d loans)%5$s, residual filter: %6$s",
+                    index.getKeyName(), range.describe(formatKey), getEstimatedLoans(), getTotalLoans(),
+                    bitmapFilter, describe(residualConditions));
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import seedu.address.model.person.Loan;
+import seedu.address.model.person.Person;
+
+/**
+ * Keeps every loan in an {@code AddressBook} ordered by a key, such as its due date, so that the loans whose keys
+ * fall within a range can be found without going through every person and loan.
+ * <p>
+ * Each entry points back to the person who owns the loan. A person's loans are indexed again whenever that person
+ * is added, updated or replaced, so keys that change with payments stay correct.
+ *
+ * @param <K> type of the key loans are ordered by.
+ */
+class LoanRangeIndex<K extends Comparable<K>> implements AddressBookChange.Listener {
+
+    private final String keyName;
+    private final Function<Loan, K> keyOf;
+    private final NavigableMap<K, List<IndexedLoan<K>>> loansByKey = new TreeMap<>();
+    private final Map<Person, List<IndexedLoan<K>>> loansByPerson = new IdentityHashMap<>();
+    private int size = 0;
+
+    /**
+     * Creates an empty index of loans ordered by {@code keyOf}, described in query plans as {@code keyName}.
+     */
+    LoanRangeIndex(String keyName, Function<Loan, K> keyOf) {
+        requireNonNull(keyName);
+        requireNonNull(keyOf);
+        this.keyName = keyName;
+        this.keyOf = keyOf;
+    }
+
+    @Override
+    public void onChange(AddressBookChange change) {
+        switch (change.getType()) {
+        case ADDED:
+        case UPDATED:
+            change.getPerson().ifPresent(this::put);
+            break;
+        case REPLACED:
+            change.getTarget().ifPresent(this::remove);
+            change.getPerson().ifPresent(this::put);
+            break;
+        case REMOVED:
+            change.getTarget().ifPresent(this::remove);
+            break;
+        case RESET:
+            loansByKey.clear();
+            loansByPerson.clear();
+            size = 0;
+            change.getSource().getPersonList().forEach(this::put);
+            break;
+        default:
+            // the order of persons does not affect any key
+            break;
+        }
+    }
+
+    public String getKeyName() {
+        return keyName;
+    }
+
+    /**
+     * Returns the number of loans in the index.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the loans whose keys are within {@code range}, grouped by their owner.
+     */
+    public Map<Person, Set<Loan>> getLoansIn(Range<K> range) {
+        Map<Person, Set<Loan>> loansByOwner = new IdentityHashMap<>();
+        for (List<IndexedLoan<K>> loans : view(range).values()) {
+            for (IndexedLoan<K> indexedLoan : loans) {
+                loansByOwner.computeIfAbsent(indexedLoan.owner, owner -> Collections.newSetFromMap(
+                        new IdentityHashMap<>())).add(indexedLoan.loan);
+            }
+        }
+        return loansByOwner;
+    }
+
+    /**
+     * Returns the number of loans whose keys are within {@code range}, counting no further than {@code limit}.
+     * Counting stops early so that a range can be compared against a cheaper plan without walking all of it.
+     */
+    public int countIn(Range<K> range, int limit) {
+        int count = 0;
+        for (List<IndexedLoan<K>> loans : view(range).values()) {
+            count += loans.size();
+            if (count >= limit) {
+                return limit;
+            }
+        }
+        return count;
+    }
+
+    private NavigableMap<K, List<IndexedLoan<K>>> view(Range<K> range) {
+        if (range.isEmpty()) {
+            return Collections.emptyNavigableMap();
+        }
+
+        NavigableMap<K, List<IndexedLoan<K>>> view = loansByKey;
+        if (range.lower.isPresent()) {
+            view = view.tailMap(range.lower.get(), range.isLowerInclusive);
+        }
+        if (range.upper.isPresent()) {
+            view = view.headMap(range.upper.get(), range.isUpperInclusive);
+        }
+        return view;
+    }
+
+    private void put(Person person) {
+        remove(person);
+
+        List<IndexedLoan<K>> loans = new ArrayList<>();
+        person.getLoanList().stream().forEach(loan -> {
+            IndexedLoan<K> indexedLoan = new IndexedLoan<>(person, loan, keyOf.apply(loan));
+            loans.add(indexedLoan);
+            loansByKey.computeIfAbsent(indexedLoan.key, key -> new ArrayList<>()).add(indexedLoan);
+        });
+        if (!loans.isEmpty()) {
+            loansByPerson.put(person, loans);
+            size += loans.size();
+        }
+    }
+
+    private void remove(Person person) {
+        List<IndexedLoan<K>> loans = loansByPerson.remove(person);
+        if (loans == null) {
+            return;
+        }
+
+        for (IndexedLoan<K> indexedLoan : loans) {
+            List<IndexedLoan<K>> loansWithKey = loansByKey.get(indexedLoan.key);
+            loansWithKey.remove(indexedLoan);
+            if (loansWithKey.isEmpty()) {
+                loansByKey.remove(indexedLoan.key);
+            }
+        }
+        size -= loans.size();
+    }
+
+    /**
+     * A range of keys. Either end may be open, and each bound may be inclusive or exclusive.
+     * Guarantees: immutable.
+     *
+     * @param <K> type of the keys.
+     */
+    static class Range<K extends Comparable<K>> {
+        private final Optional<K> lower;
+        private final boolean isLowerInclusive;
+        private final Optional<K> upper;
+        private final boolean isUpperInclusive;
+
+        Range(Optional<K> lower, boolean isLowerInclusive, Optional<K> upper, boolean isUpperInclusive) {
+            this.lower = lower;
+            this.isLowerInclusive = isLowerInclusive;
+            this.upper = upper;
+            this.isUpperInclusive = isUpperInclusive;
+        }
+
+        /**
+         * Returns true if neither end of the range is bounded.
+         */
+        boolean isUnbounded() {
+            return lower.isEmpty() && upper.isEmpty();
+        }
+
+        /**
+         * Returns true if no key can be within the range.
+         */
+        boolean isEmpty() {
+            if (lower.isEmpty() || upper.isEmpty()) {
+                return false;
+            }
+            int comparison = lower.get().compareTo(upper.get());
+            return comparison > 0 || (comparison == 0 && !(isLowerInclusive && isUpperInclusive));
+        }
+
+        /**
+         * Returns the range in interval notation, with each bound written by {@code format} and open ends left blank.
+         */
+        String describe(Function<K, String> format) {
+            return (lower.isPresent() && isLowerInclusive ? "[" : "(") + lower.map(format).orElse("")
+                    + ", " + upper.map(format).orElse("") + (upper.isPresent() && isUpperInclusive ? "]" : ")");
+        }
+
+        @Override
+        public String toString() {
+            return describe(String::valueOf);
+        }
+    }
+
+    /**
+     * A loan, the person who owns it, and its key when it was indexed.
+     * Equality is by identity, so that equal loans of different persons are kept apart.
+     */
+    private static class IndexedLoan<K> {
+        private final Person owner;
+        private final Loan loan;
+        private final K key;
+
+        IndexedLoan(Person owner, Loan loan, K key) {
+            this.owner = owner;
+            this.loan = loan;
+            this.key = key;
+        }
+    }
+}
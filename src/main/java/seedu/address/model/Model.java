@@ -1,12 +1,19 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.core.AddressBookFormat;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Loan;
 import seedu.address.model.person.LoanList;
 import seedu.address.model.person.LoanPredicate;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 
 /**
@@ -21,6 +28,11 @@ public interface Model {
      */
     void filter(Integer index, LoanPredicate pred);
 
+    /**
+     * Returns a description of how the last loan filter was carried out, such as which index it used.
+     */
+    String getLastLoanFilterPlan();
+
     /**
      * Returns the loan list containing all loans.
      */
@@ -66,6 +78,16 @@ public interface Model {
      */
     void setAddressBookFilePath(Path addressBookFilePath);
 
+    /**
+     * Returns the user prefs' address book file format.
+     */
+    AddressBookFormat getAddressBookFormat();
+
+    /**
+     * Sets the user prefs' address book file format.
+     */
+    void setAddressBookFormat(AddressBookFormat addressBookFormat);
+
     /**
      * Replaces address book data with the data in {@code addressBook}.
      */
@@ -103,6 +125,74 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Adds {@code loan} to the loans of {@code person}.
+     * {@code person} must exist in the address book.
+     */
+    void addLoan(Person person, Loan loan);
+
+    /**
+     * Pays {@code amount} towards the loan at {@code zeroBasedLoanIndex} of {@code person}.
+     * {@code person} must exist in the address book.
+     *
+     * @throws IllegalValueException if the payment is not valid for the loan.
+     */
+    void payLoan(Person person, int zeroBasedLoanIndex, float amount) throws IllegalValueException;
+
+    /**
+     * Deletes the loan at {@code zeroBasedLoanIndex} from the loans of {@code person}.
+     * {@code person} must exist in the address book.
+     */
+    void deleteLoan(Person person, int zeroBasedLoanIndex);
+
+    /**
+     * Registers {@code listener} to be told about every change made to the persisted contents of the address book.
+     */
+    void addAddressBookChangeListener(AddressBookChange.Listener listener);
+
+    /**
+     * Returns true if the address book has changed since it was last marked as saved.
+     * Changes to the filtered person list or the loan filters do not count, as they are not persisted.
+     */
+    boolean hasUnsavedChanges();
+
+    /**
+     * Marks the current state of the address book as saved.
+     */
+    void markAddressBookSaved();
+
+    /**
+     * Returns the loans paid off since they were last marked as archived, by the name of the person who paid them.
+     */
+    Map<Name, List<Loan>> getUnarchivedLoans();
+
+    /**
+     * Returns the changes to the names that archived loans are kept under, made by renaming or deleting persons
+     * since they were last marked as archived, in the order they were made.
+     * The loans returned by {@link #getUnarchivedLoans()} are already under the names that persons have now.
+     */
+    List<ArchivedNameChange> getUnarchivedNameChanges();
+
+    /**
+     * Marks every loan paid off, and every change to the names they are archived under, so far as archived.
+     */
+    void markLoansArchived();
+
+    /**
+     * Returns the archive of loans paid off before.
+     */
+    ReadOnlyLoanArchive getLoanArchive();
+
+    /**
+     * Replaces the archive of loans paid off before with {@code loanArchive}.
+     */
+    void setLoanArchive(ReadOnlyLoanArchive loanArchive);
+
+    /**
+     * Returns the totals over every loan in the address book, as of the current evaluation date.
+     */
+    PortfolioSummary getPortfolioSummary();
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
@@ -111,4 +201,18 @@ public interface Model {
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
+
+    /**
+     * Updates the filter of the filtered person list to show the persons whose names contain any of the keywords of
+     * {@code predicate}. The persons are looked up in the name index of the address book rather than tested one by
+     * one against every keyword.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void updateFilteredPersonListByName(NameContainsKeywordsPredicate predicate);
+
+    /**
+     * Returns the persons whose name, phone, email, address or tags match any of {@code words}, best match first.
+     * A word matches a detail it equals, starts or is part of, or is a few typos away from.
+     */
+    List<PersonSearchResult> searchPersons(List<String> words);
 }
@@ -4,15 +4,27 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import seedu.address.commons.core.AddressBookFormat;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Loan;
 import seedu.address.model.person.LoanList;
 import seedu.address.model.person.LoanPredicate;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 
 /**
@@ -25,6 +37,10 @@ public class ModelManager implements Model {
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
     private final LoanList loanList;
+    private long savedVersion = -1;
+    private final Map<Name, List<Loan>> unarchivedLoans = new LinkedHashMap<>();
+    private final List<ArchivedNameChange> unarchivedNameChanges = new ArrayList<>();
+    private ReadOnlyLoanArchive loanArchive = ReadOnlyLoanArchive.EMPTY;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -84,10 +100,28 @@ public class ModelManager implements Model {
         userPrefs.setAddressBookFilePath(addressBookFilePath);
     }
 
+    @Override
+    public AddressBookFormat getAddressBookFormat() {
+        return userPrefs.getAddressBookFormat();
+    }
+
+    @Override
+    public void setAddressBookFormat(AddressBookFormat addressBookFormat) {
+        requireNonNull(addressBookFormat);
+        userPrefs.setAddressBookFormat(addressBookFormat);
+    }
+
     //=========== AddressBook ================================================================================
 
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
+        Set<Name> namesKept = new HashSet<>();
+        addressBook.getPersonList().forEach(person -> namesKept.add(person.getName()));
+        for (Person person : this.addressBook.getPersonList()) {
+            if (!namesKept.contains(person.getName())) {
+                retireArchivedLoans(person.getName());
+            }
+        }
         this.addressBook.resetData(addressBook);
     }
 
@@ -105,6 +139,7 @@ public class ModelManager implements Model {
     @Override
     public void deletePerson(Person target) {
         addressBook.removePerson(target);
+        retireArchivedLoans(target.getName());
     }
 
     @Override
@@ -118,6 +153,9 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedPerson);
 
         addressBook.setPerson(target, editedPerson);
+        if (!target.getName().equals(editedPerson.getName())) {
+            moveArchivedLoans(target.getName(), editedPerson.getName());
+        }
     }
 
     @Override
@@ -125,6 +163,93 @@ public class ModelManager implements Model {
         addressBook.sortPeople(sort, order);
     }
 
+    @Override
+    public void addLoan(Person person, Loan loan) {
+        requireAllNonNull(person, loan);
+        addressBook.addLoan(person, loan);
+    }
+
+    @Override
+    public void payLoan(Person person, int zeroBasedLoanIndex, float amount) throws IllegalValueException {
+        requireNonNull(person);
+        addressBook.payLoan(person, zeroBasedLoanIndex, amount).ifPresent(paidOffLoan ->
+                unarchivedLoans.computeIfAbsent(person.getName(), name -> new ArrayList<>()).add(paidOffLoan));
+    }
+
+    @Override
+    public void deleteLoan(Person person, int zeroBasedLoanIndex) {
+        requireNonNull(person);
+        addressBook.removeLoan(person, zeroBasedLoanIndex);
+    }
+
+    @Override
+    public void addAddressBookChangeListener(AddressBookChange.Listener listener) {
+        requireNonNull(listener);
+        addressBook.addChangeListener(listener);
+    }
+
+    @Override
+    public boolean hasUnsavedChanges() {
+        return addressBook.getVersion() != savedVersion;
+    }
+
+    @Override
+    public void markAddressBookSaved() {
+        savedVersion = addressBook.getVersion();
+    }
+
+    @Override
+    public Map<Name, List<Loan>> getUnarchivedLoans() {
+        return Collections.unmodifiableMap(unarchivedLoans);
+    }
+
+    @Override
+    public List<ArchivedNameChange> getUnarchivedNameChanges() {
+        return Collections.unmodifiableList(unarchivedNameChanges);
+    }
+
+    @Override
+    public void markLoansArchived() {
+        unarchivedLoans.clear();
+        unarchivedNameChanges.clear();
+    }
+
+    /**
+     * Keeps the loans paid off by the person named {@code name} under {@code newName} from now on.
+     */
+    private void moveArchivedLoans(Name name, Name newName) {
+        List<Loan> paidOffLoans = unarchivedLoans.remove(name);
+        if (paidOffLoans != null) {
+            unarchivedLoans.put(newName, paidOffLoans);
+        }
+        unarchivedNameChanges.add(ArchivedNameChange.moved(name, newName));
+    }
+
+    /**
+     * Retires the loans paid off by the person named {@code name}, who is no longer in the address book, so that
+     * they are kept without being archived under the name of anyone added later.
+     */
+    private void retireArchivedLoans(Name name) {
+        List<Loan> paidOffLoans = unarchivedLoans.remove(name);
+        unarchivedNameChanges.add(ArchivedNameChange.retired(name, paidOffLoans == null ? List.of() : paidOffLoans));
+    }
+
+    @Override
+    public ReadOnlyLoanArchive getLoanArchive() {
+        return loanArchive;
+    }
+
+    @Override
+    public void setLoanArchive(ReadOnlyLoanArchive loanArchive) {
+        requireNonNull(loanArchive);
+        this.loanArchive = loanArchive;
+    }
+
+    @Override
+    public PortfolioSummary getPortfolioSummary() {
+        return addressBook.getPortfolioSummary();
+    }
+
 
     //=========== Filtered Person List Accessors =============================================================
 
@@ -138,6 +263,11 @@ public class ModelManager implements Model {
         this.addressBook.filter(index, pred);
     }
 
+    @Override
+    public String getLastLoanFilterPlan() {
+        return addressBook.getLastLoanFilterPlan();
+    }
+
     @Override
     public void setIsChangeable(boolean change) {
         this.addressBook.setPersonListChangeable(change);
@@ -159,6 +289,18 @@ public class ModelManager implements Model {
         filteredPersons.setPredicate(predicate);
     }
 
+    @Override
+    public List<PersonSearchResult> searchPersons(List<String> words) {
+        requireNonNull(words);
+        return addressBook.searchPersons(words);
+    }
+
+    @Override
+    public void updateFilteredPersonListByName(NameContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        filteredPersons.setPredicate(new NameIndexPredicate(addressBook, predicate));
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -176,4 +318,34 @@ public class ModelManager implements Model {
                 && filteredPersons.equals(otherModelManager.filteredPersons);
     }
 
+    /**
+     * Tests that a person is one of those the name index of an address book finds for some keywords.
+     * The persons found are kept until the name index changes, and looked up again the first time a person is
+     * tested after that.
+     */
+    private static class NameIndexPredicate implements Predicate<Person> {
+        private final AddressBook addressBook;
+        private final NameContainsKeywordsPredicate keywords;
+        private Set<Person> matches;
+        private long version;
+
+        NameIndexPredicate(AddressBook addressBook, NameContainsKeywordsPredicate keywords) {
+            this.addressBook = addressBook;
+            this.keywords = keywords;
+            lookUp();
+        }
+
+        private void lookUp() {
+            version = addressBook.getNameWordIndexVersion();
+            matches = addressBook.getPersonsWithNameWords(keywords.getLowerCaseKeywords());
+        }
+
+        @Override
+        public boolean test(Person person) {
+            if (version != addressBook.getNameWordIndexVersion()) {
+                lookUp();
+            }
+            return matches.contains(person);
+        }
+    }
 }
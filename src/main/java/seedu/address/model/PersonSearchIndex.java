@@ -0,0 +1,427 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Finds persons by any of their details, even from part of a detail or a misspelled one.
+ * <p>
+ * Every person's name, phone, email, address and tags are split into lower case terms. Each term is kept in a prefix
+ * trie and under each of its trigrams, and points back to the persons who have it. A word searched for matches a
+ * term that equals it, starts with it, contains it, or is within a few typos of it, in that order of preference.
+ * Trigrams narrow down the terms worth comparing, so that the whole index is never scanned.
+ * <p>
+ * A person is indexed again whenever that person is added, replaced or removed.
+ */
+class PersonSearchIndex implements AddressBookChange.Listener {
+
+    static final int EXACT = 0;
+    static final int PREFIX = 1;
+    static final int SUBSTRING = 2;
+    // a typo costs one more than a substring match, so any match without typos ranks first
+    static final int FUZZY = 2;
+
+    // a short word would match too many terms by its prefix, so only this many are taken
+    private static final int MAX_PREFIX_TERMS = 1000;
+    private static final char PADDING = '$';
+
+    private final Map<Person, List<Term>> termsByPerson = new IdentityHashMap<>();
+    private final Map<String, Set<Person>> personsByTerm = new HashMap<>();
+    private final Map<String, Set<String>> termsByTrigram = new HashMap<>();
+    private final TrieNode trie = new TrieNode();
+
+    @Override
+    public void onChange(AddressBookChange change) {
+        switch (change.getType()) {
+        case ADDED:
+            change.getPerson().ifPresent(this::put);
+            break;
+        case REPLACED:
+            change.getTarget().ifPresent(this::remove);
+            change.getPerson().ifPresent(this::put);
+            break;
+        case REMOVED:
+            change.getTarget().ifPresent(this::remove);
+            break;
+        case RESET:
+            termsByPerson.clear();
+            personsByTerm.clear();
+            termsByTrigram.clear();
+            trie.children.clear();
+            change.getSource().getPersonList().forEach(this::put);
+            break;
+        default:
+            // the loans and order of persons do not affect any term
+            break;
+        }
+    }
+
+    /**
+     * Returns the persons matching any of {@code words}, best match first.
+     * Persons matching more of the words come first, then those whose matches are closer.
+     */
+    public List<PersonSearchResult> search(List<String> words) {
+        requireNonNull(words);
+        Map<Person, RunningResult> results = new IdentityHashMap<>();
+        for (String word : words) {
+            String query = word.trim().toLowerCase(Locale.ROOT);
+            if (query.isEmpty()) {
+                continue;
+            }
+
+            Map<Person, Match> bestMatches = new IdentityHashMap<>();
+            findTerms(query).forEach((term, distance) -> {
+                for (Person person : personsByTerm.get(term)) {
+                    Match best = bestMatches.get(person);
+                    if (best == null || distance < best.distance) {
+                        bestMatches.put(person, new Match(term, distance));
+                    }
+                }
+            });
+            bestMatches.forEach((person, match) ->
+                    results.computeIfAbsent(person, RunningResult::new).add(match, describe(person, match.term)));
+        }
+
+        List<PersonSearchResult> ranked = new ArrayList<>();
+        for (RunningResult result : results.values()) {
+            ranked.add(new PersonSearchResult(result.person, result.matchedWordCount, result.distance,
+                    result.matches));
+        }
+        ranked.sort(Comparator.comparingInt(PersonSearchResult::getMatchedWordCount).reversed()
+                .thenComparingInt(PersonSearchResult::getDistance)
+                .thenComparing(result -> result.getPerson().getName().fullName));
+        return ranked;
+    }
+
+    /**
+     * Returns the terms {@code query} matches, each with how far it is from the query.
+     */
+    private Map<String, Integer> findTerms(String query) {
+        Map<String, Integer> found = new LinkedHashMap<>();
+        if (personsByTerm.containsKey(query)) {
+            found.put(query, EXACT);
+        }
+
+        List<String> withPrefix = new ArrayList<>();
+        trie.collect(query, withPrefix);
+        withPrefix.forEach(term -> found.putIfAbsent(term, PREFIX));
+
+        if (query.length() >= 3) {
+            for (String term : termsContainingTrigramsOf(query)) {
+                if (term.contains(query)) {
+                    found.putIfAbsent(term, SUBSTRING);
+                }
+            }
+        }
+
+        int maxTypos = maxTypos(query);
+        if (maxTypos > 0) {
+            findSimilarTerms(query, maxTypos).forEach((term, typos) -> found.putIfAbsent(term, FUZZY + typos));
+        }
+        return found;
+    }
+
+    /**
+     * Returns the terms that contain every trigram of {@code query}, which includes every term containing it.
+     */
+    private Set<String> termsContainingTrigramsOf(String query) {
+        List<Set<String>> postings = new ArrayList<>();
+        for (String trigram : trigrams(query)) {
+            Set<String> terms = termsByTrigram.get(trigram);
+            if (terms == null) {
+                return Set.of();
+            }
+            postings.add(terms);
+        }
+        postings.sort(Comparator.comparingInt(Set::size));
+
+        Set<String> common = new HashSet<>(postings.get(0));
+        for (int i = 1; i < postings.size() && !common.isEmpty(); i++) {
+            common.retainAll(postings.get(i));
+        }
+        return common;
+    }
+
+    /**
+     * Returns the terms within {@code maxTypos} edits of {@code query}, each with its number of edits.
+     * Each typo changes at most four of the padded trigrams of a term, so a term with fewer trigrams in common with
+     * the query than that allows is never compared.
+     */
+    private Map<String, Integer> findSimilarTerms(String query, int maxTypos) {
+        List<String> queryTrigrams = trigrams(pad(query));
+        Map<String, Integer> sharedTrigrams = new HashMap<>();
+        for (String trigram : queryTrigrams) {
+            for (String term : termsByTrigram.getOrDefault(trigram, Set.of())) {
+                sharedTrigrams.merge(term, 1, Integer::sum);
+            }
+        }
+
+        int minShared = Math.max(1, queryTrigrams.size() - 4 * maxTypos);
+        Map<String, Integer> similar = new HashMap<>();
+        sharedTrigrams.forEach((term, shared) -> {
+            if (shared < minShared || Math.abs(term.length() - query.length()) > maxTypos) {
+                return;
+            }
+            int typos = editDistance(query, term, maxTypos);
+            if (typos <= maxTypos) {
+                similar.put(term, typos);
+            }
+        });
+        return similar;
+    }
+
+    /**
+     * Returns the number of typos a word of this length may have and still match, so that short words are not
+     * matched by nearly everything.
+     */
+    static int maxTypos(String query) {
+        if (query.length() < 4) {
+            return 0;
+        }
+        return query.length() < 8 ? 1 : 2;
+    }
+
+    /**
+     * Returns the number of typos between {@code first} and {@code second}, or {@code limit + 1} once it is known to
+     * be more than {@code limit}. A typo is a character inserted, deleted or replaced, or two adjacent characters
+     * swapped.
+     */
+    static int editDistance(String first, String second, int limit) {
+        int[] beforePrevious = new int[second.length() + 1];
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+            int rowMinimum = current[0];
+            for (int j = 1; j <= second.length(); j++) {
+                int substitution = previous[j - 1] + (first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+                if (i > 1 && j > 1 && first.charAt(i - 1) == second.charAt(j - 2)
+                        && first.charAt(i - 2) == second.charAt(j - 1)) {
+                    current[j] = Math.min(current[j], beforePrevious[j - 2] + 1);
+                }
+                rowMinimum = Math.min(rowMinimum, current[j]);
+            }
+            if (rowMinimum > limit) {
+                return limit + 1;
+            }
+            int[] reused = beforePrevious;
+            beforePrevious = previous;
+            previous = current;
+            current = reused;
+        }
+        return Math.min(previous[second.length()], limit + 1);
+    }
+
+    private static String pad(String term) {
+        return PADDING + term + PADDING;
+    }
+
+    private static List<String> trigrams(String text) {
+        List<String> trigrams = new ArrayList<>();
+        for (int i = 0; i + 3 <= text.length(); i++) {
+            trigrams.add(text.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+
+    private String describe(Person person, String term) {
+        for (Term personTerm : termsByPerson.get(person)) {
+            if (personTerm.text.equals(term)) {
+                return personTerm.field + " " + term;
+            }
+        }
+        return term;
+    }
+
+    /**
+     * Returns the terms of every detail of {@code person}, without repeats.
+     */
+    private static List<Term> termsOf(Person person) {
+        Map<String, Term> terms = new LinkedHashMap<>();
+        for (String word : person.getName().getLowerCaseWords()) {
+            terms.putIfAbsent(word, new Term("name", word));
+        }
+        terms.putIfAbsent(person.getPhone().value, new Term("phone", person.getPhone().value));
+        String email = person.getEmail().value.toLowerCase(Locale.ROOT);
+        terms.putIfAbsent(email, new Term("email", email));
+        for (String part : email.split("[^\\p{Alnum}]+")) {
+            if (!part.isEmpty()) {
+                terms.putIfAbsent(part, new Term("email", part));
+            }
+        }
+        for (String word : person.getAddress().value.toLowerCase(Locale.ROOT).split("[^\\p{Alnum}]+")) {
+            if (!word.isEmpty()) {
+                terms.putIfAbsent(word, new Term("address", word));
+            }
+        }
+        for (Tag tag : person.getTags()) {
+            String tagName = tag.tagName.toLowerCase(Locale.ROOT);
+            terms.putIfAbsent(tagName, new Term("tag", tagName));
+        }
+        return new ArrayList<>(terms.values());
+    }
+
+    private void put(Person person) {
+        remove(person);
+        List<Term> terms = termsOf(person);
+        termsByPerson.put(person, terms);
+        for (Term term : terms) {
+            Set<Person> persons = personsByTerm.get(term.text);
+            if (persons == null) {
+                persons = Collections.newSetFromMap(new IdentityHashMap<>());
+                personsByTerm.put(term.text, persons);
+                trie.insert(term.text);
+                for (String trigram : trigrams(pad(term.text))) {
+                    termsByTrigram.computeIfAbsent(trigram, unused -> new HashSet<>()).add(term.text);
+                }
+            }
+            persons.add(person);
+        }
+    }
+
+    private void remove(Person person) {
+        List<Term> terms = termsByPerson.remove(person);
+        if (terms == null) {
+            return;
+        }
+
+        for (Term term : terms) {
+            Set<Person> persons = personsByTerm.get(term.text);
+            persons.remove(person);
+            if (!persons.isEmpty()) {
+                continue;
+            }
+            personsByTerm.remove(term.text);
+            trie.remove(term.text, 0);
+            for (String trigram : trigrams(pad(term.text))) {
+                Set<String> termsWithTrigram = termsByTrigram.get(trigram);
+                termsWithTrigram.remove(term.text);
+                if (termsWithTrigram.isEmpty()) {
+                    termsByTrigram.remove(trigram);
+                }
+            }
+        }
+    }
+
+    /**
+     * A lower case word taken from one detail of a person.
+     */
+    private static class Term {
+        private final String field;
+        private final String text;
+
+        Term(String field, String text) {
+            this.field = field;
+            this.text = text;
+        }
+    }
+
+    /**
+     * The term a word matched for one person, and how far the word was from it.
+     */
+    private static class Match {
+        private final String term;
+        private final int distance;
+
+        Match(String term, int distance) {
+            this.term = term;
+            this.distance = distance;
+        }
+    }
+
+    /**
+     * The matches of one person so far, over the words searched for.
+     */
+    private static class RunningResult {
+        private final Person person;
+        private int matchedWordCount = 0;
+        private int distance = 0;
+        private final List<String> matches = new ArrayList<>();
+
+        RunningResult(Person person) {
+            this.person = person;
+        }
+
+        void add(Match match, String description) {
+            matchedWordCount++;
+            distance += match.distance;
+            matches.add(description);
+        }
+    }
+
+    /**
+     * A node of the prefix trie of terms. The path from the root spells the prefix the node stands for.
+     */
+    private static class TrieNode {
+        private final Map<Character, TrieNode> children = new HashMap<>();
+        private String term = null;
+
+        void insert(String text) {
+            TrieNode node = this;
+            for (int i = 0; i < text.length(); i++) {
+                node = node.children.computeIfAbsent(text.charAt(i), unused -> new TrieNode());
+            }
+            node.term = text;
+        }
+
+        /**
+         * Removes {@code text} from below this node, which stands for its first {@code depth} characters.
+         * Returns true if this node is left with nothing below it.
+         */
+        boolean remove(String text, int depth) {
+            if (depth == text.length()) {
+                term = null;
+            } else {
+                TrieNode child = children.get(text.charAt(depth));
+                if (child != null && child.remove(text, depth + 1)) {
+                    children.remove(text.charAt(depth));
+                }
+            }
+            return term == null && children.isEmpty();
+        }
+
+        /**
+         * Adds the terms starting with {@code prefix} to {@code terms}, up to {@link #MAX_PREFIX_TERMS} of them.
+         */
+        void collect(String prefix, List<String> terms) {
+            TrieNode node = this;
+            for (int i = 0; i < prefix.length() && node != null; i++) {
+                node = node.children.get(prefix.charAt(i));
+            }
+            if (node != null) {
+                node.collectBelow(terms);
+            }
+        }
+
+        private void collectBelow(List<String> terms) {
+            if (terms.size() >= MAX_PREFIX_TERMS) {
+                return;
+            }
+            if (term != null) {
+                terms.add(term);
+            }
+            for (TrieNode child : children.values()) {
+                child.collectBelow(terms);
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * A person found by a search, with how closely the person matched the words searched for.
+ * Guarantees: immutable.
+ */
+public class PersonSearchResult {
+
+    private final Person person;
+    private final int matchedWordCount;
+    private final int distance;
+    private final List<String> matches;
+
+    /**
+     * Constructs a {@code PersonSearchResult}.
+     *
+     * @param person           the person found.
+     * @param matchedWordCount number of words searched for that matched some detail of the person.
+     * @param distance         sum over the matched words of how far each was from the detail it matched, where an
+     *                         exact match is 0 and each typo adds to it.
+     * @param matches          descriptions of the details that matched, such as {@code "phone 91234567"}.
+     */
+    public PersonSearchResult(Person person, int matchedWordCount, int distance, List<String> matches) {
+        requireNonNull(person);
+        requireNonNull(matches);
+        this.person = person;
+        this.matchedWordCount = matchedWordCount;
+        this.distance = distance;
+        this.matches = List.copyOf(matches);
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    public int getMatchedWordCount() {
+        return matchedWordCount;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+
+    public List<String> getMatches() {
+        return matches;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonSearchResult)) {
+            return false;
+        }
+
+        PersonSearchResult otherResult = (PersonSearchResult) other;
+        return person.equals(otherResult.person)
+                && matchedWordCount == otherResult.matchedWordCount
+                && distance == otherResult.distance
+                && matches.equals(otherResult.matches);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(person, matchedWordCount, distance, matches);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("person", person.getName())
+                .add("matchedWordCount", matchedWordCount)
+                .add("distance", distance)
+                .add("matches", matches)
+                .toString();
+    }
+}
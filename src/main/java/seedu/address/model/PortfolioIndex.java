@@ -0,0 +1,170 @@
+package seedu.address.model;
+
+import java.time.LocalDate;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import seedu.address.commons.core.EvaluationDate;
+import seedu.address.model.PortfolioSummary.LoanTotals;
+import seedu.address.model.person.Loan;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.SimpleInterestLoan;
+
+/**
+ * Keeps totals over every loan in an {@code AddressBook}, so that a {@link PortfolioSummary} can be read without
+ * going through every person and loan.
+ * <p>
+ * The loans of each person are summed up when that person changes, and the sums of all persons are kept as running
+ * totals. Which loans are overdue depends on the evaluation date, so once the date moves on every person is summed
+ * up again.
+ */
+class PortfolioIndex implements AddressBookChange.Listener {
+
+    private final Map<Person, Contribution> contributions = new IdentityHashMap<>();
+    private final RunningTotals simpleInterestLoans = new RunningTotals();
+    private final RunningTotals compoundInterestLoans = new RunningTotals();
+    private final RunningTotals overdueLoans = new RunningTotals();
+    private LocalDate date = EvaluationDate.today();
+
+    @Override
+    public void onChange(AddressBookChange change) {
+        refreshIfDateChanged();
+
+        switch (change.getType()) {
+        case ADDED:
+        case UPDATED:
+            change.getPerson().ifPresent(this::put);
+            break;
+        case REPLACED:
+            change.getTarget().ifPresent(this::remove);
+            change.getPerson().ifPresent(this::put);
+            break;
+        case REMOVED:
+            change.getTarget().ifPresent(this::remove);
+            break;
+        case RESET:
+            clear();
+            change.getSource().getPersonList().forEach(this::put);
+            break;
+        default:
+            // the order of persons does not affect any total
+            break;
+        }
+    }
+
+    /**
+     * Returns the totals over every loan, as of the current evaluation date.
+     */
+    public PortfolioSummary getSummary() {
+        refreshIfDateChanged();
+        return new PortfolioSummary(simpleInterestLoans.toLoanTotals(), compoundInterestLoans.toLoanTotals(),
+                overdueLoans.toLoanTotals());
+    }
+
+    private void put(Person person) {
+        remove(person);
+        Contribution contribution = new Contribution(person);
+        contributions.put(person, contribution);
+        add(contribution, 1);
+    }
+
+    private void remove(Person person) {
+        Contribution contribution = contributions.remove(person);
+        if (contribution == null) {
+            return;
+        }
+
+        if (contributions.isEmpty()) { // start from exact zeroes again
+            clear();
+        } else {
+            add(contribution, -1);
+        }
+    }
+
+    private void add(Contribution contribution, int sign) {
+        simpleInterestLoans.add(contribution.simpleInterestLoans, sign);
+        compoundInterestLoans.add(contribution.compoundInterestLoans, sign);
+        overdueLoans.add(contribution.overdueLoans, sign);
+    }
+
+    private void clear() {
+        contributions.clear();
+        simpleInterestLoans.clear();
+        compoundInterestLoans.clear();
+        overdueLoans.clear();
+    }
+
+    private void refreshIfDateChanged() {
+        LocalDate today = EvaluationDate.today();
+        if (today.equals(date)) {
+            return;
+        }
+
+        date = today;
+        Person[] persons = contributions.keySet().toArray(new Person[0]);
+        clear();
+        for (Person person : persons) {
+            put(person);
+        }
+    }
+
+    /**
+     * The totals over the loans of one person.
+     */
+    private static class Contribution {
+        private final LoanTotals simpleInterestLoans;
+        private final LoanTotals compoundInterestLoans;
+        private final LoanTotals overdueLoans;
+
+        Contribution(Person person) {
+            RunningTotals simple = new RunningTotals();
+            RunningTotals compound = new RunningTotals();
+            RunningTotals overdue = new RunningTotals();
+            person.getLoanList().stream().forEach(loan -> {
+                RunningTotals totals = loan instanceof SimpleInterestLoan ? simple : compound;
+                totals.add(loan);
+                if (loan.isOverDue() && !loan.isPaid()) {
+                    overdue.add(loan);
+                }
+            });
+            simpleInterestLoans = simple.toLoanTotals();
+            compoundInterestLoans = compound.toLoanTotals();
+            overdueLoans = overdue.toLoanTotals();
+        }
+    }
+
+    /**
+     * Mutable sums that loans and {@code LoanTotals} can be added to and taken out of.
+     */
+    private static class RunningTotals {
+        private int count = 0;
+        private double principal = 0;
+        private double owed = 0;
+        private double paid = 0;
+
+        void add(Loan loan) {
+            count++;
+            principal += loan.getPrincipal();
+            owed += loan.getAmountOwed();
+            paid += loan.getAmtPaid();
+        }
+
+        void add(LoanTotals totals, int sign) {
+            count += sign * totals.getCount();
+            principal += sign * totals.getPrincipal();
+            owed += sign * totals.getOwed();
+            paid += sign * totals.getPaid();
+        }
+
+        void clear() {
+            count = 0;
+            principal = 0;
+            owed = 0;
+            paid = 0;
+        }
+
+        LoanTotals toLoanTotals() {
+            return count == 0 ? LoanTotals.NONE : new LoanTotals(count, principal, owed, paid);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Totals over every loan in an address book, as of one evaluation date.
+ * Guarantees: immutable.
+ */
+public class PortfolioSummary {
+
+    private final LoanTotals allLoans;
+    private final LoanTotals simpleInterestLoans;
+    private final LoanTotals compoundInterestLoans;
+    private final LoanTotals overdueLoans;
+
+    /**
+     * Constructs a {@code PortfolioSummary}.
+     *
+     * @param simpleInterestLoans   totals over the simple interest loans.
+     * @param compoundInterestLoans totals over the compound interest loans.
+     * @param overdueLoans          totals over the loans that are past their due date and not paid off.
+     */
+    public PortfolioSummary(LoanTotals simpleInterestLoans, LoanTotals compoundInterestLoans,
+                            LoanTotals overdueLoans) {
+        requireNonNull(simpleInterestLoans);
+        requireNonNull(compoundInterestLoans);
+        requireNonNull(overdueLoans);
+        this.simpleInterestLoans = simpleInterestLoans;
+        this.compoundInterestLoans = compoundInterestLoans;
+        this.overdueLoans = overdueLoans;
+        this.allLoans = simpleInterestLoans.plus(compoundInterestLoans);
+    }
+
+    public LoanTotals getAllLoans() {
+        return allLoans;
+    }
+
+    public LoanTotals getSimpleInterestLoans() {
+        return simpleInterestLoans;
+    }
+
+    public LoanTotals getCompoundInterestLoans() {
+        return compoundInterestLoans;
+    }
+
+    public LoanTotals getOverdueLoans() {
+        return overdueLoans;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PortfolioSummary)) {
+            return false;
+        }
+
+        PortfolioSummary otherSummary = (PortfolioSummary) other;
+        return simpleInterestLoans.equals(otherSummary.simpleInterestLoans)
+                && compoundInterestLoans.equals(otherSummary.compoundInterestLoans)
+                && overdueLoans.equals(otherSummary.overdueLoans);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(simpleInterestLoans, compoundInterestLoans, overdueLoans);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("simpleInterestLoans", simpleInterestLoans)
+                .add("compoundInterestLoans", compoundInterestLoans)
+                .add("overdueLoans", overdueLoans)
+                .toString();
+    }
+
+    /**
+     * The number of loans in a group, with the sums of their principals, amounts owed and amounts paid.
+     * Guarantees: immutable.
+     */
+    public static class LoanTotals {
+        public static final LoanTotals NONE = new LoanTotals(0, 0, 0, 0);
+
+        private final int count;
+        private final double principal;
+        private final double owed;
+        private final double paid;
+
+        /**
+         * Constructs a {@code LoanTotals}.
+         *
+         * @param count     number of loans.
+         * @param principal sum of the principals of the loans.
+         * @param owed      sum of the amounts owed on the loans, interest included.
+         * @param paid      sum of the amounts paid towards the loans.
+         */
+        public LoanTotals(int count, double principal, double owed, double paid) {
+            this.count = count;
+            this.principal = principal;
+            this.owed = owed;
+            this.paid = paid;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public double getPrincipal() {
+            return principal;
+        }
+
+        public double getOwed() {
+            return owed;
+        }
+
+        public double getPaid() {
+            return paid;
+        }
+
+        /**
+         * Returns the amount still to be paid, which is the amount owed less the amount paid.
+         */
+        public double getOutstanding() {
+            return owed - paid;
+        }
+
+        /**
+         * Returns the totals over the loans of both this group and {@code other}.
+         */
+        public LoanTotals plus(LoanTotals other) {
+            return new LoanTotals(count + other.count, principal + other.principal, owed + other.owed,
+                    paid + other.paid);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof LoanTotals)) {
+                return false;
+            }
+
+            LoanTotals otherTotals = (LoanTotals) other;
+            return count == otherTotals.count
+                    && Double.compare(principal, otherTotals.principal) == 0
+                    && Double.compare(owed, otherTotals.owed) == 0
+                    && Double.compare(paid, otherTotals.paid) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(count, principal, owed, paid);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("count", count)
+                    .add("principal", principal)
+                    .add("owed", owed)
+                    .add("paid", paid)
+                    .toString();
+        }
+    }
+}
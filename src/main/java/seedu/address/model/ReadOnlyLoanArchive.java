@@ -0,0 +1,61 @@
+package seedu.address.model;
+
+import java.util.List;
+
+import seedu.address.model.person.Loan;
+import seedu.address.model.person.Name;
+
+/**
+ * Unmodifiable view of the loans that have been paid off, kept apart from the address book by the name of the
+ * person who paid them.
+ */
+public interface ReadOnlyLoanArchive {
+
+    /**
+     * An archive without any loans, used until the archive is read from storage.
+     */
+    ReadOnlyLoanArchive EMPTY = new ReadOnlyLoanArchive() {
+        @Override
+        public int getArchivedLoanCount(Name name) {
+            return 0;
+        }
+
+        @Override
+        public List<Loan> getArchivedLoans(Name name, int fromIndex, int maxCount) {
+            return List.of();
+        }
+
+        @Override
+        public int getRetiredLoanCount(Name name) {
+            return 0;
+        }
+
+        @Override
+        public List<Loan> getRetiredLoans(Name name, int fromIndex, int maxCount) {
+            return List.of();
+        }
+    };
+
+    /**
+     * Returns the number of loans paid off by the person named {@code name}.
+     */
+    int getArchivedLoanCount(Name name);
+
+    /**
+     * Returns at most {@code maxCount} of the loans paid off by the person named {@code name}, starting from the
+     * one at {@code fromIndex} in the order they were paid off.
+     */
+    List<Loan> getArchivedLoans(Name name, int fromIndex, int maxCount);
+
+    /**
+     * Returns the number of loans paid off by the deleted persons who were named {@code name}, which are not
+     * counted as archived under the name any more.
+     */
+    int getRetiredLoanCount(Name name);
+
+    /**
+     * Returns at most {@code maxCount} of the loans paid off by the deleted persons who were named {@code name},
+     * starting from the one at {@code fromIndex} in the order they were retired.
+     */
+    List<Loan> getRetiredLoans(Name name, int fromIndex, int maxCount);
+}
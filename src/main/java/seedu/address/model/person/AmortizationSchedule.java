@@ -0,0 +1,102 @@
+package seedu.address.model.person;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Represents the balance a loan is expected to have after each month, if every instalment is paid on time.
+ * <p>
+ * Each month the balance grows by {@code growthFactor} and then one instalment is paid off. Months past the end of
+ * the term are overdue, and compound the balance once more on top of that. Balances are found with the closed form
+ * of this recurrence, so looking one up takes constant time however many months have passed.
+ */
+public class AmortizationSchedule {
+
+    private final float principal;
+    private final float growthFactor;
+    private final float instalment;
+    private final int termMonths;
+
+    /**
+     * Constructs an {@code AmortizationSchedule}.
+     *
+     * @param principal    balance at month 0.
+     * @param growthFactor factor the balance is multiplied by every month, at least 1.
+     * @param instalment   amount paid off every month.
+     * @param termMonths   number of months in the loan term.
+     */
+    public AmortizationSchedule(float principal, float growthFactor, float instalment, int termMonths) {
+        this.principal = principal;
+        this.growthFactor = growthFactor;
+        this.instalment = instalment;
+        this.termMonths = termMonths;
+    }
+
+    /**
+     * Returns the expected balance after {@code months} months of instalments.
+     * Every month up to {@code months} has an instalment paid, and months past the term then grow the balance again.
+     */
+    public float getExpectedBalance(int months) {
+        if (months <= 0) {
+            return principal;
+        }
+
+        double balance = getBalanceAfterInstalments(months);
+        if (months > termMonths && balance != 0) {
+            balance *= Math.pow(growthFactor, months - termMonths);
+        }
+        return (float) balance;
+    }
+
+    /**
+     * Solves b(m) = b(m - 1) * g - I with b(0) = P, which gives P - I * m when g is 1,
+     * and (P - I / (g - 1)) * g^m + I / (g - 1) otherwise.
+     */
+    private double getBalanceAfterInstalments(int months) {
+        double growth = growthFactor;
+        if (growth == 1) {
+            return (double) principal - (double) instalment * months;
+        }
+
+        double steadyBalance = instalment / (growth - 1);
+        double offset = principal - steadyBalance;
+        if (offset == 0) { // the instalment exactly covers the growth, so the balance never moves
+            return principal;
+        }
+        return offset * Math.pow(growth, months) + steadyBalance;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AmortizationSchedule)) {
+            return false;
+        }
+
+        AmortizationSchedule otherSchedule = (AmortizationSchedule) other;
+        return Float.compare(principal, otherSchedule.principal) == 0
+                && Float.compare(growthFactor, otherSchedule.growthFactor) == 0
+                && Float.compare(instalment, otherSchedule.instalment) == 0
+                && termMonths == otherSchedule.termMonths;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(principal, growthFactor, instalment, termMonths);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("principal", principal)
+                .add("growthFactor", growthFactor)
+                .add("instalment", instalment)
+                .add("termMonths", termMonths)
+                .toString();
+    }
+}
@@ -4,6 +4,7 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.time.LocalDate;
 
+import seedu.address.commons.core.EvaluationDate;
 import seedu.address.commons.exceptions.IllegalValueException;
 
 /**
@@ -43,6 +44,17 @@ public class CompoundInterestLoan extends Loan {
         this.setAmountOwed(this.getLoanValue());
     }
 
+    /**
+     * Constructs an {@code a CompoundInterestLoan} from values already parsed, such as those read from storage.
+     *
+     * @see Loan#Loan(float, float, float, LocalDate, LocalDate, LocalDate, boolean)
+     */
+    public CompoundInterestLoan(float principal, float amtPaid, float interest, LocalDate dueDate,
+                                LocalDate dateLastPaid, LocalDate dateCreated, boolean isPaid) {
+        super(principal, amtPaid, interest, dueDate, dateLastPaid, dateCreated, isPaid);
+        this.setAmountOwed(this.getLoanValue());
+    }
+
     /**
      * Calculates the monthly interest for the loan.
      */
@@ -63,7 +75,7 @@ public class CompoundInterestLoan extends Loan {
         }
 
         this.incrementAmtPaid(payment);
-        this.setDateLastPaid(LocalDate.now());
+        this.setDateLastPaid(EvaluationDate.today());
 
         if (getRemainingOwed() == 0.0) {
             this.setIsPaid(true);
@@ -75,34 +87,32 @@ public class CompoundInterestLoan extends Loan {
      * @return The payment difference amount.
      */
     @Override
-    public float getPaymentDifference() {
-        float balance = this.getPrincipal();
-        float monthlyRate = this.getMonthlyInterest();
+    protected float computePaymentDifference() {
         int months = this.getMonthsSinceLoan();
 
-        // Calculate what balance should be with perfect payments
-        for (int i = 0; i < months; i++) {
-            balance = balance * (1 + monthlyRate) - this.getMonthlyInstalmentAmount();
-        }
-
-        // If loan term exceeded, continue compounding with just interest
-        if (months > this.getLoanLengthMonths()) {
-            int extraMonths = months - this.getLoanLengthMonths();
-            for (int i = 0; i < extraMonths; i++) {
-                balance = balance * (1 + monthlyRate);
-            }
-        }
+        // Calculate what balance should be with perfect payments, continuing to compound past the loan term
+        float balance = this.getAmortizationSchedule().getExpectedBalance(months);
 
         // Compare with actual payments
         float expectedPaid = this.getPrincipal() - Math.max(0, balance);
         return expectedPaid - this.getAmtPaid();
     }
 
+    /**
+     * Returns the schedule of balances expected with perfect payments.
+     */
+    public AmortizationSchedule getAmortizationSchedule() {
+        float growthFactor = 1 + this.getMonthlyInterest();
+        return new AmortizationSchedule(this.getPrincipal(), growthFactor, this.getMonthlyInstalmentAmount(),
+                this.getLoanLengthMonths());
+    }
+
     /**
      * Calculates the total value of the loan including interest.
      * @return The total loan value.
      */
-    public float getLoanValue() {
+    @Override
+    protected float computeLoanValue() {
         int loanLength = this.getLoanLengthMonths();
         float monthlyRate = (this.getInterest() / 100) / 12;
 
@@ -129,7 +139,7 @@ public class CompoundInterestLoan extends Loan {
      * @return The monthly installment amount.
      */
     @Override
-    public float getMonthlyInstalmentAmount() {
+    protected float computeMonthlyInstalmentAmount() {
         int months = Math.max(Math.abs(this.getMonthsUntilDueDate()), 1); // Prevent division by 0
         return getRemainingOwed() / months;
     }
@@ -13,6 +13,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
 
+import seedu.address.commons.core.EvaluationDate;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.ToStringBuilder;
 
@@ -56,6 +57,9 @@ public abstract class Loan {
     private final LocalDate dateCreated;
     private Boolean isPaid = false;
 
+    // derived values for the evaluation date they were worked out for, cleared whenever a field they use changes
+    private volatile Metrics metrics = null;
+
     /**
      * Constructs an {@code a loan}.
      *
@@ -81,7 +85,7 @@ public abstract class Loan {
         checkArgument(this.principal > 0, AMOUNT_MESSAGE_CONSTRAINTS);
 
         // check due date string
-        LocalDate currentDate = LocalDate.now();
+        LocalDate currentDate = EvaluationDate.today();
         LocalDate date = Loan.toValidLocalDate(dueDate);
 
         checkArgument(Loan.isValidDueDate(date, currentDate), DATE_MESSAGE_CONSTRAINTS);
@@ -104,57 +108,67 @@ public abstract class Loan {
     */
     public Loan(String strPrincipal, String strAmtPaid, String strInterest, String strDueDate, String strDateLastPaid,
                 String strDateCreated, String strIsPaid) {
-        // check interest is valid float
-        checkArgument(strInterest.matches(VALIDATION_REGEX));
-        this.interest = Float.parseFloat(strInterest);
-
-        // check amount is valid float
-        checkArgument(strPrincipal.matches(VALIDATION_REGEX));
-        this.principal = Float.parseFloat(strPrincipal);
-
-        // check strAmtPaid is valid float
-        checkArgument(strAmtPaid.matches(VALIDATION_REGEX));
-        this.amtPaid = Float.parseFloat(strAmtPaid);
-
-        // check interest
-        checkArgument(this.interest >= 0);
-
-        // check amount
-        checkArgument(this.principal > 0);
-
-        // check amtPaid
-        checkArgument(this.amtPaid >= 0);
-
-        LocalDate currentDate = LocalDate.now();
+        this(toStoredAmount(strPrincipal), toStoredAmount(strAmtPaid), toStoredAmount(strInterest),
+                Loan.toValidLocalDate(strDueDate), toStoredDateLastPaid(strDateLastPaid),
+                Loan.toValidLocalDate(strDateCreated), toStoredIsPaid(strIsPaid));
+    }
 
-        // check date created
-        this.dateCreated = Loan.toValidLocalDate(strDateCreated);
+    /**
+     * Constructs an {@code a loan} from values already parsed, such as those read from storage.
+     *
+     * @param principal cost of loan, > 0
+     * @param amtPaid amount paid of loan, >= 0
+     * @param interest % of yearly interest, >= 0, 1 represents 1% interest
+     * @param dueDate date which loan should be completely paid off, after the date created
+     * @param dateLastPaid date which loan was last paid, not before the date created, or null if never paid
+     * @param dateCreated date which loan was created, not after the current date
+     * @param isPaid if loan is paid
+     */
+    protected Loan(float principal, float amtPaid, float interest, LocalDate dueDate, LocalDate dateLastPaid,
+                   LocalDate dateCreated, boolean isPaid) {
+        // check interest, amount and amtPaid, which rejects NaN as well
+        checkArgument(interest >= 0 && Float.isFinite(interest));
+        checkArgument(principal > 0 && Float.isFinite(principal));
+        checkArgument(amtPaid >= 0 && Float.isFinite(amtPaid));
+        this.interest = interest;
+        this.principal = principal;
+        this.amtPaid = amtPaid;
+
+        LocalDate currentDate = EvaluationDate.today();
 
         // date created cannot be null and cannot be in the future
-        checkArgument(this.dateCreated != null
-            && (this.dateCreated.isBefore(currentDate) || this.dateCreated.isEqual(currentDate)));
+        checkArgument(dateCreated != null
+            && (dateCreated.isBefore(currentDate) || dateCreated.isEqual(currentDate)));
+        this.dateCreated = dateCreated;
 
-        // check due date
-        this.dueDate = Loan.toValidLocalDate(strDueDate);
         // due date cannot be null and cannot be before date created
-        checkArgument(this.dueDate != null && this.dueDate.isAfter(dateCreated));
+        checkArgument(dueDate != null && dueDate.isAfter(dateCreated));
+        this.dueDate = dueDate;
 
+        // date last paid is unavailable if the loan was never paid, and may be the day the loan was created
+        checkArgument(dateLastPaid == null || !dateLastPaid.isBefore(dateCreated));
+        this.dateLastPaid = dateLastPaid;
 
-        // check date last paid
+        this.isPaid = isPaid;
+    }
+
+    private static float toStoredAmount(String strAmount) {
+        checkArgument(strAmount.matches(VALIDATION_REGEX));
+        return Float.parseFloat(strAmount);
+    }
+
+    private static LocalDate toStoredDateLastPaid(String strDateLastPaid) {
         if (strDateLastPaid.equals(UNAVAILABLE_DATE)) { // date is unavailable
-            this.dateLastPaid = null;
-        } else {
-            this.dateLastPaid = Loan.toValidLocalDate(strDateLastPaid);
-            checkArgument(this.dateLastPaid != null && dateLastPaid.isAfter(dateCreated));
+            return null;
         }
+        LocalDate dateLastPaid = Loan.toValidLocalDate(strDateLastPaid);
+        checkArgument(dateLastPaid != null);
+        return dateLastPaid;
+    }
 
-        // check strIsPaid
+    private static boolean toStoredIsPaid(String strIsPaid) {
         checkArgument(strIsPaid.equals("1") || strIsPaid.equals("0"));
-        if (strIsPaid.equals("1")) {
-            this.isPaid = true;
-        } else {
-            this.isPaid = false;
-        }
+        return strIsPaid.equals("1");
     }
 
     /**
@@ -215,7 +229,7 @@ public abstract class Loan {
         }
 
         this.incrementAmtPaid(totalAmount);
-        this.setDateLastPaid(LocalDate.now());
+        this.setDateLastPaid(EvaluationDate.today());
 
         if (getRemainingOwed() == 0.0) {
             this.setIsPaid(true);
@@ -226,15 +240,80 @@ public abstract class Loan {
      * Compares amount paid with amount owed in preceding months.
      * @return a positive number if client paid less than owed in previous months, negative if client paid more.
      */
-    public abstract float getPaymentDifference();
+    public float getPaymentDifference() {
+        Metrics current = getMetrics();
+        float paymentDifference = current.paymentDifference;
+        if (Float.isNaN(paymentDifference)) {
+            paymentDifference = computePaymentDifference();
+            current.paymentDifference = paymentDifference;
+        }
+        return paymentDifference;
+    }
+
+    /**
+     * Returns the total value of the loan including interest.
+     */
+    public float getLoanValue() {
+        Metrics current = getMetrics();
+        float loanValue = current.loanValue;
+        if (Float.isNaN(loanValue)) {
+            loanValue = computeLoanValue();
+            current.loanValue = loanValue;
+        }
+        return loanValue;
+    }
+
+    /**
+     * Returns the amount to pay every month to clear the loan by its due date.
+     */
+    public float getMonthlyInstalmentAmount() {
+        Metrics current = getMetrics();
+        float monthlyInstalmentAmount = current.monthlyInstalmentAmount;
+        if (Float.isNaN(monthlyInstalmentAmount)) {
+            monthlyInstalmentAmount = computeMonthlyInstalmentAmount();
+            current.monthlyInstalmentAmount = monthlyInstalmentAmount;
+        }
+        return monthlyInstalmentAmount;
+    }
+
+    /**
+     * Works out the payment difference returned by {@link #getPaymentDifference()}.
+     */
+    protected abstract float computePaymentDifference();
+
+    /**
+     * Works out the loan value returned by {@link #getLoanValue()}.
+     */
+    protected abstract float computeLoanValue();
+
+    /**
+     * Works out the instalment returned by {@link #getMonthlyInstalmentAmount()}.
+     */
+    protected abstract float computeMonthlyInstalmentAmount();
+
+    /**
+     * Returns the derived values of this loan for the current evaluation date,
+     * starting afresh if the date has moved on or a field has changed since they were last worked out.
+     */
+    private Metrics getMetrics() {
+        LocalDate today = EvaluationDate.today();
+        Metrics current = metrics;
+        if (current == null || !current.date.equals(today)) {
+            current = new Metrics(today);
+            metrics = current;
+        }
+        return current;
+    }
 
-    public abstract float getLoanValue();
+    private void invalidateMetrics() {
+        metrics = null;
+    }
 
     /**
      * Returns whether loan is past due date.
      */
     public boolean isOverDue() {
-        return LocalDate.now().isAfter(this.dueDate);
+        return EvaluationDate.today().isAfter(this.dueDate);
     }
 
     /**
@@ -274,7 +353,7 @@ public abstract class Loan {
         }
 
         // get the current date
-        LocalDate currentDate = LocalDate.now();
+        LocalDate currentDate = EvaluationDate.today();
 
         // get the due day of the current month
         LocalDate dueDayOfMonth = currentDate.withDayOfMonth(Loan.MONTHLY_DUE_DATE);
@@ -292,7 +371,7 @@ public abstract class Loan {
         }
 
         // Get the current date
-        LocalDate currentDate = LocalDate.now();
+        LocalDate currentDate = EvaluationDate.today();
 
         // get the due day of the current month
         LocalDate dueDayOfMonth = currentDate.withDayOfMonth(Loan.MONTHLY_DUE_DATE);
@@ -307,9 +386,16 @@ public abstract class Loan {
      * Gets number of months since loan, not rounded up.
      */
     public int getMonthsSinceLoan() {
-        // Get the current date
-        LocalDate currentDate = LocalDate.now();
+        Metrics current = getMetrics();
+        int monthsSinceLoan = current.monthsSinceLoan;
+        if (monthsSinceLoan == Metrics.UNKNOWN_MONTHS) {
+            monthsSinceLoan = computeMonthsSinceLoan(current.date);
+            current.monthsSinceLoan = monthsSinceLoan;
+        }
+        return monthsSinceLoan;
+    }
 
+    private int computeMonthsSinceLoan(LocalDate currentDate) {
         // get the due day of the current month
         LocalDate dueDayOfMonth = currentDate.withDayOfMonth(Loan.MONTHLY_DUE_DATE);
 
@@ -324,8 +410,16 @@ public abstract class Loan {
      * Assumes monthly due date is on the 1st.
      */
     public int getMonthsUntilDueDate() {
-        LocalDate currentDate = LocalDate.now();
+        Metrics current = getMetrics();
+        int monthsUntilDueDate = current.monthsUntilDueDate;
+        if (monthsUntilDueDate == Metrics.UNKNOWN_MONTHS) {
+            monthsUntilDueDate = computeMonthsUntilDueDate(current.date);
+            current.monthsUntilDueDate = monthsUntilDueDate;
+        }
+        return monthsUntilDueDate;
+    }
 
+    private int computeMonthsUntilDueDate(LocalDate currentDate) {
         LocalDate dueDayOfMonth = currentDate.withDayOfMonth(Loan.MONTHLY_DUE_DATE);
 
         // We don't want a negative value for this
@@ -367,20 +461,6 @@ public abstract class Loan {
                 .toString();
     }
 
-    /**
-     * Converts a loan to a save string for storage
-     */
-    public String toSaveString() { // creates a string where fields are seperated by '/'
-        return String.format("%.2f", principal) + '/'
-                + String.format("%.2f", amtPaid) + '/'
-                + String.format("%.2f", interest) + '/'
-                + Loan.dateToString(dueDate) + '/'
-                + Loan.dateToString(dateLastPaid) + '/'
-                + Loan.dateToString(dateCreated) + '/'
-                + this.getName() + '/'
-                + (this.isPaid ? "1" : "0");
-    }
-
     /**
      * Converts a save string to a loan
     */
@@ -461,14 +541,17 @@ public abstract class Loan {
 
     public void incrementAmtPaid(float pay) {
         this.amtPaid += pay;
+        invalidateMetrics();
     }
 
     protected void setDateLastPaid(LocalDate dateLastPaid) {
         this.dateLastPaid = dateLastPaid;
+        invalidateMetrics();
     }
 
     public void setIsPaid(boolean isPaid) {
         this.isPaid = isPaid;
+        invalidateMetrics();
     }
 
     public float getAmountOwed() {
@@ -481,21 +564,41 @@ public abstract class Loan {
 
     protected void setAmountOwed(float amountOwed) {
         this.amountOwed = amountOwed;
+        invalidateMetrics();
     }
 
     // Test method
     protected void setDueDate(String dueDate) {
         this.dueDate = LocalDate.parse(dueDate);
+        invalidateMetrics();
     };
 
     /**
      * Updates the isPaid status
     */
     public void updateIsPaid() {
-        this.isPaid = getRemainingOwed() == 0f;
+        setIsPaid(getRemainingOwed() == 0f);
     }
 
     public abstract String getName();
 
-    public abstract float getMonthlyInstalmentAmount();
+    /**
+     * Derived values of a loan, as of one evaluation date.
+     * Each value is worked out the first time it is asked for. Threads that race to fill in the same value
+     * each work out an equal one, so the fields need no locking.
+     */
+    private static class Metrics {
+        private static final int UNKNOWN_MONTHS = Integer.MIN_VALUE;
+
+        private final LocalDate date;
+        private float loanValue = Float.NaN;
+        private float paymentDifference = Float.NaN;
+        private float monthlyInstalmentAmount = Float.NaN;
+        private int monthsSinceLoan = UNKNOWN_MONTHS;
+        private int monthsUntilDueDate = UNKNOWN_MONTHS;
+
+        private Metrics(LocalDate date) {
+            this.date = date;
+        }
+    }
 }
@@ -1,17 +1,26 @@
 package seedu.address.model.person;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import seedu.address.commons.core.EvaluationDate;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.logic.Messages;
 
 /**
  * Represents a loan list containing the loans a person has.
+ * <p>
+ * Totals over the loans are kept up to date as loans are added, paid and removed, so reading them does not walk
+ * the list. The most overdue loan depends on the evaluation date, so it is remembered for one date at a time.
  */
 public class LoanList {
     public static final String EMPTY_STRING = "EMPTY";
@@ -23,6 +32,17 @@ public class LoanList {
     private final ObservableList<Loan> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(filteredList);
 
+    // running totals over internalList, in double to keep rounding from building up as loans come and go
+    private double totalOwed = 0;
+    private double totalPaid = 0;
+    private int paidCount = 0;
+    private final Map<String, Integer> countByType = new HashMap<>();
+
+    // most overdue months as of mostOverdueDate, which is null if it has to be worked out again.
+    // The months are always written before the date, so a thread that sees the date also sees its months.
+    private float mostOverdueMonths = Float.NEGATIVE_INFINITY;
+    private volatile LocalDate mostOverdueDate = null;
+
     /**
      * Initializes a LoanList.
      */
@@ -33,17 +53,42 @@ public class LoanList {
      */
     public void add(Loan loan) {
         internalList.add(loan);
+        include(loan);
     }
 
     /**
      * filters loanlist
+     *
+     * @return true if the loans shown were changed by the filter.
      */
-    public void filter(LoanPredicate pred) {
+    public boolean filter(LoanPredicate pred) {
         if (pred == null) {
-            filteredList.setPredicate(null);
-        } else {
-            filteredList.setPredicate(loan -> pred.test(loan));
+            return filterBy(null);
+        }
+        return filterBy(loan -> pred.test(loan));
+    }
+
+    /**
+     * Shows only the loans that pass {@code predicate}, or every loan if it is null.
+     *
+     * @return true if the loans shown were changed by the filter.
+     */
+    public boolean filterBy(Predicate<Loan> predicate) {
+        List<Loan> shownBefore = new ArrayList<>(filteredList);
+        filteredList.setPredicate(predicate);
+        return !isSameLoans(shownBefore, filteredList);
+    }
+
+    private static boolean isSameLoans(List<Loan> first, List<Loan> second) {
+        if (first.size() != second.size()) {
+            return false;
+        }
+        for (int i = 0; i < first.size(); i++) {
+            if (first.get(i) != second.get(i)) {
+                return false;
+            }
         }
+        return true;
     }
 
     /**
@@ -58,31 +103,83 @@ public class LoanList {
      * Removes a loan from loan list.
      */
     public void remove(Loan loan) {
-        internalList.remove(loan);
+        if (internalList.remove(loan)) {
+            exclude(loan);
+        }
     }
 
     public void remove(int zeroBasedIndex) {
-        internalList.remove(zeroBasedIndex);
+        exclude(internalList.remove(zeroBasedIndex));
     }
 
     /**
      * Pays a loan and removes it if it is fully paid.
+     *
+     * @return the loan, if the payment paid it off and so removed it.
      */
-    public void payLoan(int index, float amount) throws IllegalValueException {
+    public Optional<Loan> payLoan(int index, float amount) throws IllegalValueException {
         Loan loanToPay = internalList.get(index);
+        float amtPaidBefore = loanToPay.getAmtPaid();
+        boolean wasPaid = loanToPay.isPaid();
         loanToPay.pay(amount);
 
+        totalPaid += loanToPay.getAmtPaid() - amtPaidBefore;
+        paidCount += (loanToPay.isPaid() ? 1 : 0) - (wasPaid ? 1 : 0);
+        mostOverdueDate = null; // the payment may have brought the most overdue loan up to date
+
         if (loanToPay.isPaid()) {
-            internalList.remove(index); // Automatically notifies ListView
+            remove(index); // Automatically notifies ListView
+            return Optional.of(loanToPay);
+        }
+        internalList.set(index, loanToPay); // Replaces with same object (but triggers update)
+        return Optional.empty();
+    }
+
+    /**
+     * Adds {@code loan}, which has just joined the list, to the running totals.
+     */
+    private void include(Loan loan) {
+        totalOwed += loan.getAmountOwed();
+        totalPaid += loan.getAmtPaid();
+        paidCount += loan.isPaid() ? 1 : 0;
+        countByType.merge(loan.getName(), 1, Integer::sum);
+
+        if (mostOverdueDate != null && mostOverdueDate.equals(EvaluationDate.today())) {
+            mostOverdueMonths = Math.max(mostOverdueMonths, loan.getMissedInstalmentsMonthsPrecise());
         } else {
-            internalList.set(index, loanToPay); // Replaces with same object (but triggers update)
+            mostOverdueDate = null;
         }
     }
 
+    /**
+     * Takes {@code loan}, which has just left the list, out of the running totals.
+     */
+    private void exclude(Loan loan) {
+        if (internalList.isEmpty()) { // start from exact zeroes again
+            totalOwed = 0;
+            totalPaid = 0;
+            paidCount = 0;
+            countByType.clear();
+            mostOverdueDate = null;
+            return;
+        }
+
+        totalOwed -= loan.getAmountOwed();
+        totalPaid -= loan.getAmtPaid();
+        paidCount -= loan.isPaid() ? 1 : 0;
+        countByType.computeIfPresent(loan.getName(), (type, count) -> count == 1 ? null : count - 1);
+        mostOverdueDate = null; // the loan may have been the most overdue one
+    }
+
     /**
      * Returns most overdue loan amount in float(months)
     */
     public float getMostOverdueMonths() {
+        LocalDate today = EvaluationDate.today();
+        if (today.equals(mostOverdueDate)) {
+            return mostOverdueMonths;
+        }
+
         float overdue = Float.NEGATIVE_INFINITY;
 
         for (Loan loan : internalList) {
@@ -91,6 +188,8 @@ public class LoanList {
                 overdue = loanOverdue;
             }
         }
+        mostOverdueMonths = overdue;
+        mostOverdueDate = today;
         return overdue;
     }
 
@@ -98,12 +197,35 @@ public class LoanList {
      * Returns total value of all loans
     */
     public float getTotalLoanOwed() {
-        float owed = 0;
+        return (float) totalOwed;
+    }
 
-        for (Loan loan : internalList) {
-            owed += loan.getAmountOwed();
-        }
-        return owed;
+    /**
+     * Returns total amount paid towards all loans.
+     */
+    public float getTotalAmountPaid() {
+        return (float) totalPaid;
+    }
+
+    /**
+     * Returns the number of loans of type {@code loanType}, as given by {@link Loan#getName()}.
+     */
+    public int getLoanCount(String loanType) {
+        return countByType.getOrDefault(loanType, 0);
+    }
+
+    /**
+     * Returns the number of loans that are fully paid.
+     */
+    public int getPaidLoanCount() {
+        return paidCount;
+    }
+
+    /**
+     * Returns the number of loans that are not fully paid.
+     */
+    public int getUnpaidLoanCount() {
+        return internalList.size() - paidCount;
     }
 
     /**
@@ -123,27 +245,6 @@ public class LoanList {
         return filteredLoans;
     }
 
-    /**
-     * creates a loan list string where each loan string is sepearated by ','
-    */
-    public String toSaveString() {
-        if (this.internalList.isEmpty()) {
-            return EMPTY_STRING;
-        }
-
-        StringBuilder loanList = new StringBuilder();
-        for (Loan loan : this.internalList) {
-            loanList.append(loan.toSaveString()).append(',');
-        }
-
-        // remove the trailing comma
-        if (!loanList.isEmpty()) {
-            loanList.deleteCharAt(loanList.length() - 1);
-        }
-
-        return loanList.toString();
-    }
-
     // might not be needed
     public static boolean isValidLoanListString(String loanListStr) {
         return loanListStr != null;
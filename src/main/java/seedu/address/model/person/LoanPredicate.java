@@ -1,11 +1,17 @@
 package seedu.address.model.person;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
 
 /**
  * Tests that a {@code Loan}'s parameter matches any of the conditions given.
+ * <p>
+ * Predicates combined with {@link #and} keep the list of their conditions, so that the conditions can be looked at
+ * one by one, for example to pick an index that narrows down the loans to test.
  */
 public class LoanPredicate implements Predicate<Loan> {
     private final LoanParameter parameter;
@@ -13,14 +19,17 @@ public class LoanPredicate implements Predicate<Loan> {
     private final Optional<Float> value;
     private final Optional<LocalDate> date;
     private final Optional<Character> operator;
+    private final List<LoanPredicate> conditions;
 
     /**
      * Constructs a {@code LoanPredicate} with the specified parameters.
      *
      * @param parameter The type of loan parameter to filter by.
      * @param index An optional index for filtering by a specific loan.
-     * @param value An optional float value used for amount-based filtering.
-     * @param date An optional {@code LocalDate} value used for due date-based filtering.
+     * @param value An optional float value used for amount-based filtering, or the number of days for
+     *              due-within filtering.
+     * @param date An optional {@code LocalDate} value used for due date-based filtering, or the first day of the
+     *             range for due-within filtering.
      * @param operator An optional character used as a comparison operator ('<', '>', 's', 'c', 'y', or 'n')
      *                 depending on the parameter type.
      */
@@ -34,13 +43,29 @@ public class LoanPredicate implements Predicate<Loan> {
         this.value = value;
         this.date = date;
         this.operator = operator;
+        this.conditions = List.of(this);
+    }
+
+    /**
+     * Constructs a {@code LoanPredicate} that passes the loans both {@code first} and {@code second} pass.
+     * It takes the parameter of {@code first}, so that it compares and prints the same way.
+     */
+    private LoanPredicate(LoanPredicate first, LoanPredicate second) {
+        this.parameter = first.parameter;
+        this.index = first.index;
+        this.value = first.value;
+        this.date = first.date;
+        this.operator = first.operator;
+        List<LoanPredicate> allConditions = new ArrayList<>(first.conditions);
+        allConditions.addAll(second.conditions);
+        this.conditions = Collections.unmodifiableList(allConditions);
     }
 
     /**
      * Represents the different parameters that can be used to filter loans.
      */
     public enum LoanParameter {
-        AMOUNT, DUE_DATE, LOAN_TYPE, IS_PAID, INVALID;
+        AMOUNT, DUE_DATE, DUE_IN, LOAN_TYPE, IS_PAID, INVALID;
 
         /**
          * Converts a string representation of a loan parameter into a {@code LoanParameter} enum.
@@ -54,6 +79,8 @@ public class LoanPredicate implements Predicate<Loan> {
                 return AMOUNT;
             case "duedate":
                 return DUE_DATE;
+            case "duein":
+                return DUE_IN;
             case "loantype":
                 return LOAN_TYPE;
             case "ispaid":
@@ -70,22 +97,121 @@ public class LoanPredicate implements Predicate<Loan> {
      * @return
      */
     public LoanPredicate and(LoanPredicate other) {
-        return new LoanPredicate(
-            this.parameter,
-            this.index,
-            this.value,
-            this.date,
-            this.operator
-        ) {
-            @Override
-            public boolean test(Loan loan) {
-                return LoanPredicate.this.test(loan) && other.test(loan);
+        return new LoanPredicate(this, other);
+    }
+
+    /**
+     * Returns the single conditions this predicate is made of, in the order they were combined.
+     */
+    public List<LoanPredicate> getConditions() {
+        return conditions;
+    }
+
+    public LoanParameter getParameter() {
+        return parameter;
+    }
+
+    public Optional<Character> getOperator() {
+        return operator;
+    }
+
+    public Optional<Float> getValue() {
+        return value;
+    }
+
+    /**
+     * Returns the earliest due date a loan can have and still pass this predicate, if there is one.
+     */
+    public Optional<LocalDate> getEarliestDueDate() {
+        Optional<LocalDate> earliest = Optional.empty();
+        for (LoanPredicate condition : conditions) {
+            if (condition.parameter == LoanParameter.DUE_DATE && condition.operator.get() == '>') {
+                earliest = later(earliest, condition.date);
+            } else if (condition.parameter == LoanParameter.DUE_IN) {
+                earliest = later(earliest, condition.date);
             }
-        };
+        }
+        return earliest;
+    }
+
+    /**
+     * Returns the latest due date a loan can have and still pass this predicate, if there is one.
+     */
+    public Optional<LocalDate> getLatestDueDate() {
+        Optional<LocalDate> latest = Optional.empty();
+        for (LoanPredicate condition : conditions) {
+            if (condition.parameter == LoanParameter.DUE_DATE && condition.operator.get() == '<') {
+                latest = earlier(latest, condition.date.map(dueDate -> dueDate.minusDays(1)));
+            } else if (condition.parameter == LoanParameter.DUE_IN) {
+                latest = earlier(latest, condition.date.map(from -> from.plusDays(condition.value.get().longValue())));
+            }
+        }
+        return latest;
+    }
+
+    /**
+     * Returns the smallest remaining amount owed a loan can have and still pass this predicate, if there is one.
+     * Loans owing exactly this amount pass.
+     */
+    public Optional<Float> getMinimumRemainingOwed() {
+        Optional<Float> minimum = Optional.empty();
+        for (LoanPredicate condition : conditions) {
+            if (condition.parameter == LoanParameter.AMOUNT && condition.operator.get() == '>') {
+                minimum = minimum.isEmpty() || condition.value.get() > minimum.get() ? condition.value : minimum;
+            }
+        }
+        return minimum;
+    }
+
+    /**
+     * Returns the remaining amount owed that a loan must owe less than to pass this predicate, if there is one.
+     */
+    public Optional<Float> getRemainingOwedBelow() {
+        Optional<Float> below = Optional.empty();
+        for (LoanPredicate condition : conditions) {
+            if (condition.parameter == LoanParameter.AMOUNT && condition.operator.get() == '<') {
+                below = below.isEmpty() || condition.value.get() < below.get() ? condition.value : below;
+            }
+        }
+        return below;
+    }
+
+    /**
+     * Returns true if only loans due within a range of dates can pass this predicate.
+     */
+    public boolean hasDueDateRange() {
+        return getEarliestDueDate().isPresent() || getLatestDueDate().isPresent();
+    }
+
+    private static Optional<LocalDate> later(Optional<LocalDate> first, Optional<LocalDate> second) {
+        if (first.isEmpty() || second.isEmpty()) {
+            return first.isPresent() ? first : second;
+        }
+        return first.get().isAfter(second.get()) ? first : second;
+    }
+
+    private static Optional<LocalDate> earlier(Optional<LocalDate> first, Optional<LocalDate> second) {
+        if (first.isEmpty() || second.isEmpty()) {
+            return first.isPresent() ? first : second;
+        }
+        return first.get().isBefore(second.get()) ? first : second;
     }
 
     @Override
     public boolean test(Loan loan) {
+        if (conditions.size() == 1) {
+            return testCondition(loan);
+        }
+
+        for (LoanPredicate condition : conditions) {
+            if (!condition.testCondition(loan)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean testCondition(Loan loan) {
         switch (this.parameter) {
         case AMOUNT: {
             assert operator.isPresent()
@@ -105,6 +231,11 @@ public class LoanPredicate implements Predicate<Loan> {
                 return loan.getDueDate().isAfter(this.date.get()) || loan.getDueDate().isEqual(this.date.get());
             }
         }
+        case DUE_IN: {
+            assert date.isPresent() && value.isPresent() : "dueIn needs a first day and a number of days";
+            LocalDate dueDate = loan.getDueDate();
+            return !dueDate.isBefore(date.get()) && !dueDate.isAfter(date.get().plusDays(value.get().longValue()));
+        }
         case LOAN_TYPE: {
             assert operator.isPresent()
                     && (operator.get() == 's' || operator.get() == 'c') : "Operator for loanType must be s or c";
@@ -150,6 +281,8 @@ public class LoanPredicate implements Predicate<Loan> {
         return switch (this.parameter) {
         case AMOUNT -> String.format("amount %s %s \n", operator.orElse(null), value.orElse(null));
         case DUE_DATE -> String.format("due %s %s \n", operator.orElse('a'), date.orElse(null));
+        case DUE_IN -> String.format("due within %d days of %s%n", value.map(Float::intValue).orElse(0),
+                date.orElse(null));
         case LOAN_TYPE -> String.format("loan type %s%n",
                 operator.orElse(' ') == 's' ? "simple interest" : "compound interest");
         case IS_PAID -> String.format("status %s%n",
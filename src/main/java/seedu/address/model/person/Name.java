@@ -3,6 +3,9 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.List;
+import java.util.Locale;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -19,6 +22,7 @@ public class Name {
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]{0,19}";
 
     public final String fullName;
+    private final List<String> lowerCaseWords;
 
     /**
      * Constructs a {@code Name}.
@@ -29,6 +33,7 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        lowerCaseWords = List.of(name.toLowerCase(Locale.ROOT).split("\\s+"));
     }
 
     /**
@@ -39,6 +44,13 @@ public class Name {
     }
 
 
+    /**
+     * Returns the words of the name in lower case, which is the form names are looked up by keyword in.
+     */
+    public List<String> getLowerCaseWords() {
+        return lowerCaseWords;
+    }
+
     @Override
     public String toString() {
         return fullName;
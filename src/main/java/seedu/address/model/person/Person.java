@@ -6,6 +6,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -129,9 +130,11 @@ public class Person {
 
     /**
      * Pays a specified amount to a loan.
+     *
+     * @return the loan, if the payment paid it off and so removed it.
      */
-    public void payLoan(int index, float amount) throws IllegalValueException {
-        loanList.payLoan(index, amount);
+    public Optional<Loan> payLoan(int index, float amount) throws IllegalValueException {
+        return loanList.payLoan(index, amount);
     }
     /**
      * Returns the number of loans the loan list contains.
@@ -4,6 +4,7 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.time.LocalDate;
 
+import seedu.address.commons.core.EvaluationDate;
 import seedu.address.commons.exceptions.IllegalValueException;
 
 /**
@@ -42,18 +43,30 @@ public class SimpleInterestLoan extends Loan {
         calculateAndSetAmountOwed();
     }
 
+    /**
+     * Constructs an {@code a SimpleInterestLoan} from values already parsed, such as those read from storage.
+     *
+     * @see Loan#Loan(float, float, float, LocalDate, LocalDate, LocalDate, boolean)
+     */
+    public SimpleInterestLoan(float principal, float amtPaid, float interest, LocalDate dueDate, LocalDate dateLastPaid,
+                              LocalDate dateCreated, boolean isPaid) {
+        super(principal, amtPaid, interest, dueDate, dateLastPaid, dateCreated, isPaid);
+        calculateAndSetAmountOwed();
+    }
+
     public float getMonthlyInterest() {
         // monthly interest = principal amount * (r / 12) where r is annual interest rate: (6% = 0.06)
         return this.principal * ((this.getInterest() / 100) / 12);
     }
 
-    public float getMonthlyInstalmentAmount() {
+    @Override
+    protected float computeMonthlyInstalmentAmount() {
         return getRemainingOwed() / Math.max(Math.abs(getMonthsUntilDueDate()), 1); // Prevent division by 0
     }
 
     // Currently unused method, removed abstract declaration fromm loan.
     @Override
-    public float getLoanValue() {
+    protected float computeLoanValue() {
         int monthsSinceLoan = this.getMonthsSinceLoan();
         int loanLength = this.getLoanLengthMonths();
 
@@ -66,7 +79,7 @@ public class SimpleInterestLoan extends Loan {
     }
 
     @Override
-    public float getPaymentDifference() {
+    protected float computePaymentDifference() {
         int monthsSinceLoan = this.getMonthsSinceLoan();
         int loanLength = this.getLoanLengthMonths();
 
@@ -94,7 +107,7 @@ public class SimpleInterestLoan extends Loan {
 
         this.incrementAmtPaid(payment);
 
-        this.setDateLastPaid(LocalDate.now());
+        this.setDateLastPaid(EvaluationDate.today());
 
         if (getRemainingOwed() == 0.0) {
             this.setIsPaid(true);
@@ -3,12 +3,26 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.core.EvaluationDate;
 import seedu.address.logic.commands.SortCommand;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
@@ -27,9 +41,20 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
 public class UniquePersonList implements Iterable<Person> {
     public static final String UNMODIFIABLE_MESSAGE = "Person List cannot be modified in this window, "
         + "please go back to Person Page.";
+    // lists at least this long compute their sort keys in parallel
+    private static final int PARALLEL_SORT_KEY_THRESHOLD = 2048;
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    // the persons in internalList keyed by name, the identity field used by Person#isSamePerson(Person)
+    private final Map<Name, Person> identityIndex = new HashMap<>();
+    // the persons in internalList keyed by each lower case word of their names, so that keywords need no full scan
+    private final Map<String, Set<Person>> nameWordIndex = new HashMap<>();
+    // changes before internalList does, so that listeners of internalList never see a stale name index
+    private long nameWordIndexVersion = 0;
+    // the position of each person in internalList keyed by name, worked out again only after persons have moved
+    private final Map<Name, Integer> positionIndex = new HashMap<>();
+    private boolean isPositionIndexStale = false;
 
     private boolean isChangeable = true;
 
@@ -45,14 +70,17 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * refreshes the list
+     * Tells the listeners of the list that {@code person} has changed in place, such as in its loans or in which of
+     * its loans are shown, by replacing it with itself. Only {@code person} is reported as changed.
+     * {@code person} must exist in the list.
      */
-    public void refreshList() {
-        if (!internalList.isEmpty()) {
-            Person person = internalList.get(0);
-            internalList.remove(0);
-            internalList.add(0, person);
+    public void refresh(Person person) {
+        requireNonNull(person);
+        int index = indexOf(person);
+        if (index == -1) {
+            throw new PersonNotFoundException();
         }
+        internalList.set(index, person);
     }
 
     /**
@@ -60,46 +88,109 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void filter(Integer index, LoanPredicate pred) {
         if (index == -2) { // special index for filter all
-            for (Person person : internalList) {
-                LoanList loanList = person.getLoanList();
-                loanList.filter(pred);
+            for (int i = 0; i < internalList.size(); i++) {
+                refreshIf(i, internalList.get(i).getLoanList().filter(pred));
             }
         } else { // filter specific person
-            LoanList loanList = internalList.get(index).getLoanList();
-            loanList.filter(pred);
+            refreshIf(index, internalList.get(index).getLoanList().filter(pred));
+        }
+    }
+
+    /**
+     * Filters the loans of every person, with the predicate that {@code predicateFor} gives for that person.
+     */
+    public void filterEach(Function<Person, Predicate<Loan>> predicateFor) {
+        for (int i = 0; i < internalList.size(); i++) {
+            Person person = internalList.get(i);
+            refreshIf(i, person.getLoanList().filterBy(predicateFor.apply(person)));
+        }
+    }
+
+    private void refreshIf(int index, boolean isChanged) {
+        if (isChanged) {
+            internalList.set(index, internalList.get(index));
         }
-        refreshList();
     }
 
     /**
-     * Sorts the list
+     * Sorts the list.
+     *
+     * @return true if the order of the list was changed by the sort.
      */
-    public void sort(String sort, String order) {
-        Comparator<Person> comparator;
+    public boolean sort(String sort, String order) {
+        Person[] persons = internalList.toArray(new Person[0]);
+        boolean isDescending = order.equals(SortCommand.DESC);
 
-        if (sort.equals(SortCommand.NAME)) {
-            comparator = Comparator.comparing(
-                person -> person.getName().toString()
-            );
-        } else if (sort.equals(SortCommand.OVERDUE)) {
-            comparator = Comparator.comparing(
-                person -> person.getLoanList().getMostOverdueMonths()
-            );
+        int[] sortedPositions;
+        if (sort.equals(SortCommand.OVERDUE)) {
+            sortedPositions = sortByFloatKey(persons, person -> person.getLoanList().getMostOverdueMonths(),
+                    isDescending);
         } else if (sort.equals(SortCommand.AMOUNT)) {
-            comparator = Comparator.comparing(
-                person -> person.getLoanList().getTotalLoanOwed()
-            );
-        } else { // default case, should never arrive here, parser will handle
-            comparator = Comparator.comparing(
-                person -> person.getName().toString()
-            );
+            sortedPositions = sortByFloatKey(persons, person -> person.getLoanList().getTotalLoanOwed(),
+                    isDescending);
+        } else { // NAME, and the default case, which the parser should never let through
+            sortedPositions = sortByName(persons, isDescending);
         }
 
-        if (order.equals(SortCommand.DESC)) {
-            comparator = comparator.reversed();
+        boolean isReordered = false;
+        List<Person> sorted = new ArrayList<>(persons.length);
+        for (int i = 0; i < sortedPositions.length; i++) {
+            isReordered |= sortedPositions[i] != i;
+            sorted.add(persons[sortedPositions[i]]);
         }
+        if (isReordered) {
+            isPositionIndexStale = true;
+            internalList.setAll(sorted);
+        }
+        return isReordered;
+    }
+
+    /**
+     * Returns the positions of {@code persons} in stable sorted order of {@code keyFunction}.
+     * Each key is computed exactly once, since computing it walks all of the person's loans.
+     */
+    private static int[] sortByFloatKey(Person[] persons, ToFloatFunction keyFunction, boolean isDescending) {
+        // keys computed on other threads are worked out as of the date seen by this one
+        LocalDate today = EvaluationDate.today();
+        // each key is packed above its position, so sorting the longs sorts by key and then by position
+        long[] packed = new long[persons.length];
+        parallelIfLarge(persons.length).forEach(i -> {
+            int key;
+            try (EvaluationDate.Snapshot snapshot = EvaluationDate.pin(today)) {
+                key = toSortableBits(keyFunction.applyAsFloat(persons[i]));
+            }
+            packed[i] = ((long) (isDescending ? ~key : key) << 32) | i;
+        });
+        Arrays.sort(packed);
 
-        FXCollections.sort(internalList, comparator);
+        int[] positions = new int[packed.length];
+        for (int i = 0; i < packed.length; i++) {
+            positions[i] = (int) packed[i];
+        }
+        return positions;
+    }
+
+    private static int[] sortByName(Person[] persons, boolean isDescending) {
+        String[] names = new String[persons.length];
+        parallelIfLarge(persons.length).forEach(i -> names[i] = persons[i].getName().toString());
+
+        Comparator<Integer> byName = Comparator.comparing(i -> names[i]);
+        Integer[] positions = IntStream.range(0, persons.length).boxed().toArray(Integer[]::new);
+        Arrays.sort(positions, isDescending ? byName.reversed() : byName);
+        return Arrays.stream(positions).mapToInt(Integer::intValue).toArray();
+    }
+
+    private static IntStream parallelIfLarge(int size) {
+        IntStream positions = IntStream.range(0, size);
+        return size >= PARALLEL_SORT_KEY_THRESHOLD ? positions.parallel() : positions;
+    }
+
+    /**
+     * Returns an int whose signed order matches the order of {@code value} under {@link Float#compare}.
+     */
+    private static int toSortableBits(float value) {
+        int bits = Float.floatToIntBits(value);
+        return bits ^ ((bits >> 31) & Integer.MAX_VALUE);
     }
 
     /**
@@ -107,7 +198,15 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return identityIndex.containsKey(toCheck.getName());
+    }
+
+    /**
+     * Returns true if the list contains {@code toCheck} itself, rather than just an equivalent person.
+     */
+    public boolean containsInstance(Person toCheck) {
+        requireNonNull(toCheck);
+        return identityIndex.get(toCheck.getName()) == toCheck;
     }
 
     /**
@@ -119,6 +218,9 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        identityIndex.put(toAdd.getName(), toAdd);
+        indexNameWords(toAdd);
+        positionIndex.put(toAdd.getName(), internalList.size());
         internalList.add(toAdd);
     }
 
@@ -130,7 +232,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -139,6 +241,12 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        identityIndex.remove(target.getName());
+        identityIndex.put(editedPerson.getName(), editedPerson);
+        unindexNameWords(internalList.get(index));
+        indexNameWords(editedPerson);
+        positionIndex.remove(target.getName());
+        positionIndex.put(editedPerson.getName(), index);
         internalList.set(index, editedPerson);
     }
 
@@ -148,13 +256,20 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        identityIndex.remove(toRemove.getName());
+        unindexNameWords(internalList.get(index));
+        positionIndex.remove(toRemove.getName());
+        isPositionIndexStale |= index < internalList.size() - 1; // the persons after it move up by one
+        internalList.remove(index);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        rebuildIndexes(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
@@ -168,9 +283,76 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        rebuildIndexes(persons);
         internalList.setAll(persons);
     }
 
+    private void rebuildIndexes(List<Person> persons) {
+        identityIndex.clear();
+        nameWordIndex.clear();
+        nameWordIndexVersion++;
+        isPositionIndexStale = true;
+        for (Person person : persons) {
+            identityIndex.put(person.getName(), person);
+            indexNameWords(person);
+        }
+    }
+
+    /**
+     * Returns the position of {@code person} in the list, or -1 if the list does not contain it.
+     * Uses Person#equals(Object) like {@code List#indexOf}, but only compares against the person with the same name.
+     */
+    private int indexOf(Person person) {
+        if (isPositionIndexStale) {
+            positionIndex.clear();
+            for (int i = 0; i < internalList.size(); i++) {
+                positionIndex.put(internalList.get(i).getName(), i);
+            }
+            isPositionIndexStale = false;
+        }
+        Integer position = positionIndex.get(person.getName());
+        return position != null && internalList.get(position).equals(person) ? position : -1;
+    }
+
+    private void indexNameWords(Person person) {
+        nameWordIndexVersion++;
+        for (String word : person.getName().getLowerCaseWords()) {
+            nameWordIndex.computeIfAbsent(word, unused -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                    .add(person);
+        }
+    }
+
+    private void unindexNameWords(Person person) {
+        nameWordIndexVersion++;
+        for (String word : person.getName().getLowerCaseWords()) {
+            Set<Person> persons = nameWordIndex.get(word);
+            if (persons != null && persons.remove(person) && persons.isEmpty()) {
+                nameWordIndex.remove(word);
+            }
+        }
+    }
+
+    /**
+     * Returns the persons whose names contain any of {@code lowerCaseWords} as a whole word.
+     * The persons are looked up by word, so the cost depends on the number of matches rather than the list size.
+     */
+    public Set<Person> getPersonsWithNameWords(Collection<String> lowerCaseWords) {
+        requireNonNull(lowerCaseWords);
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String word : lowerCaseWords) {
+            matches.addAll(nameWordIndex.getOrDefault(word, Set.of()));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns a number that changes whenever the persons {@link #getPersonsWithNameWords} finds may have changed.
+     * It changes before the list itself does, so it can be checked from within a listener of the list.
+     */
+    public long getNameWordIndexVersion() {
+        return nameWordIndexVersion;
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -212,13 +394,20 @@ public class UniquePersonList implements Iterable<Person> {
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<Name> names = new HashSet<>();
+        for (Person person : persons) {
+            if (!names.add(person.getName())) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * Computes a float sort key for a person.
+     */
+    @FunctionalInterface
+    private interface ToFloatFunction {
+        float applyAsFloat(Person person);
+    }
 }
@@ -42,4 +42,11 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Captures what {@link #saveAddressBook(ReadOnlyAddressBook)} would write for {@code addressBook}.
+     * The returned save no longer depends on {@code addressBook}, so it can be written on another thread.
+     * @param addressBook cannot be null.
+     */
+    PendingSave prepareSave(ReadOnlyAddressBook addressBook);
+
 }
@@ -0,0 +1,380 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.CompoundInterestLoan;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Loan;
+import seedu.address.model.person.LoanList;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.SimpleInterestLoan;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored as a compact binary snapshot on the hard disk.
+ * <p>
+ * The file starts with {@link #MAGIC} and the {@link #FORMAT_VERSION} it was written in, followed by a table of
+ * every distinct tag name, and then the persons. Strings are written as their length in bytes followed by their
+ * UTF-8 bytes, a person's tags as indexes into the tag table, and each loan as a fixed-width record of its type,
+ * amounts and the epoch days of its dates. Saving writes the whole snapshot through a {@code FileChannel}, and
+ * reading decodes it from a buffer holding the whole file.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final int MAGIC = 0x53484B42; // "SHKB"
+    public static final int FORMAT_VERSION = 1;
+    public static final String TEMP_SUFFIX = ".tmp";
+
+    static final String MESSAGE_NOT_BINARY = "Not a binary address book file.";
+    static final String MESSAGE_NEWER_VERSION = "Binary address book file is of version %1$d, newer than %2$d.";
+    static final String MESSAGE_CORRUPTED = "Binary address book file is cut short or corrupted.";
+
+    private static final byte SIMPLE_INTEREST = 'S';
+    private static final byte COMPOUND_INTEREST = 'C';
+    private static final long NO_DATE = Long.MIN_VALUE;
+    private static final int INITIAL_BUFFER_SIZE = 1 << 16;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("Binary file " + filePath + " found.");
+
+        try {
+            // not mapped, since Windows cannot replace a mapped file until the mapping is garbage collected
+            return Optional.of(decode(ByteBuffer.wrap(Files.readAllBytes(filePath))));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataLoadingException(e);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        write(encode(addressBook), filePath);
+    }
+
+    @Override
+    public PendingSave prepareSave(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+
+        ByteBuffer snapshot = encode(addressBook);
+        Path path = filePath;
+        return () -> write(snapshot.duplicate(), path);
+    }
+
+    /**
+     * Writes {@code snapshot} to a temporary file first, so that a crash never leaves a half-written snapshot.
+     */
+    private static void write(ByteBuffer snapshot, Path filePath) throws IOException {
+        Path tempPath = filePath.resolveSibling(filePath.getFileName() + TEMP_SUFFIX);
+        FileUtil.createParentDirsOfFile(filePath);
+        try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (snapshot.hasRemaining()) {
+                channel.write(snapshot);
+            }
+            channel.force(false);
+        }
+        try {
+            Files.move(tempPath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempPath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    //// encoding
+
+    /**
+     * Returns the snapshot of {@code addressBook}, ready to be written from its position to its limit.
+     */
+    static ByteBuffer encode(ReadOnlyAddressBook addressBook) {
+        List<Person> persons = addressBook.getPersonList();
+        Map<String, Integer> tagIds = new LinkedHashMap<>();
+        for (Person person : persons) {
+            for (Tag tag : person.getTags()) {
+                tagIds.putIfAbsent(tag.tagName, tagIds.size());
+            }
+        }
+
+        Encoder encoder = new Encoder();
+        encoder.putInt(MAGIC);
+        encoder.putInt(FORMAT_VERSION);
+        encoder.putInt(tagIds.size());
+        for (String tagName : tagIds.keySet()) {
+            encoder.putString(tagName);
+        }
+
+        encoder.putInt(persons.size());
+        for (Person person : persons) {
+            encoder.putString(person.getName().fullName);
+            encoder.putString(person.getPhone().value);
+            encoder.putString(person.getEmail().value);
+            encoder.putString(person.getAddress().value);
+
+            encoder.putInt(person.getTags().size());
+            for (Tag tag : person.getTags()) {
+                encoder.putInt(tagIds.get(tag.tagName));
+            }
+
+            List<Loan> loans = new ArrayList<>();
+            person.getLoanList().stream().forEach(loans::add);
+            encoder.putInt(loans.size());
+            for (Loan loan : loans) {
+                encoder.putLoan(loan);
+            }
+        }
+        return encoder.toByteBuffer();
+    }
+
+    /**
+     * Writes values into a buffer that grows as needed.
+     */
+    static class Encoder {
+        static final int LOAN_SIZE = Byte.BYTES + 3 * Float.BYTES + 3 * Long.BYTES + Byte.BYTES;
+
+        private ByteBuffer buffer = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+
+        void putByte(byte value) {
+            ensureRemaining(Byte.BYTES);
+            buffer.put(value);
+        }
+
+        void putInt(int value) {
+            ensureRemaining(Integer.BYTES);
+            buffer.putInt(value);
+        }
+
+        void putString(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            ensureRemaining(Integer.BYTES + bytes.length);
+            buffer.putInt(bytes.length);
+            buffer.put(bytes);
+        }
+
+        void putLoan(Loan loan) {
+            ensureRemaining(LOAN_SIZE);
+            buffer.put(loan instanceof CompoundInterestLoan ? COMPOUND_INTEREST : SIMPLE_INTEREST);
+            buffer.putFloat(loan.getPrincipal());
+            buffer.putFloat(loan.getAmtPaid());
+            buffer.putFloat(loan.getInterest());
+            buffer.putLong(loan.getDueDate().toEpochDay());
+            buffer.putLong(loan.getDateLastPaid() == null ? NO_DATE : loan.getDateLastPaid().toEpochDay());
+            buffer.putLong(loan.getDateCreated().toEpochDay());
+            buffer.put((byte) (loan.isPaid() ? 1 : 0));
+        }
+
+        private void ensureRemaining(int size) {
+            if (buffer.remaining() >= size) {
+                return;
+            }
+            ByteBuffer larger = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + size));
+            buffer.flip();
+            larger.put(buffer);
+            buffer = larger;
+        }
+
+        /**
+         * Returns the number of bytes written so far.
+         */
+        int position() {
+            return buffer.position();
+        }
+
+        ByteBuffer toByteBuffer() {
+            buffer.flip();
+            return buffer.asReadOnlyBuffer();
+        }
+    }
+
+    //// decoding
+
+    /**
+     * Returns the address book in the snapshot held by {@code buffer}.
+     *
+     * @throws IllegalValueException if the snapshot is not of a supported version, is cut short, or holds values
+     *     that violate data constraints.
+     */
+    static AddressBook decode(ByteBuffer buffer) throws IllegalValueException {
+        try {
+            if (buffer.remaining() < 2 * Integer.BYTES || buffer.getInt() != MAGIC) {
+                throw new IllegalValueException(MESSAGE_NOT_BINARY);
+            }
+            int version = buffer.getInt();
+            if (version > FORMAT_VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_NEWER_VERSION, version, FORMAT_VERSION));
+            }
+
+            int tagCount = getCount(buffer);
+            List<Tag> tags = new ArrayList<>(tagCount);
+            for (int i = 0; i < tagCount; i++) {
+                String tagName = getString(buffer);
+                if (!Tag.isValidTagName(tagName)) {
+                    throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+                }
+                tags.add(new Tag(tagName));
+            }
+
+            int personCount = getCount(buffer);
+            List<Person> persons = new ArrayList<>(personCount);
+            for (int i = 0; i < personCount; i++) {
+                persons.add(getPerson(buffer, tags));
+            }
+
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(persons);
+            return addressBook;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED, e);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, e);
+        }
+    }
+
+    private static Person getPerson(ByteBuffer buffer, List<Tag> tags) throws IllegalValueException {
+        String name = getString(buffer);
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        String phone = getString(buffer);
+        if (!Phone.isValidPhone(phone)) {
+            throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
+        }
+        String email = getString(buffer);
+        if (!Email.isValidEmail(email)) {
+            throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
+        }
+        String address = getString(buffer);
+        if (!Address.isValidAddress(address)) {
+            throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
+        }
+
+        int tagCount = getCount(buffer);
+        Set<Tag> personTags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            personTags.add(tags.get(buffer.getInt()));
+        }
+
+        int loanCount = getCount(buffer);
+        LoanList loanList = new LoanList();
+        for (int i = 0; i < loanCount; i++) {
+            getLoan(buffer).ifPresent(loanList::add);
+        }
+
+        return new Person(new Name(name), new Phone(phone), new Email(email), new Address(address), personTags,
+                loanList);
+    }
+
+    /**
+     * Returns the next loan in {@code buffer}, or nothing if it is not a valid loan, which leaves it out as the json
+     * format does.
+     */
+    static Optional<Loan> getLoan(ByteBuffer buffer) throws IllegalValueException {
+        byte type = buffer.get();
+        float principal = buffer.getFloat();
+        float amountPaid = buffer.getFloat();
+        float interest = buffer.getFloat();
+        long dueEpochDay = buffer.getLong();
+        long lastPaidEpochDay = buffer.getLong();
+        long createdEpochDay = buffer.getLong();
+        boolean isPaid = buffer.get() != 0;
+
+        Loan loan;
+        try {
+            LocalDate dueDate = LocalDate.ofEpochDay(dueEpochDay);
+            LocalDate dateLastPaid = lastPaidEpochDay == NO_DATE ? null : LocalDate.ofEpochDay(lastPaidEpochDay);
+            LocalDate dateCreated = LocalDate.ofEpochDay(createdEpochDay);
+            if (type == SIMPLE_INTEREST) {
+                loan = new SimpleInterestLoan(principal, amountPaid, interest, dueDate, dateLastPaid, dateCreated,
+                        isPaid);
+            } else if (type == COMPOUND_INTEREST) {
+                loan = new CompoundInterestLoan(principal, amountPaid, interest, dueDate, dateLastPaid, dateCreated,
+                        isPaid);
+            } else {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+        } catch (IllegalArgumentException | DateTimeException e) {
+            return Optional.empty();
+        }
+        loan.updateIsPaid();
+        return Optional.of(loan);
+    }
+
+    static int getCount(ByteBuffer buffer) throws IllegalValueException {
+        int count = buffer.getInt();
+        if (count < 0 || count > buffer.remaining()) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+        return count;
+    }
+
+    static String getString(ByteBuffer buffer) throws IllegalValueException {
+        int length = getCount(buffer);
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,477 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot plus an append-only journal on the hard disk.
+ * <p>
+ * Changes published by the model are recorded as small journal entries, and saving only appends the entries
+ * recorded since the last save. A change to a single loan is recorded as that loan alone. Once the journal grows
+ * past a threshold, a background job folds it into a new snapshot. Reading loads the snapshot and then replays the
+ * journal on top of it, skipping the entries the snapshot already includes.
+ */
+public class JournaledAddressBookStorage extends JsonAddressBookStorage implements AddressBookChange.Listener {
+
+    public static final String JOURNAL_SUFFIX = ".journal";
+    public static final String FOLDING_SUFFIX = ".folding";
+    public static final String TEMP_SUFFIX = ".tmp";
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 500;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final int compactionThreshold;
+
+    // guards pendingEntries, isSnapshotNeeded and lastSequence
+    private final Object pendingLock = new Object();
+    // guards the journal files and journalEntryCount
+    private final Object journalLock = new Object();
+    // guards the snapshot file, and is always acquired before journalLock
+    private final Object snapshotLock = new Object();
+
+    private final List<String> pendingEntries = new ArrayList<>();
+    private boolean isSnapshotNeeded = false;
+    // the number of the last entry recorded, or of the last entry included in the data read, whichever is later
+    private long lastSequence = 0;
+    private int journalEntryCount = 0;
+
+    private final AtomicBoolean isCompactionScheduled = new AtomicBoolean(false);
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public JournaledAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a storage whose journal is folded into the snapshot once it holds {@code compactionThreshold} entries.
+     */
+    public JournaledAddressBookStorage(Path filePath, int compactionThreshold) {
+        super(filePath);
+        if (compactionThreshold <= 0) {
+            throw new IllegalArgumentException("Compaction threshold must be positive.");
+        }
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * Returns the location of the journal kept alongside the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_SUFFIX);
+    }
+
+    private static Path getFoldingFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_SUFFIX + FOLDING_SUFFIX);
+    }
+
+    //// recording
+
+    @Override
+    public void onChange(AddressBookChange change) {
+        requireNonNull(change);
+
+        switch (change.getType()) {
+        case ADDED:
+            change.getPerson().ifPresent(person ->
+                    record(JsonAdaptedJournalEntry.put(person.getName().fullName, person)));
+            break;
+        case UPDATED:
+            change.getPerson().ifPresent(person -> change.getLoanChange().ifPresentOrElse(
+                    loanChange -> record(JsonAdaptedJournalEntry.changeLoan(person.getName().fullName, loanChange)),
+                    () -> record(JsonAdaptedJournalEntry.put(person.getName().fullName, person))));
+            break;
+        case REPLACED:
+            change.getTarget().ifPresent(target -> change.getPerson().ifPresent(person ->
+                    record(JsonAdaptedJournalEntry.put(target.getName().fullName, person))));
+            break;
+        case REMOVED:
+            change.getTarget().ifPresent(target -> record(JsonAdaptedJournalEntry.remove(target.getName().fullName)));
+            break;
+        case REORDERED:
+            record(JsonAdaptedJournalEntry.order(change.getSource().getPersonList()));
+            break;
+        case RESET:
+            requestSnapshot();
+            break;
+        default:
+            requestSnapshot();
+        }
+    }
+
+    /**
+     * Numbers {@code entry} and serializes it now, so that later changes to the person it refers to do not leak
+     * into it. An entry that the next snapshot will include anyway is not serialized at all.
+     */
+    private void record(JsonAdaptedJournalEntry entry) {
+        synchronized (pendingLock) {
+            lastSequence++;
+            if (isSnapshotNeeded) {
+                return;
+            }
+            try {
+                pendingEntries.add(JsonUtil.toJsonLine(entry.withSequence(lastSequence)));
+            } catch (JsonProcessingException e) {
+                logger.warning("Could not journal change, a full snapshot will be saved instead: " + e.getMessage());
+                requestSnapshot();
+            }
+        }
+    }
+
+    /**
+     * Makes the next save write a full snapshot, which supersedes any entries not yet saved.
+     */
+    void requestSnapshot() {
+        synchronized (pendingLock) {
+            pendingEntries.clear();
+            isSnapshotNeeded = true;
+        }
+    }
+
+    //// reading
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        try {
+            Path foldingPath = getFoldingFilePath(filePath);
+            Path journalPath = getJournalFilePath(filePath);
+            if (!Files.exists(foldingPath) && !Files.exists(journalPath)) {
+                // nothing to replay, so the snapshot can be loaded straight into the model
+                AtomicLong journalSequence = new AtomicLong();
+                Optional<ReadOnlyAddressBook> addressBook = super.readAddressBook(filePath,
+                        Map.of(JsonSerializableAddressBook.JOURNAL_SEQUENCE_FIELD,
+                                JsonUtil.valueReader(Long.class, journalSequence::set)));
+                if (filePath.equals(getAddressBookFilePath())) {
+                    startAfter(journalSequence.get(), 0);
+                }
+                return addressBook;
+            }
+
+            Snapshot snapshot = Snapshot.read(filePath);
+            snapshot.replay(foldingPath);
+            int replayed = snapshot.replay(journalPath);
+            if (filePath.equals(getAddressBookFilePath())) {
+                startAfter(snapshot.journalSequence, replayed);
+            }
+            return Optional.of(snapshot.toSerializable().toModelType());
+        } catch (DataLoadingException e) {
+            requestSnapshot();
+            throw e;
+        } catch (IOException | IllegalValueException e) {
+            logger.info("Illegal values found in " + filePath + " or its journal: " + e.getMessage());
+            requestSnapshot();
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Carries on from the data just read from this storage's own file, which includes every entry up to the one
+     * numbered {@code journalSequence}, and whose journal holds {@code journalEntryCount} entries.
+     */
+    private void startAfter(long journalSequence, int journalEntryCount) {
+        synchronized (pendingLock) {
+            lastSequence = Math.max(lastSequence, journalSequence);
+        }
+        synchronized (journalLock) {
+            this.journalEntryCount = journalEntryCount;
+        }
+    }
+
+    //// saving
+
+    /**
+     * Saves {@code addressBook} by journaling the changes recorded since the last save.
+     * Saving to any location other than this storage's own file writes a plain json file instead.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(getAddressBookFilePath())) {
+            super.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        JournalSave save = drainPending(addressBook);
+        try {
+            save.write();
+        } catch (IOException e) {
+            restore(save);
+            throw e;
+        }
+    }
+
+    /**
+     * Takes the entries recorded since the last save, so that they can be written later on another thread.
+     */
+    @Override
+    public PendingSave prepareSave(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        return drainPending(addressBook);
+    }
+
+    private JournalSave drainPending(ReadOnlyAddressBook addressBook) {
+        synchronized (pendingLock) {
+            JournalSave save = isSnapshotNeeded || !Files.exists(getAddressBookFilePath())
+                    ? new JournalSave(new JsonSerializableAddressBook(addressBook, lastSequence), new ArrayList<>())
+                    : new JournalSave(null, new ArrayList<>(pendingEntries));
+            pendingEntries.clear();
+            isSnapshotNeeded = false;
+            return save;
+        }
+    }
+
+    /**
+     * Puts the contents of a save that failed back, so that the next save writes them instead.
+     */
+    private void restore(JournalSave save) {
+        if (save.snapshot != null) {
+            requestSnapshot();
+            return;
+        }
+        synchronized (pendingLock) {
+            if (!isSnapshotNeeded) {
+                pendingEntries.addAll(0, save.entries);
+            }
+        }
+    }
+
+    private void appendToJournal(List<String> entries) throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (String entry : entries) {
+            content.append(entry).append('\n');
+        }
+
+        boolean isCompactionDue;
+        synchronized (journalLock) {
+            FileUtil.appendToFile(getJournalFilePath(getAddressBookFilePath()), content.toString());
+            journalEntryCount += entries.size();
+            isCompactionDue = journalEntryCount >= compactionThreshold;
+        }
+
+        if (isCompactionDue && isCompactionScheduled.compareAndSet(false, true)) {
+            compactor.execute(() -> {
+                try {
+                    compact();
+                } catch (IOException | DataLoadingException e) {
+                    logger.warning("Could not fold journal into " + getAddressBookFilePath() + ": " + e.getMessage());
+                } finally {
+                    isCompactionScheduled.set(false);
+                }
+            });
+        }
+    }
+
+    /**
+     * Replaces the snapshot with {@code snapshot}, making every journal entry so far redundant.
+     */
+    private void saveSnapshot(JsonSerializableAddressBook snapshot) throws IOException {
+        Path filePath = getAddressBookFilePath();
+        synchronized (snapshotLock) {
+            synchronized (journalLock) {
+                writeSnapshot(snapshot, filePath);
+                Files.deleteIfExists(getFoldingFilePath(filePath));
+                Files.deleteIfExists(getJournalFilePath(filePath));
+                journalEntryCount = 0;
+            }
+        }
+    }
+
+    /**
+     * Folds the journal into the snapshot.
+     * Saves may keep appending to a fresh journal while the fold is in progress.
+     *
+     * @throws IOException if the files could not be read or written.
+     * @throws DataLoadingException if the snapshot or journal holds invalid data.
+     */
+    public void compact() throws IOException, DataLoadingException {
+        Path filePath = getAddressBookFilePath();
+        Path foldingPath = getFoldingFilePath(filePath);
+
+        synchronized (snapshotLock) {
+            synchronized (journalLock) {
+                rotateJournal(filePath, foldingPath);
+                journalEntryCount = 0;
+            }
+            if (!Files.exists(foldingPath)) {
+                return;
+            }
+
+            try {
+                Snapshot snapshot = Snapshot.read(filePath);
+                snapshot.replay(foldingPath);
+                writeSnapshot(snapshot.toSerializable(), filePath);
+            } catch (IllegalValueException e) {
+                throw new DataLoadingException(e);
+            }
+            Files.delete(foldingPath);
+            logger.fine("Folded journal into " + filePath);
+        }
+    }
+
+    /**
+     * Moves the active journal aside so that it can be folded, leaving new entries to start a fresh journal.
+     * Entries left over from an interrupted fold are kept ahead of the active ones.
+     */
+    private static void rotateJournal(Path filePath, Path foldingPath) throws IOException {
+        Path journalPath = getJournalFilePath(filePath);
+        if (!Files.exists(journalPath)) {
+            return;
+        }
+
+        if (Files.exists(foldingPath)) {
+            FileUtil.appendToFile(foldingPath, FileUtil.readFromFile(journalPath));
+            Files.delete(journalPath);
+        } else {
+            Files.move(journalPath, foldingPath);
+        }
+    }
+
+    /**
+     * Writes {@code snapshot} to a temporary file first, so that a crash never leaves a half-written snapshot.
+     */
+    private static void writeSnapshot(JsonSerializableAddressBook snapshot, Path filePath) throws IOException {
+        Path tempPath = filePath.resolveSibling(filePath.getFileName() + TEMP_SUFFIX);
+        FileUtil.createParentDirsOfFile(filePath);
+        JsonUtil.saveJsonFile(snapshot, tempPath);
+        try {
+            Files.move(tempPath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempPath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * The persons in a snapshot by name, in list order, with the number of the last journal entry applied to them.
+     */
+    private static class Snapshot {
+        private final Map<String, JsonAdaptedPerson> persons = new LinkedHashMap<>();
+        private long journalSequence = 0;
+
+        /**
+         * Reads the snapshot at {@code filePath}, or no persons if there is no snapshot.
+         */
+        static Snapshot read(Path filePath) throws IOException, IllegalValueException {
+            Snapshot snapshot = new Snapshot();
+            if (!Files.exists(filePath)) {
+                return snapshot;
+            }
+
+            JsonSerializableAddressBook.readPersons(filePath, person -> {
+                // the snapshot is saved again in the current format, so loans saved in an older one are converted
+                if (snapshot.persons.put(person.getName(), person.withLoans(person.getLoans())) != null) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+                }
+            }, Map.of(JsonSerializableAddressBook.JOURNAL_SEQUENCE_FIELD,
+                    JsonUtil.valueReader(Long.class, journalSequence -> snapshot.journalSequence = journalSequence)));
+            return snapshot;
+        }
+
+        /**
+         * Applies every entry in the journal at {@code journalPath} that this snapshot does not include yet.
+         * A malformed final line is assumed to be an append that was cut short, and is skipped.
+         *
+         * @return the number of entries in the journal.
+         */
+        int replay(Path journalPath) throws IOException, IllegalValueException {
+            if (!Files.exists(journalPath)) {
+                return 0;
+            }
+
+            List<String> lines = Files.readAllLines(journalPath);
+            int entryCount = 0;
+            for (int i = 0; i < lines.size(); i++) {
+                String line = lines.get(i);
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                JsonAdaptedJournalEntry entry;
+                try {
+                    entry = JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class);
+                } catch (JsonProcessingException e) {
+                    if (i == lines.size() - 1) {
+                        logger.warning("Skipping incomplete last entry of " + journalPath);
+                        break;
+                    }
+                    throw e;
+                }
+                entryCount++;
+                // a fold that stopped before removing its journal leaves entries the snapshot already includes
+                if (entry.isAfter(journalSequence)) {
+                    entry.applyTo(persons);
+                    journalSequence = entry.getSequenceOr(journalSequence);
+                }
+            }
+            return entryCount;
+        }
+
+        JsonSerializableAddressBook toSerializable() {
+            return new JsonSerializableAddressBook(new ArrayList<>(persons.values()), journalSequence);
+        }
+    }
+
+    /**
+     * A save prepared by this storage: an optional full snapshot, followed by journal entries.
+     */
+    private class JournalSave implements PendingSave {
+        private final JsonSerializableAddressBook snapshot;
+        private final List<String> entries;
+
+        JournalSave(JsonSerializableAddressBook snapshot, List<String> entries) {
+            this.snapshot = snapshot;
+            this.entries = entries;
+        }
+
+        @Override
+        public void write() throws IOException {
+            if (snapshot != null) {
+                saveSnapshot(snapshot);
+            }
+            if (!entries.isEmpty()) {
+                appendToJournal(entries);
+            }
+        }
+
+        @Override
+        public PendingSave mergeWith(PendingSave newer) {
+            if (!(newer instanceof JournalSave) || ((JournalSave) newer).snapshot != null) {
+                return newer;
+            }
+
+            List<String> mergedEntries = new ArrayList<>(entries);
+            mergedEntries.addAll(((JournalSave) newer).entries);
+            return new JournalSave(snapshot, mergedEntries);
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly record of a single change made to an address book, as stored in the journal file.
+ * Persons are identified by their name, which is unique within an address book, and their loans by their index.
+ * Each entry is numbered, so that the entries already folded into a snapshot are not applied to it again.
+ */
+class JsonAdaptedJournalEntry {
+
+    public static final String MESSAGE_INVALID_ENTRY = "Journal entry is malformed: %s";
+
+    /**
+     * The operations that can be recorded in the journal.
+     */
+    enum Operation {
+        /** Puts {@code person} in place of the person named {@code key}, or appends it if there is none. */
+        PUT,
+        /** Removes the person named {@code key}, if there is one. */
+        REMOVE,
+        /** Rearranges the persons into the order of the names in {@code order}. */
+        ORDER,
+        /** Adds {@code loan} to the end of the loans of the person named {@code key}. */
+        ADD_LOAN,
+        /** Puts {@code loan}, as it is after a payment, in place of loan {@code loanIndex} of the person. */
+        PAY_LOAN,
+        /** Removes loan {@code loanIndex} of the person named {@code key}. */
+        REMOVE_LOAN
+    }
+
+    private final Long seq;
+    private final Operation op;
+    private final String key;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final JsonAdaptedPerson person;
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private final List<String> order = new ArrayList<>();
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Integer loanIndex;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final JsonAdaptedLoan loan;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given entry details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("seq") Long seq, @JsonProperty("op") Operation op,
+            @JsonProperty("key") String key, @JsonProperty("person") JsonAdaptedPerson person,
+            @JsonProperty("order") List<String> order, @JsonProperty("loanIndex") Integer loanIndex,
+            @JsonProperty("loan") JsonAdaptedLoan loan) {
+        this.seq = seq;
+        this.op = op;
+        this.key = key;
+        this.person = person;
+        if (order != null) {
+            this.order.addAll(order);
+        }
+        this.loanIndex = loanIndex;
+        this.loan = loan;
+    }
+
+    private JsonAdaptedJournalEntry(Operation op, String key, JsonAdaptedPerson person, List<String> order,
+            Integer loanIndex, JsonAdaptedLoan loan) {
+        this(null, op, key, person, order, loanIndex, loan);
+    }
+
+    /**
+     * Returns an entry that puts {@code person} in place of the person named {@code key}.
+     */
+    public static JsonAdaptedJournalEntry put(String key, Person person) {
+        return new JsonAdaptedJournalEntry(Operation.PUT, key, new JsonAdaptedPerson(person), null, null, null);
+    }
+
+    /**
+     * Returns an entry that removes the person named {@code key}.
+     */
+    public static JsonAdaptedJournalEntry remove(String key) {
+        return new JsonAdaptedJournalEntry(Operation.REMOVE, key, null, null, null, null);
+    }
+
+    /**
+     * Returns an entry that rearranges the persons into the order of {@code persons}.
+     */
+    public static JsonAdaptedJournalEntry order(List<Person> persons) {
+        return new JsonAdaptedJournalEntry(Operation.ORDER, null, null, persons.stream()
+                .map(person -> person.getName().fullName)
+                .collect(Collectors.toList()), null, null);
+    }
+
+    /**
+     * Returns an entry that makes {@code loanChange} to the loans of the person named {@code key}.
+     */
+    public static JsonAdaptedJournalEntry changeLoan(String key, AddressBookChange.LoanChange loanChange) {
+        JsonAdaptedLoan loan = loanChange.getLoan().map(JsonAdaptedLoan::new).orElse(null);
+        switch (loanChange.getKind()) {
+        case ADDED:
+            return new JsonAdaptedJournalEntry(Operation.ADD_LOAN, key, null, null, null, loan);
+        case PAID:
+            return new JsonAdaptedJournalEntry(Operation.PAY_LOAN, key, null, null, loanChange.getIndex(), loan);
+        case REMOVED:
+            return new JsonAdaptedJournalEntry(Operation.REMOVE_LOAN, key, null, null, loanChange.getIndex(), null);
+        default:
+            throw new IllegalArgumentException("Unknown loan change: " + loanChange.getKind());
+        }
+    }
+
+    /**
+     * Returns a copy of this entry numbered {@code seq}.
+     */
+    public JsonAdaptedJournalEntry withSequence(long seq) {
+        return new JsonAdaptedJournalEntry(seq, op, key, person, order, loanIndex, loan);
+    }
+
+    /**
+     * Returns true if this entry was recorded after the entry numbered {@code seq}.
+     * Entries without a number are taken to be recorded after every other entry.
+     */
+    public boolean isAfter(long seq) {
+        return this.seq == null || this.seq > seq;
+    }
+
+    /**
+     * Returns the number of this entry, or {@code seq} if it has none.
+     */
+    public long getSequenceOr(long seq) {
+        return this.seq == null ? seq : this.seq;
+    }
+
+    /**
+     * Applies this entry to {@code persons}, which maps each person's name to the person in list order.
+     *
+     * @throws IllegalValueException if this entry is missing the fields its operation needs.
+     */
+    public void applyTo(Map<String, JsonAdaptedPerson> persons) throws IllegalValueException {
+        if (op == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, "missing operation"));
+        }
+
+        switch (op) {
+        case PUT:
+            applyPut(persons);
+            break;
+        case REMOVE:
+            requireField(key, "key");
+            persons.remove(key);
+            break;
+        case ORDER:
+            applyOrder(persons);
+            break;
+        case ADD_LOAN:
+        case PAY_LOAN:
+        case REMOVE_LOAN:
+            applyLoanChange(persons);
+            break;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, op));
+        }
+    }
+
+    private void applyPut(Map<String, JsonAdaptedPerson> persons) throws IllegalValueException {
+        requireField(key, "key");
+        requireField(person, "person");
+        String newKey = person.getName();
+        requireField(newKey, "person name");
+
+        if (key.equals(newKey) || !persons.containsKey(key)) {
+            persons.put(newKey, person);
+            return;
+        }
+
+        // the person was renamed, so rebuild the map to keep the new name in the old position
+        Map<String, JsonAdaptedPerson> reordered = new LinkedHashMap<>();
+        for (Map.Entry<String, JsonAdaptedPerson> entry : persons.entrySet()) {
+            if (entry.getKey().equals(key)) {
+                reordered.put(newKey, person);
+            } else if (!entry.getKey().equals(newKey)) {
+                reordered.put(entry.getKey(), entry.getValue());
+            }
+        }
+        persons.clear();
+        persons.putAll(reordered);
+    }
+
+    private void applyOrder(Map<String, JsonAdaptedPerson> persons) {
+        Map<String, JsonAdaptedPerson> reordered = new LinkedHashMap<>();
+        for (String name : order) {
+            JsonAdaptedPerson existing = persons.get(name);
+            if (existing != null) {
+                reordered.put(name, existing);
+            }
+        }
+        // anyone missing from the recorded order keeps their relative position at the end
+        for (Map.Entry<String, JsonAdaptedPerson> entry : persons.entrySet()) {
+            reordered.putIfAbsent(entry.getKey(), entry.getValue());
+        }
+        persons.clear();
+        persons.putAll(reordered);
+    }
+
+    private void applyLoanChange(Map<String, JsonAdaptedPerson> persons) throws IllegalValueException {
+        requireField(key, "key");
+        JsonAdaptedPerson owner = persons.get(key);
+        requireField(owner, "person " + key);
+        List<JsonAdaptedLoan> loans = owner.getLoans();
+
+        if (op == Operation.ADD_LOAN) {
+            requireField(loan, "loan");
+            loans.add(loan);
+        } else {
+            requireField(loanIndex, "loanIndex");
+            if (loanIndex < 0 || loanIndex >= loans.size()) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY,
+                        "no loan " + loanIndex + " for " + key));
+            }
+            if (op == Operation.PAY_LOAN) {
+                requireField(loan, "loan");
+                loans.set(loanIndex, loan);
+            } else {
+                loans.remove((int) loanIndex);
+            }
+        }
+        persons.put(key, owner.withLoans(loans));
+    }
+
+    private static void requireField(Object field, String fieldName) throws IllegalValueException {
+        if (field == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, "missing " + fieldName));
+        }
+    }
+}
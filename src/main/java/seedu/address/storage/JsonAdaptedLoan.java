@@ -0,0 +1,104 @@
+package seedu.address.storage;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.CompoundInterestLoan;
+import seedu.address.model.person.Loan;
+import seedu.address.model.person.SimpleInterestLoan;
+
+/**
+ * Jackson-friendly version of {@link Loan}.
+ * Amounts are kept as numbers and dates as epoch days, so that neither has to be formatted or parsed as text.
+ */
+class JsonAdaptedLoan {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Loan's %s field is missing!";
+    public static final String INVALID_LOAN_MESSAGE = "Loan's fields do not make up a valid loan!";
+
+    private final String type;
+    private final Float principal;
+    private final Float amountPaid;
+    private final Float interest;
+    private final Long dueEpochDay;
+    private final Long lastPaidEpochDay;
+    private final Long createdEpochDay;
+    private final Boolean isPaid;
+
+    /**
+     * Constructs a {@code JsonAdaptedLoan} with the given loan details.
+     */
+    @JsonCreator
+    public JsonAdaptedLoan(@JsonProperty("type") String type, @JsonProperty("principal") Float principal,
+            @JsonProperty("amountPaid") Float amountPaid, @JsonProperty("interest") Float interest,
+            @JsonProperty("dueEpochDay") Long dueEpochDay, @JsonProperty("lastPaidEpochDay") Long lastPaidEpochDay,
+            @JsonProperty("createdEpochDay") Long createdEpochDay, @JsonProperty("isPaid") Boolean isPaid) {
+        this.type = type;
+        this.principal = principal;
+        this.amountPaid = amountPaid;
+        this.interest = interest;
+        this.dueEpochDay = dueEpochDay;
+        this.lastPaidEpochDay = lastPaidEpochDay;
+        this.createdEpochDay = createdEpochDay;
+        this.isPaid = isPaid;
+    }
+
+    /**
+     * Converts a given {@code Loan} into this class for Jackson use.
+     */
+    public JsonAdaptedLoan(Loan source) {
+        type = source.getName();
+        principal = source.getPrincipal();
+        amountPaid = source.getAmtPaid();
+        interest = source.getInterest();
+        dueEpochDay = source.getDueDate().toEpochDay();
+        lastPaidEpochDay = source.getDateLastPaid() == null ? null : source.getDateLastPaid().toEpochDay();
+        createdEpochDay = source.getDateCreated().toEpochDay();
+        isPaid = source.isPaid();
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted loan object into the model's {@code Loan} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted loan.
+     */
+    public Loan toModelType() throws IllegalValueException {
+        checkPresent(type, "type");
+        checkPresent(principal, "principal");
+        checkPresent(amountPaid, "amountPaid");
+        checkPresent(interest, "interest");
+        checkPresent(dueEpochDay, "dueEpochDay");
+        checkPresent(createdEpochDay, "createdEpochDay");
+        checkPresent(isPaid, "isPaid");
+
+        Loan loan;
+        try {
+            LocalDate dueDate = LocalDate.ofEpochDay(dueEpochDay);
+            LocalDate dateLastPaid = lastPaidEpochDay == null ? null : LocalDate.ofEpochDay(lastPaidEpochDay);
+            LocalDate dateCreated = LocalDate.ofEpochDay(createdEpochDay);
+            if (type.equals(SimpleInterestLoan.LOAN_TYPE)) {
+                loan = new SimpleInterestLoan(principal, amountPaid, interest, dueDate, dateLastPaid, dateCreated,
+                        isPaid);
+            } else if (type.equals(CompoundInterestLoan.LOAN_TYPE)) {
+                loan = new CompoundInterestLoan(principal, amountPaid, interest, dueDate, dateLastPaid, dateCreated,
+                        isPaid);
+            } else {
+                throw new IllegalValueException(INVALID_LOAN_MESSAGE);
+            }
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new IllegalValueException(INVALID_LOAN_MESSAGE, e);
+        }
+        loan.updateIsPaid();
+        return loan;
+    }
+
+    private static void checkPresent(Object field, String fieldName) throws IllegalValueException {
+        if (field == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldName));
+        }
+    }
+}
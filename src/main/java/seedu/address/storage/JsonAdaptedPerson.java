@@ -7,6 +7,8 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -20,6 +22,12 @@ import seedu.address.model.tag.Tag;
 
 /**
  * Jackson-friendly version of {@link Person}.
+ * <p>
+ * Which field the loans are read from depends on the format version of the file the person is saved in. From
+ * {@link JsonSerializableAddressBook#FORMAT_VERSION} on, loans are saved as a list of {@code JsonAdaptedLoan} in the
+ * {@code loans} field. Files in {@link JsonSerializableAddressBook#LOAN_STRING_FORMAT_VERSION} hold them in the
+ * {@code loanList} field instead, as a single string of loans separated by {@code ','} with fields separated by
+ * {@code '/'}. Those loans are saved in the {@code loans} field the next time the person is saved.
  */
 class JsonAdaptedPerson {
 
@@ -29,24 +37,48 @@ class JsonAdaptedPerson {
     private final String phone;
     private final String email;
     private final String address;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private final String loanList;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final List<JsonAdaptedLoan> loans;
     private final List<JsonAdaptedTag> tags = new ArrayList<>();
+    @JsonIgnore
+    private final int formatVersion;
 
     /**
-     * Constructs a {@code JsonAdaptedPerson} with the given person details.
+     * Constructs a {@code JsonAdaptedPerson} with the given person details, saved in the current format, which holds
+     * its loans in {@code loans}.
      */
     @JsonCreator
     public JsonAdaptedPerson(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
             @JsonProperty("email") String email, @JsonProperty("address") String address,
-            @JsonProperty("loanList") String loanList, @JsonProperty("tags") List<JsonAdaptedTag> tags) {
+            @JsonProperty("loanList") String loanList, @JsonProperty("loans") List<JsonAdaptedLoan> loans,
+            @JsonProperty("tags") List<JsonAdaptedTag> tags) {
+        this(name, phone, email, address, loanList, loans, tags, JsonSerializableAddressBook.FORMAT_VERSION);
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedPerson} with the given person details, and loans in the string format of older
+     * files.
+     */
+    public JsonAdaptedPerson(String name, String phone, String email, String address, String loanList,
+            List<JsonAdaptedTag> tags) {
+        this(name, phone, email, address, loanList, null, tags,
+                JsonSerializableAddressBook.LOAN_STRING_FORMAT_VERSION);
+    }
+
+    private JsonAdaptedPerson(String name, String phone, String email, String address, String loanList,
+            List<JsonAdaptedLoan> loans, List<JsonAdaptedTag> tags, int formatVersion) {
         this.name = name;
         this.phone = phone;
         this.email = email;
         this.address = address;
         this.loanList = loanList;
+        this.loans = loans == null ? null : new ArrayList<>(loans);
         if (tags != null) {
             this.tags.addAll(tags);
         }
+        this.formatVersion = formatVersion;
     }
 
     /**
@@ -57,10 +89,48 @@ class JsonAdaptedPerson {
         phone = source.getPhone().value;
         email = source.getEmail().value;
         address = source.getAddress().value;
-        loanList = source.getLoanList().toSaveString();
+        loanList = null;
+        loans = new ArrayList<>();
+        source.getLoanList().stream().forEach(loan -> loans.add(new JsonAdaptedLoan(loan)));
         tags.addAll(source.getTags().stream()
                 .map(JsonAdaptedTag::new)
                 .collect(Collectors.toList()));
+        formatVersion = JsonSerializableAddressBook.FORMAT_VERSION;
+    }
+
+    /**
+     * Returns the name of the adapted person, which identifies it within an address book.
+     */
+    String getName() {
+        return name;
+    }
+
+    /**
+     * Returns a copy of the adapted person that reads its loans as saved in format {@code formatVersion}.
+     */
+    JsonAdaptedPerson inFormat(int formatVersion) {
+        return new JsonAdaptedPerson(name, phone, email, address, loanList, loans, tags, formatVersion);
+    }
+
+    /**
+     * Returns the loans of the adapted person, converting loans in the string format of older files.
+     *
+     * @throws IllegalValueException if the adapted person has no loans field for its format.
+     */
+    List<JsonAdaptedLoan> getLoans() throws IllegalValueException {
+        if (formatVersion == JsonSerializableAddressBook.LOAN_STRING_FORMAT_VERSION) {
+            return LoanList.stringToLoanList(requireLoansField(loanList)).stream()
+                    .map(JsonAdaptedLoan::new)
+                    .collect(Collectors.toList());
+        }
+        return new ArrayList<>(requireLoansField(loans));
+    }
+
+    /**
+     * Returns a copy of the adapted person with {@code loans} in place of its loans, saved in the current format.
+     */
+    JsonAdaptedPerson withLoans(List<JsonAdaptedLoan> loans) {
+        return new JsonAdaptedPerson(name, phone, email, address, null, loans, tags);
     }
 
     /**
@@ -106,14 +176,42 @@ class JsonAdaptedPerson {
         }
         final Address modelAddress = new Address(address);
 
-        if (loanList == null) { // makes this better
-            throw new IllegalValueException("ERROR");
-        }
-        final LoanList modelLoanList = LoanList.stringToLoanList(loanList);
+        final LoanList modelLoanList = formatVersion == JsonSerializableAddressBook.LOAN_STRING_FORMAT_VERSION
+                ? LoanList.stringToLoanList(requireLoansField(loanList))
+                : toModelLoanList(requireLoansField(loans));
 
         final Set<Tag> modelTags = new HashSet<>(personTags);
 
         return new Person(modelName, modelPhone, modelEmail, modelAddress, modelTags, modelLoanList);
     }
 
+    /**
+     * Returns {@code loansField}, the field that holds the loans in the format of the adapted person.
+     *
+     * @throws IllegalValueException if the field is missing.
+     */
+    private static <T> T requireLoansField(T loansField) throws IllegalValueException {
+        if (loansField == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                    LoanList.class.getSimpleName()));
+        }
+        return loansField;
+    }
+
+    /**
+     * Converts {@code loans} into a {@code LoanList}, leaving out loans that are not valid, as
+     * {@link LoanList#stringToLoanList(String)} does for the string format.
+     */
+    private static LoanList toModelLoanList(List<JsonAdaptedLoan> loans) {
+        LoanList loanList = new LoanList();
+        for (JsonAdaptedLoan loan : loans) {
+            try {
+                loanList.add(loan.toModelType());
+            } catch (IllegalValueException e) {
+                continue;
+            }
+        }
+        return loanList;
+    }
+
 }
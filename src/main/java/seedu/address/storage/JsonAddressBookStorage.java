@@ -3,7 +3,9 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -12,6 +14,7 @@ import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
@@ -43,20 +46,39 @@ public class JsonAddressBookStorage implements AddressBookStorage {
      * @throws DataLoadingException if loading the data from storage failed.
      */
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        return readAddressBook(filePath, Map.of());
+    }
+
+    /**
+     * Similar to {@link #readAddressBook(Path)}, but also hands the value of each other top-level field named in
+     * {@code otherFieldReaders} to its reader.
+     */
+    protected Optional<ReadOnlyAddressBook> readAddressBook(Path filePath, Map<String, JsonUtil.FieldReader>
+            otherFieldReaders) throws DataLoadingException {
         requireNonNull(filePath);
+        requireNonNull(otherFieldReaders);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
+        logger.info("JSON file " + filePath + " found.");
 
+        // persons are converted in parallel as soon as they are parsed, so only a few are ever held in json form
+        ParallelPersonDecoder decoder = new ParallelPersonDecoder();
+        AddressBook addressBook = new AddressBook();
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            JsonSerializableAddressBook.readPersons(filePath, decoder::add, otherFieldReaders);
+            addressBook.setPersons(decoder.finish());
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
+        } finally {
+            decoder.cancel();
         }
+        return Optional.of(addressBook);
     }
 
     @Override
@@ -77,4 +99,16 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
     }
 
+    @Override
+    public PendingSave prepareSave(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+
+        JsonSerializableAddressBook snapshot = new JsonSerializableAddressBook(addressBook);
+        Path path = filePath;
+        return () -> {
+            FileUtil.createIfMissing(path);
+            JsonUtil.saveJsonFile(snapshot, path);
+        };
+    }
+
 }
@@ -1,34 +1,93 @@
 package seedu.address.storage;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
-import seedu.address.model.person.Person;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
+ * <p>
+ * The {@code formatVersion} field, saved before the persons, records the format the file is saved in. Files saved
+ * before that field was added have none, and are in {@link #LOAN_STRING_FORMAT_VERSION}.
  */
 @JsonRootName(value = "addressbook")
+@JsonPropertyOrder({JsonSerializableAddressBook.FORMAT_VERSION_FIELD})
 class JsonSerializableAddressBook {
 
+    /** The format with each person's loans saved as a single string. */
+    public static final int LOAN_STRING_FORMAT_VERSION = 1;
+    /** The format with each loan saved as a {@code JsonAdaptedLoan}, which this version of the app saves in. */
+    public static final int FORMAT_VERSION = 2;
+
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_UNKNOWN_FORMAT_VERSION = "Data file is in format %s, but only formats "
+            + LOAN_STRING_FORMAT_VERSION + " to " + FORMAT_VERSION + " can be read. It may have been saved by a newer"
+            + " version of the app.";
+    public static final String MESSAGE_FORMAT_VERSION_AFTER_PERSONS = "Data file's format version must come before"
+            + " its persons.";
+    public static final String FORMAT_VERSION_FIELD = "formatVersion";
+    public static final String PERSONS_FIELD = "persons";
+    public static final String JOURNAL_SEQUENCE_FIELD = "journalSequence";
 
+    private final int formatVersion;
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+    // the number of the last journal entry that this address book includes, if it is kept with a journal
+    @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+    private final long journalSequence;
 
     /**
-     * Constructs a {@code JsonSerializableAddressBook} with the given persons.
+     * Constructs a {@code JsonSerializableAddressBook} in format {@code formatVersion} with the given persons, which
+     * include every journal entry up to the one numbered {@code journalSequence}.
      */
     @JsonCreator
-    public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons) {
-        this.persons.addAll(persons);
+    public JsonSerializableAddressBook(@JsonProperty(FORMAT_VERSION_FIELD) Integer formatVersion,
+            @JsonProperty(PERSONS_FIELD) List<JsonAdaptedPerson> persons,
+            @JsonProperty(JOURNAL_SEQUENCE_FIELD) Long journalSequence) {
+        this.formatVersion = formatVersion == null ? LOAN_STRING_FORMAT_VERSION : formatVersion;
+        persons.forEach(person -> this.persons.add(person.inFormat(this.formatVersion)));
+        this.journalSequence = journalSequence == null ? 0 : journalSequence;
+    }
+
+    /**
+     * Constructs a {@code JsonSerializableAddressBook} with the given persons, which include every journal entry up
+     * to the one numbered {@code journalSequence}.
+     */
+    public JsonSerializableAddressBook(List<JsonAdaptedPerson> persons, Long journalSequence) {
+        this(FORMAT_VERSION, persons, journalSequence);
+    }
+
+    /**
+     * Constructs a {@code JsonSerializableAddressBook} with the given persons.
+     */
+    public JsonSerializableAddressBook(List<JsonAdaptedPerson> persons) {
+        this(persons, null);
+    }
+
+    /**
+     * Converts a given {@code ReadOnlyAddressBook}, which includes every journal entry up to the one numbered
+     * {@code journalSequence}, into this class for Jackson use.
+     *
+     * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
+     */
+    public JsonSerializableAddressBook(ReadOnlyAddressBook source, long journalSequence) {
+        formatVersion = FORMAT_VERSION;
+        persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
+        this.journalSequence = journalSequence;
     }
 
     /**
@@ -37,7 +96,7 @@ class JsonSerializableAddressBook {
      * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
-        persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
+        this(source, 0);
     }
 
     /**
@@ -46,15 +105,65 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        checkFormatVersion(formatVersion);
+        ParallelPersonDecoder decoder = new ParallelPersonDecoder();
+        try {
+            for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
+                decoder.add(jsonAdaptedPerson);
+            }
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(decoder.finish());
+            return addressBook;
+        } finally {
+            decoder.cancel();
+        }
+    }
+
+    /**
+     * Reads the address book file at {@code filePath} one field at a time, handing each person to
+     * {@code personHandler} as it is parsed, and the value of each other top-level field named in
+     * {@code otherFieldReaders} to its reader. Each person reads its loans as saved in the format of the file.
+     *
+     * @throws IOException if the file could not be read or is not a JSON object.
+     * @throws IllegalValueException if the file is in a format that cannot be read, or {@code personHandler}
+     *     rejected a person.
+     */
+    static void readPersons(Path filePath, JsonUtil.ElementHandler<JsonAdaptedPerson> personHandler,
+            Map<String, JsonUtil.FieldReader> otherFieldReaders) throws IOException, IllegalValueException {
+        FormatReader formatReader = new FormatReader();
+        Map<String, JsonUtil.FieldReader> fieldReaders = new HashMap<>(otherFieldReaders);
+        fieldReaders.put(FORMAT_VERSION_FIELD, JsonUtil.valueReader(Integer.class, formatReader::setFormatVersion));
+        fieldReaders.put(PERSONS_FIELD, JsonUtil.arrayReader(JsonAdaptedPerson.class,
+                person -> personHandler.handle(formatReader.inFormat(person))));
+        JsonUtil.readJsonObjectFields(filePath, fieldReaders);
+    }
+
+    private static void checkFormatVersion(Integer formatVersion) throws IllegalValueException {
+        if (formatVersion == null || formatVersion < LOAN_STRING_FORMAT_VERSION || formatVersion > FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_FORMAT_VERSION, formatVersion));
+        }
+    }
+
+    /**
+     * Keeps track of the format of a file as it is read, which must be known before its first person is.
+     */
+    private static class FormatReader {
+        // files saved before the format version was recorded have no version field at all
+        private int formatVersion = LOAN_STRING_FORMAT_VERSION;
+        private boolean hasReadPerson = false;
+
+        void setFormatVersion(Integer formatVersion) throws IllegalValueException {
+            if (hasReadPerson) {
+                throw new IllegalValueException(MESSAGE_FORMAT_VERSION_AFTER_PERSONS);
             }
-            addressBook.addPerson(person);
+            checkFormatVersion(formatVersion);
+            this.formatVersion = formatVersion;
+        }
+
+        JsonAdaptedPerson inFormat(JsonAdaptedPerson person) {
+            hasReadPerson = true;
+            return person.inFormat(formatVersion);
         }
-        return addressBook;
     }
 
 }
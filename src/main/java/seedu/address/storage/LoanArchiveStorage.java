@@ -0,0 +1,42 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ArchivedNameChange;
+import seedu.address.model.ReadOnlyLoanArchive;
+import seedu.address.model.person.Loan;
+import seedu.address.model.person.Name;
+
+/**
+ * Represents a storage for the loans that have been paid off, which only ever grows.
+ */
+public interface LoanArchiveStorage {
+
+    /**
+     * Returns the file path of the loan archive file.
+     */
+    Path getLoanArchiveFilePath();
+
+    /**
+     * Returns the archived loans as a {@link ReadOnlyLoanArchive}, which reads them from storage only when asked
+     * for them, and shows the loans archived later as well.
+     * Returns an empty archive if the storage file is not found.
+     *
+     * @throws DataLoadingException if the storage file is not a loan archive, or could not be read.
+     */
+    ReadOnlyLoanArchive readLoanArchive() throws DataLoadingException;
+
+    /**
+     * Moves or retires the loans archived under each name in {@code nameChanges}, in order, and then adds
+     * {@code loans} to the end of the archive, under the name of the person who paid them off.
+     * @param nameChanges cannot be null.
+     * @param loans cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void archiveLoans(List<ArchivedNameChange> nameChanges, Map<Name, List<Loan>> loans) throws IOException;
+
+}
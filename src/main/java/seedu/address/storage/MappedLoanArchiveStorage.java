@@ -0,0 +1,424 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ArchivedNameChange;
+import seedu.address.model.ReadOnlyLoanArchive;
+import seedu.address.model.person.Loan;
+import seedu.address.model.person.Name;
+
+/**
+ * A class to access the loans that have been paid off, kept in an append-only binary file on the hard disk.
+ * <p>
+ * The file starts with {@link #MAGIC} and the {@link #FORMAT_VERSION} it was written in, followed by the records.
+ * Each record starts with its kind: an archived loan has the name of the person who paid it off, written as in
+ * {@link BinaryAddressBookStorage}, followed by the loan's fixed-width record. A move has the name the loans were
+ * archived under followed by the name they are now archived under, and a retire has just the name of a deleted
+ * person. The loans archived under a name when it is retired are kept apart as the retired loans of that name, so
+ * that anyone given the name later starts without them. Records are only ever added to the end of the file. When
+ * the file is read, it is
+ * indexed a chunk at a time, cut back to the last whole record, and only then mapped into memory. Records added
+ * afterwards are kept on the heap instead of mapping the file again. Only the offset of each person's loans is kept
+ * in the index, so a loan is decoded only when it is asked for.
+ */
+public class MappedLoanArchiveStorage implements LoanArchiveStorage, ReadOnlyLoanArchive {
+
+    public static final int MAGIC = 0x53484B41; // "SHKA"
+    public static final int FORMAT_VERSION = 2;
+    public static final String DEFAULT_FILE_NAME = "paidloans.bin";
+
+    static final String MESSAGE_NOT_ARCHIVE = "Not a loan archive file.";
+    static final String MESSAGE_NEWER_VERSION = "Loan archive file is of version %1$d, newer than %2$d.";
+    static final String MESSAGE_OLDER_VERSION = "Loan archive file is of version %1$d, older than %2$d.";
+
+    static final int READ_CHUNK_SIZE = 1 << 16;
+
+    private static final int HEADER_SIZE = 2 * Integer.BYTES;
+    private static final byte LOAN_RECORD = 'L';
+    private static final byte MOVE_RECORD = 'M';
+    private static final byte RETIRE_RECORD = 'D'; // written when the person is deleted
+    private static final Logger logger = LogsCenter.getLogger(MappedLoanArchiveStorage.class);
+
+    private final Path filePath;
+
+    // the fields below describe the file as it was last read, and are only used while holding the lock on this
+    private final Map<Name, Offsets> offsetsByName = new HashMap<>();
+    private final Map<Name, Offsets> retiredOffsetsByName = new HashMap<>();
+    private ByteBuffer mapped = ByteBuffer.allocate(0);
+    // the records added since the file was mapped, written up to the position of the buffer
+    private ByteBuffer added = ByteBuffer.allocate(0);
+    private boolean isRead = false;
+
+    public MappedLoanArchiveStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getLoanArchiveFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public synchronized ReadOnlyLoanArchive readLoanArchive() throws DataLoadingException {
+        offsetsByName.clear();
+        retiredOffsetsByName.clear();
+        mapped = ByteBuffer.allocate(0);
+        added = ByteBuffer.allocate(0);
+        isRead = false;
+
+        if (!Files.exists(filePath)) {
+            isRead = true;
+            return this;
+        }
+        logger.info("Loan archive file " + filePath + " found.");
+
+        try {
+            long size;
+            int end;
+            try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+                size = channel.size();
+                end = index(channel);
+            }
+            if (end < size) {
+                // a record was being added when the app stopped, so the end of the file holds only part of it
+                logger.warning("Dropping the last " + (size - end) + " bytes of " + filePath
+                        + ", which do not make up a whole record.");
+                // cut off before the file is mapped, as a mapped file cannot be cut short on Windows
+                try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.WRITE)) {
+                    channel.truncate(end);
+                }
+            }
+            mapped = map(end);
+        } catch (IOException e) {
+            logger.warning("Error reading from loan archive file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataLoadingException(e);
+        }
+        isRead = true;
+        return this;
+    }
+
+    @Override
+    public synchronized void archiveLoans(List<ArchivedNameChange> nameChanges, Map<Name, List<Loan>> loans)
+            throws IOException {
+        requireAllNonNull(nameChanges, loans);
+        if (nameChanges.isEmpty() && loans.values().stream().allMatch(List::isEmpty)) {
+            return;
+        }
+        if (!isRead) {
+            try {
+                readLoanArchive();
+            } catch (DataLoadingException e) {
+                throw new IOException("Could not read loan archive file " + filePath, e);
+            }
+        }
+
+        int start = mapped.limit() + added.position();
+        BinaryAddressBookStorage.Encoder encoder = new BinaryAddressBookStorage.Encoder();
+        if (start == 0) {
+            encoder.putInt(MAGIC);
+            encoder.putInt(FORMAT_VERSION);
+        }
+
+        // a change is only written if some loans are archived under its name by the time it is made
+        Set<Name> namesWithLoans = new HashSet<>(offsetsByName.keySet());
+        List<ArchivedNameChange> changesWritten = new ArrayList<>();
+        // the offsets of the loans that each change written retires without them having been archived yet
+        List<Offsets> retiredLoanOffsets = new ArrayList<>();
+        for (ArchivedNameChange change : nameChanges) {
+            boolean hasLoans = namesWithLoans.remove(change.getName());
+            if (!hasLoans && change.getRetiredLoans().isEmpty()) {
+                continue;
+            }
+            Offsets offsets = new Offsets();
+            for (Loan loan : change.getRetiredLoans()) {
+                encoder.putByte(LOAN_RECORD);
+                encoder.putString(change.getName().fullName);
+                offsets.add(start + encoder.position());
+                encoder.putLoan(loan);
+            }
+            Optional<Name> newName = change.getNewName();
+            encoder.putByte(newName.isPresent() ? MOVE_RECORD : RETIRE_RECORD);
+            encoder.putString(change.getName().fullName);
+            if (newName.isPresent()) {
+                encoder.putString(newName.get().fullName);
+                namesWithLoans.add(newName.get());
+            }
+            changesWritten.add(change);
+            retiredLoanOffsets.add(offsets);
+        }
+
+        Map<Name, Offsets> newOffsets = new HashMap<>();
+        for (Map.Entry<Name, List<Loan>> entry : loans.entrySet()) {
+            for (Loan loan : entry.getValue()) {
+                encoder.putByte(LOAN_RECORD);
+                encoder.putString(entry.getKey().fullName);
+                newOffsets.computeIfAbsent(entry.getKey(), name -> new Offsets()).add(start + encoder.position());
+                encoder.putLoan(loan);
+            }
+        }
+        if (changesWritten.isEmpty() && newOffsets.isEmpty()) {
+            return;
+        }
+
+        ByteBuffer records = encoder.toByteBuffer();
+        FileUtil.createParentDirsOfFile(filePath);
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            while (records.hasRemaining()) {
+                channel.write(records);
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            isRead = false; // part of the records may have been written, so the file must be read again
+            throw e;
+        }
+
+        records.rewind();
+        addToHeap(records);
+        for (int i = 0; i < changesWritten.size(); i++) {
+            ArchivedNameChange change = changesWritten.get(i);
+            offsetsByName.computeIfAbsent(change.getName(), unused -> new Offsets()).addAll(retiredLoanOffsets.get(i));
+            applyNameChange(change.getName(), change.getNewName());
+        }
+        newOffsets.forEach((name, offsets) ->
+                offsetsByName.computeIfAbsent(name, unused -> new Offsets()).addAll(offsets));
+    }
+
+    @Override
+    public synchronized int getArchivedLoanCount(Name name) {
+        requireNonNull(name);
+        Offsets offsets = offsetsByName.get(name);
+        return offsets == null ? 0 : offsets.size();
+    }
+
+    @Override
+    public synchronized List<Loan> getArchivedLoans(Name name, int fromIndex, int maxCount) {
+        requireNonNull(name);
+        return getLoans(offsetsByName.get(name), fromIndex, maxCount);
+    }
+
+    @Override
+    public synchronized int getRetiredLoanCount(Name name) {
+        requireNonNull(name);
+        Offsets offsets = retiredOffsetsByName.get(name);
+        return offsets == null ? 0 : offsets.size();
+    }
+
+    @Override
+    public synchronized List<Loan> getRetiredLoans(Name name, int fromIndex, int maxCount) {
+        requireNonNull(name);
+        return getLoans(retiredOffsetsByName.get(name), fromIndex, maxCount);
+    }
+
+    /**
+     * Decodes at most {@code maxCount} of the loans at {@code offsets}, starting from the one at {@code fromIndex}.
+     */
+    private List<Loan> getLoans(Offsets offsets, int fromIndex, int maxCount) {
+        if (offsets == null || fromIndex < 0 || fromIndex >= offsets.size() || maxCount <= 0) {
+            return List.of();
+        }
+
+        int toIndex = (int) Math.min(offsets.size(), (long) fromIndex + maxCount);
+        List<Loan> loans = new ArrayList<>(toIndex - fromIndex);
+        for (int i = fromIndex; i < toIndex; i++) {
+            ByteBuffer record = getRecord(offsets.get(i));
+            try {
+                BinaryAddressBookStorage.getLoan(record).ifPresent(loans::add);
+            } catch (IllegalValueException e) {
+                logger.warning("Skipping archived loan of unknown type at " + offsets.get(i) + " of " + filePath);
+            }
+        }
+        return loans;
+    }
+
+    private MappedByteBuffer map(int size) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+    }
+
+    private void addToHeap(ByteBuffer records) {
+        if (added.remaining() < records.remaining()) {
+            ByteBuffer larger = ByteBuffer.allocate(Math.max(added.capacity() * 2,
+                    added.position() + records.remaining()));
+            added.flip();
+            larger.put(added);
+            added = larger;
+        }
+        added.put(records);
+    }
+
+    /**
+     * Returns a buffer positioned at {@code offset} of the file.
+     */
+    private ByteBuffer getRecord(int offset) {
+        if (offset < mapped.limit()) {
+            return mapped.duplicate().position(offset);
+        }
+        return added.duplicate().flip().position(offset - mapped.limit());
+    }
+
+    /**
+     * Moves the offsets of the loans archived under {@code name} to {@code newName}, or to the retired loans of
+     * {@code name} if it is empty.
+     */
+    private void applyNameChange(Name name, Optional<Name> newName) {
+        Offsets offsets = offsetsByName.remove(name);
+        if (offsets == null) {
+            return;
+        }
+        Map<Name, Offsets> movedTo = newName.isPresent() ? offsetsByName : retiredOffsetsByName;
+        movedTo.computeIfAbsent(newName.orElse(name), unused -> new Offsets()).addAll(offsets);
+    }
+
+    /**
+     * Applies every whole record in {@code channel} to the index, and returns where the last of them ends.
+     * The file is read a chunk at a time, so that none of it needs to be mapped yet.
+     *
+     * @throws IllegalValueException if {@code channel} is not a loan archive of a supported version.
+     */
+    private int index(FileChannel channel) throws IOException, IllegalValueException {
+        if (channel.size() == 0) {
+            return 0; // the header was never written
+        }
+
+        ByteBuffer chunk = ByteBuffer.allocate(READ_CHUNK_SIZE);
+        boolean isEndOfFile = fill(channel, chunk, 0);
+        chunk.flip();
+        if (chunk.limit() < HEADER_SIZE || chunk.getInt(0) != MAGIC) {
+            throw new IllegalValueException(MESSAGE_NOT_ARCHIVE);
+        }
+        int version = chunk.getInt(Integer.BYTES);
+        if (version > FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_NEWER_VERSION, version, FORMAT_VERSION));
+        }
+        if (version < FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_OLDER_VERSION, version, FORMAT_VERSION));
+        }
+
+        int chunkStart = 0; // where in the file the chunk starts
+        chunk.position(HEADER_SIZE);
+        int end = HEADER_SIZE;
+        while (true) {
+            int recordStart = chunk.position();
+            byte kind;
+            String name;
+            String newName = null;
+            int loanOffset = -1;
+            try {
+                kind = chunk.get();
+                name = BinaryAddressBookStorage.getString(chunk);
+                if (kind == LOAN_RECORD) {
+                    if (chunk.remaining() < BinaryAddressBookStorage.Encoder.LOAN_SIZE) {
+                        throw new BufferUnderflowException();
+                    }
+                    loanOffset = chunkStart + chunk.position();
+                    chunk.position(chunk.position() + BinaryAddressBookStorage.Encoder.LOAN_SIZE);
+                } else if (kind == MOVE_RECORD) {
+                    newName = BinaryAddressBookStorage.getString(chunk);
+                } else if (kind != RETIRE_RECORD) {
+                    throw new IllegalValueException(BinaryAddressBookStorage.MESSAGE_CORRUPTED);
+                }
+            } catch (IllegalValueException | BufferUnderflowException e) {
+                if (isEndOfFile) {
+                    break;
+                }
+                // the record may go on past the chunk, so read on from where it starts
+                chunkStart += recordStart;
+                chunk.position(recordStart).compact();
+                if (!chunk.hasRemaining()) {
+                    chunk = ByteBuffer.allocate(chunk.capacity() * 2).put(chunk.flip());
+                }
+                isEndOfFile = fill(channel, chunk, chunkStart + chunk.position());
+                chunk.flip();
+                continue;
+            }
+            end = chunkStart + chunk.position();
+
+            if (!Name.isValidName(name) || (newName != null && !Name.isValidName(newName))) {
+                logger.warning("Skipping archive record with an invalid name at " + (chunkStart + recordStart)
+                        + " of " + filePath);
+                continue;
+            }
+            if (kind == LOAN_RECORD) {
+                offsetsByName.computeIfAbsent(new Name(name), unused -> new Offsets()).add(loanOffset);
+            } else {
+                applyNameChange(new Name(name), Optional.ofNullable(newName).map(Name::new));
+            }
+        }
+        return end;
+    }
+
+    /**
+     * Reads from {@code channel}, starting at {@code position}, until {@code chunk} is full.
+     *
+     * @return true if the end of the file was reached first.
+     */
+    private static boolean fill(FileChannel channel, ByteBuffer chunk, long position) throws IOException {
+        long readPosition = position;
+        while (chunk.hasRemaining()) {
+            int read = channel.read(chunk, readPosition);
+            if (read == -1) {
+                return true;
+            }
+            readPosition += read;
+        }
+        return false;
+    }
+
+    /**
+     * The offsets of one person's records, kept as ints rather than boxed so that the index stays small.
+     */
+    private static class Offsets {
+        private int[] values = new int[4];
+        private int size = 0;
+
+        void add(int offset) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = offset;
+        }
+
+        void addAll(Offsets other) {
+            for (int i = 0; i < other.size; i++) {
+                add(other.values[i]);
+            }
+        }
+
+        int get(int index) {
+            return values[index];
+        }
+
+        int size() {
+            return size;
+        }
+    }
+}
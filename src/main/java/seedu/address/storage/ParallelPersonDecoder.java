@@ -0,0 +1,146 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import seedu.address.commons.core.EvaluationDate;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * Converts adapted persons into the model's {@code Person} objects on a {@code ForkJoinPool}, while the rest of
+ * them are still being read.
+ * <p>
+ * Persons are handed to the pool in chunks of {@link #CHUNK_SIZE}, and each chunk is validated and converted by a
+ * single task. Finished chunks are merged one at a time in the order they were given, which is where duplicates are
+ * found, so that persons keep their order and an error is reported for the first person that a sequential
+ * conversion would have failed on. Only a few chunks per thread of the pool are converted at once, which bounds the
+ * number of persons held in their adapted form. Loans are converted as of the date seen by the thread that
+ * created the decoder.
+ */
+class ParallelPersonDecoder {
+
+    public static final int CHUNK_SIZE = 256;
+
+    private final ForkJoinPool pool;
+    private final LocalDate today;
+    private final int maxChunksInFlight;
+    private final Deque<ForkJoinTask<DecodedChunk>> chunksInFlight = new ArrayDeque<>();
+    private final List<Person> persons = new ArrayList<>();
+    private final Set<Name> names = new HashSet<>();
+    private List<JsonAdaptedPerson> nextChunk = new ArrayList<>(CHUNK_SIZE);
+
+    /**
+     * Creates a decoder that converts persons on the common pool.
+     */
+    ParallelPersonDecoder() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a decoder that converts persons on {@code pool}.
+     */
+    ParallelPersonDecoder(ForkJoinPool pool) {
+        requireNonNull(pool);
+        this.pool = pool;
+        this.today = EvaluationDate.today();
+        this.maxChunksInFlight = 2 * pool.getParallelism();
+    }
+
+    /**
+     * Adds {@code person} as the next person to convert.
+     *
+     * @throws IllegalValueException if a person given earlier violates data constraints, or is a duplicate.
+     */
+    void add(JsonAdaptedPerson person) throws IllegalValueException {
+        requireNonNull(person);
+        nextChunk.add(person);
+        if (nextChunk.size() == CHUNK_SIZE) {
+            submitNextChunk();
+        }
+    }
+
+    /**
+     * Returns every person given, converted and in the order they were given.
+     *
+     * @throws IllegalValueException if any person violates data constraints, or two persons are duplicates.
+     */
+    List<Person> finish() throws IllegalValueException {
+        submitNextChunk();
+        while (!chunksInFlight.isEmpty()) {
+            mergeOldestChunk();
+        }
+        return persons;
+    }
+
+    /**
+     * Stops converting the persons given so far, after the reading of them has failed.
+     */
+    void cancel() {
+        chunksInFlight.forEach(chunk -> chunk.cancel(false));
+        chunksInFlight.clear();
+    }
+
+    private void submitNextChunk() throws IllegalValueException {
+        if (nextChunk.isEmpty()) {
+            return;
+        }
+        List<JsonAdaptedPerson> chunk = nextChunk;
+        nextChunk = new ArrayList<>(CHUNK_SIZE);
+        chunksInFlight.addLast(pool.submit(() -> decode(chunk, today)));
+
+        if (chunksInFlight.size() > maxChunksInFlight) {
+            mergeOldestChunk();
+        }
+    }
+
+    private void mergeOldestChunk() throws IllegalValueException {
+        DecodedChunk chunk = chunksInFlight.removeFirst().join();
+        for (Person person : chunk.persons) {
+            if (!names.add(person.getName())) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            persons.add(person);
+        }
+        if (chunk.error != null) {
+            throw chunk.error;
+        }
+    }
+
+    private static DecodedChunk decode(List<JsonAdaptedPerson> chunk, LocalDate today) {
+        List<Person> decoded = new ArrayList<>(chunk.size());
+        try (EvaluationDate.Snapshot snapshot = EvaluationDate.pin(today)) {
+            for (JsonAdaptedPerson person : chunk) {
+                try {
+                    decoded.add(person.toModelType());
+                } catch (IllegalValueException e) {
+                    return new DecodedChunk(decoded, e);
+                }
+            }
+        }
+        return new DecodedChunk(decoded, null);
+    }
+
+    /**
+     * The persons of a chunk converted before the first one that failed, if any did, and why it failed.
+     */
+    private static class DecodedChunk {
+        private final List<Person> persons;
+        private final IllegalValueException error;
+
+        DecodedChunk(List<Person> persons, IllegalValueException error) {
+            this.persons = persons;
+            this.error = error;
+        }
+    }
+}
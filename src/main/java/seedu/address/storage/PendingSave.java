@@ -0,0 +1,24 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+
+/**
+ * A save that has captured everything it needs from the model, and can be written later on any thread.
+ */
+@FunctionalInterface
+public interface PendingSave {
+
+    /**
+     * Writes the captured data to the storage.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void write() throws IOException;
+
+    /**
+     * Returns a save with the combined effect of writing this save and then {@code newer}.
+     * By default the newer save is assumed to hold the complete state, so this save is dropped.
+     */
+    default PendingSave mergeWith(PendingSave newer) {
+        return newer;
+    }
+}
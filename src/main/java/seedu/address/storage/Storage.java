@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
 
+import seedu.address.commons.core.AddressBookFormat;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
@@ -12,7 +13,7 @@ import seedu.address.model.UserPrefs;
 /**
  * API of the Storage component
  */
-public interface Storage extends AddressBookStorage, UserPrefsStorage {
+public interface Storage extends AddressBookStorage, UserPrefsStorage, LoanArchiveStorage {
 
     @Override
     Optional<UserPrefs> readUserPrefs() throws DataLoadingException;
@@ -29,4 +30,25 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Blocks until every save handed to this storage so far has been written.
+     * @throws IOException if the last of those saves could not be written.
+     */
+    void flush() throws IOException;
+
+    /**
+     * Reports a save that could not be written in the background since it was last reported, and tries to write it
+     * again in the background.
+     * @throws IOException if such a save could not be written.
+     */
+    void checkSaves() throws IOException;
+
+    /**
+     * Saves all of {@code addressBook} to {@code filePath} in {@code format}, and keeps the address book there from
+     * then on. The file used before is left as it was.
+     * @throws IOException if the address book could not be saved to {@code filePath}, in which case the file used
+     *     before is still used.
+     */
+    void moveAddressBook(ReadOnlyAddressBook addressBook, AddressBookFormat format, Path filePath) throws IOException;
+
 }
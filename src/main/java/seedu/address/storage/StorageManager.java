@@ -2,30 +2,65 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import seedu.address.commons.core.AddressBookFormat;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.ArchivedNameChange;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyLoanArchive;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Loan;
+import seedu.address.model.person.Name;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ * Changes to the address book are passed on to the address book storage in use, if it listens for them.
  */
-public class StorageManager implements Storage {
+public class StorageManager implements Storage, AddressBookChange.Listener {
 
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
-    private AddressBookStorage addressBookStorage;
+    private volatile AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private LoanArchiveStorage loanArchiveStorage;
 
     /**
-     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}, which
+     * archives paid off loans next to the address book file.
      */
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
+        this(addressBookStorage, userPrefsStorage, new MappedLoanArchiveStorage(addressBookStorage
+                .getAddressBookFilePath().resolveSibling(MappedLoanArchiveStorage.DEFAULT_FILE_NAME)));
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage}, {@code UserPrefStorage} and
+     * {@code LoanArchiveStorage}.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+                          LoanArchiveStorage loanArchiveStorage) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.loanArchiveStorage = loanArchiveStorage;
+    }
+
+    /**
+     * Returns a storage that keeps the address book at {@code filePath} in {@code format}.
+     */
+    public static AddressBookStorage createAddressBookStorage(AddressBookFormat format, Path filePath) {
+        switch (format) {
+        case BINARY:
+            return new BinaryAddressBookStorage(filePath);
+        case JSON:
+        default:
+            return new JournaledAddressBookStorage(filePath);
+        }
     }
 
     // ================ UserPrefs methods ==============================
@@ -75,4 +110,60 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public PendingSave prepareSave(ReadOnlyAddressBook addressBook) {
+        return addressBookStorage.prepareSave(addressBook);
+    }
+
+    @Override
+    public void moveAddressBook(ReadOnlyAddressBook addressBook, AddressBookFormat format, Path filePath)
+            throws IOException {
+        logger.info("Moving address book to " + format + " file: " + filePath);
+        AddressBookStorage movedStorage = createAddressBookStorage(format, filePath);
+        if (movedStorage instanceof JournaledAddressBookStorage) {
+            // whatever is already at the new location is out of date, so it must not be journaled on top of
+            ((JournaledAddressBookStorage) movedStorage).requestSnapshot();
+        }
+        movedStorage.saveAddressBook(addressBook);
+        addressBookStorage = movedStorage;
+    }
+
+    // ================ LoanArchive methods ==============================
+
+    @Override
+    public Path getLoanArchiveFilePath() {
+        return loanArchiveStorage.getLoanArchiveFilePath();
+    }
+
+    @Override
+    public ReadOnlyLoanArchive readLoanArchive() throws DataLoadingException {
+        logger.fine("Attempting to read loan archive file: " + getLoanArchiveFilePath());
+        return loanArchiveStorage.readLoanArchive();
+    }
+
+    @Override
+    public void archiveLoans(List<ArchivedNameChange> nameChanges, Map<Name, List<Loan>> loans)
+            throws IOException {
+        logger.fine("Attempting to write to loan archive file: " + getLoanArchiveFilePath());
+        loanArchiveStorage.archiveLoans(nameChanges, loans);
+    }
+
+    @Override
+    public void onChange(AddressBookChange change) {
+        AddressBookStorage currentStorage = addressBookStorage;
+        if (currentStorage instanceof AddressBookChange.Listener) {
+            ((AddressBookChange.Listener) currentStorage).onChange(change);
+        }
+    }
+
+    @Override
+    public void flush() {
+        // every save is written before it returns, so there is nothing left to wait for
+    }
+
+    @Override
+    public void checkSaves() throws IOException {
+        // every save is written before it returns, and reports its own failure
+    }
+
 }
@@ -0,0 +1,251 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.AddressBookFormat;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ArchivedNameChange;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyLoanArchive;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Loan;
+import seedu.address.model.person.Name;
+
+/**
+ * Wraps another {@code Storage} so that address book saves are written by a background thread.
+ * <p>
+ * Saving only captures the data to be written, then returns. Saves that arrive while an earlier one is still being
+ * written are merged, so a burst of saves results in a single write of the newest state. A failed write is kept and
+ * retried by the next save or {@link #checkSaves()}, which reports its error.
+ */
+public class WriteBehindStorage implements Storage {
+
+    public static final String MESSAGE_EARLIER_SAVE_FAILED =
+            "An earlier change could not be saved, and saving it is being retried: %s";
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindStorage.class);
+
+    private final Storage storage;
+    private final ExecutorService writer;
+
+    // guards the fields below
+    private final Object lock = new Object();
+    private PendingSave queuedSave = null;
+    private IOException failure = null;
+    private boolean isWriting = false;
+
+    /**
+     * Creates a {@code WriteBehindStorage} that writes address book saves to {@code storage} in the background.
+     */
+    public WriteBehindStorage(Storage storage) {
+        this(storage, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-writer");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    /**
+     * Creates a {@code WriteBehindStorage} that writes address book saves to {@code storage} on {@code writer},
+     * which must run one task at a time.
+     */
+    WriteBehindStorage(Storage storage, ExecutorService writer) {
+        requireNonNull(storage);
+        requireNonNull(writer);
+        this.storage = storage;
+        this.writer = writer;
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataLoadingException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        storage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ AddressBook methods ==============================
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return storage.readAddressBook();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        return storage.readAddressBook(filePath);
+    }
+
+    /**
+     * Hands {@code addressBook} to the background writer and returns without waiting for it to be written.
+     *
+     * @throws IOException if an earlier save could not be written. The current save is still queued, and is
+     *     written together with the earlier one.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        enqueue(storage.prepareSave(addressBook));
+    }
+
+    /**
+     * Saves to {@code filePath} right away, unless it is the file that background saves are written to.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(filePath);
+        if (filePath.equals(getAddressBookFilePath())) {
+            saveAddressBook(addressBook);
+            return;
+        }
+        storage.saveAddressBook(addressBook, filePath);
+    }
+
+    @Override
+    public PendingSave prepareSave(ReadOnlyAddressBook addressBook) {
+        return storage.prepareSave(addressBook);
+    }
+
+    /**
+     * Waits for the queued saves to be written to the current file before moving the address book.
+     */
+    @Override
+    public void moveAddressBook(ReadOnlyAddressBook addressBook, AddressBookFormat format, Path filePath)
+            throws IOException {
+        flush();
+        storage.moveAddressBook(addressBook, format, filePath);
+    }
+
+    // ================ LoanArchive methods ==============================
+
+    @Override
+    public Path getLoanArchiveFilePath() {
+        return storage.getLoanArchiveFilePath();
+    }
+
+    @Override
+    public ReadOnlyLoanArchive readLoanArchive() throws DataLoadingException {
+        return storage.readLoanArchive();
+    }
+
+    /**
+     * Updates the archive before returning, as the address book being saved no longer holds {@code loans}.
+     */
+    @Override
+    public void archiveLoans(List<ArchivedNameChange> nameChanges, Map<Name, List<Loan>> loans)
+            throws IOException {
+        storage.archiveLoans(nameChanges, loans);
+    }
+
+    private void enqueue(PendingSave save) throws IOException {
+        synchronized (lock) {
+            queuedSave = queuedSave == null ? save : queuedSave.mergeWith(save);
+        }
+        checkSaves();
+    }
+
+    /**
+     * Starts writing the queued saves again if a write failed, and reports that failure.
+     */
+    @Override
+    public void checkSaves() throws IOException {
+        IOException previousFailure;
+        synchronized (lock) {
+            previousFailure = failure;
+            failure = null;
+            if (queuedSave != null && !isWriting) {
+                isWriting = true;
+                writer.execute(this::writeQueuedSaves);
+            }
+        }
+
+        if (previousFailure != null) {
+            throw new IOException(String.format(MESSAGE_EARLIER_SAVE_FAILED, previousFailure.getMessage()),
+                    previousFailure);
+        }
+    }
+
+    /**
+     * Writes queued saves until there are none left, or until one of them fails.
+     */
+    private void writeQueuedSaves() {
+        while (true) {
+            PendingSave save;
+            synchronized (lock) {
+                if (queuedSave == null) {
+                    isWriting = false;
+                    lock.notifyAll();
+                    return;
+                }
+                save = queuedSave;
+                queuedSave = null;
+            }
+
+            try {
+                save.write();
+            } catch (IOException | RuntimeException e) {
+                logger.warning("Could not save data in the background: " + e.getMessage());
+                synchronized (lock) {
+                    // keep the failed save ahead of anything queued since, to be retried with the next save
+                    queuedSave = queuedSave == null ? save : save.mergeWith(queuedSave);
+                    failure = e instanceof IOException ? (IOException) e : new IOException(e);
+                    isWriting = false;
+                    lock.notifyAll();
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Waits for the background writer to finish, then retries any save it could not write on this thread.
+     */
+    @Override
+    public void flush() throws IOException {
+        PendingSave remainingSave;
+        synchronized (lock) {
+            while (isWriting) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while waiting for saves to finish");
+                }
+            }
+            remainingSave = queuedSave;
+            queuedSave = null;
+            failure = null;
+        }
+
+        if (remainingSave != null) {
+            remainingSave.write();
+        }
+        storage.flush();
+    }
+}
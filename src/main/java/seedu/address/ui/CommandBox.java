@@ -1,12 +1,13 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
+
+import javafx.beans.property.ReadOnlyBooleanProperty;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.Region;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
@@ -17,18 +18,29 @@ public class CommandBox extends UiPart<Region> {
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
+    private final LiveFind liveFind;
+    private final ReadOnlyBooleanProperty isCommandRunning;
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor}, which filters the person list with
+     * {@code liveFind} while a {@code find} command is being typed. The person list is not filtered while
+     * {@code isCommandRunning} is true, since the model must not be touched until the command is done.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, LiveFind liveFind, ReadOnlyBooleanProperty isCommandRunning) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.liveFind = liveFind;
+        this.isCommandRunning = isCommandRunning;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
-        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        commandTextField.textProperty().addListener((unused1, unused2, newText) -> {
+            setStyleToDefault();
+            if (!isCommandRunning.get()) {
+                liveFind.handleTextChanged(newText);
+            }
+        });
     }
 
     /**
@@ -41,12 +53,18 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
-        }
+        liveFind.cancel();
+        commandExecutor.execute(commandText).whenComplete((commandResult, error) -> {
+            if (error == null && commandTextField.getText().equals(commandText)) {
+                commandTextField.setText("");
+            } else if (!isCommandRunning.get()) {
+                // the text may have been changed while the command was running, without being searched for
+                liveFind.handleTextChanged(commandTextField.getText());
+            }
+            if (error != null) {
+                setStyleToIndicateCommandFailure();
+            }
+        });
     }
 
     /**
@@ -75,11 +93,12 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Starts executing the command, and returns the result, which completes on the JavaFX thread. The result
+         * fails with a {@code CommandException} or {@code ParseException} if the command could not be executed.
          *
-         * @see seedu.address.logic.Logic#execute(String)
+         * @see CommandRunner#run(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        CompletableFuture<CommandResult> execute(String commandText);
     }
 
 }
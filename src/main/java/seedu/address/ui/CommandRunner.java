@@ -0,0 +1,170 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs commands on a background thread, so that the window stays responsive while a command is parsed, executed
+ * and saved.
+ * <p>
+ * One command runs at a time, and a command entered while another is running is turned down. Once a command is
+ * done, {@code afterCommand} is run and the result is handed back on the JavaFX thread. Until then, the JavaFX
+ * thread must not touch the model, and shows only the copies of it kept by {@link ModelMirror}. Anything else that
+ * uses the model is held back by {@link #runWhenIdle(Runnable)} until then.
+ */
+public class CommandRunner {
+
+    public static final String MESSAGE_BUSY = "Still running \"%1$s\", please wait for it to finish.";
+    public static final String MESSAGE_UNEXPECTED_ERROR = "Something went wrong while running \"%1$s\": %2$s";
+
+    private static final long STOP_TIMEOUT_SECONDS = 30;
+    private static final Logger logger = LogsCenter.getLogger(CommandRunner.class);
+
+    private final CommandLogic logic;
+    private final Runnable afterCommand;
+    private final ExecutorService executor;
+    private final Consumer<Runnable> resultPoster;
+
+    // the fields below are only used on the thread that calls the public methods
+    private final ReadOnlyBooleanWrapper isRunning = new ReadOnlyBooleanWrapper(false);
+    private final List<Runnable> tasksWaiting = new ArrayList<>();
+    private String runningCommandText;
+
+    /**
+     * Creates a {@code CommandRunner} that executes commands with {@code logic} on a background thread, and runs
+     * {@code afterCommand} on the JavaFX thread after each of them.
+     */
+    public CommandRunner(CommandLogic logic, Runnable afterCommand) {
+        this(logic, afterCommand, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "command-runner");
+            thread.setDaemon(true);
+            return thread;
+        }), Platform::runLater);
+    }
+
+    /**
+     * Creates a {@code CommandRunner} that executes commands on {@code executor}, and hands each result to
+     * {@code resultPoster} to be completed on the thread that calls the public methods.
+     */
+    CommandRunner(CommandLogic logic, Runnable afterCommand, ExecutorService executor,
+                  Consumer<Runnable> resultPoster) {
+        requireNonNull(logic);
+        requireNonNull(afterCommand);
+        requireNonNull(executor);
+        requireNonNull(resultPoster);
+        this.logic = logic;
+        this.afterCommand = afterCommand;
+        this.executor = executor;
+        this.resultPoster = resultPoster;
+    }
+
+    /**
+     * Starts executing {@code commandText}, unless another command is still running.
+     *
+     * @return the result of the command, which completes on the thread that calls the public methods, or fails with
+     *     a {@code CommandException} or {@code ParseException} if the command could not be executed.
+     */
+    public CompletableFuture<CommandResult> run(String commandText) {
+        requireNonNull(commandText);
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        if (isRunning.get()) {
+            result.completeExceptionally(new CommandException(String.format(MESSAGE_BUSY, runningCommandText)));
+            return result;
+        }
+
+        runningCommandText = commandText;
+        isRunning.set(true);
+        executor.execute(() -> {
+            try {
+                CommandResult commandResult = logic.execute(commandText);
+                resultPoster.accept(() -> finish(result, commandResult, null));
+            } catch (CommandException | ParseException e) {
+                resultPoster.accept(() -> finish(result, null, e));
+            } catch (RuntimeException e) {
+                logger.severe("Unexpected error while running command " + commandText + ": " + e);
+                CommandException error = new CommandException(String.format(MESSAGE_UNEXPECTED_ERROR, commandText,
+                        e), e);
+                resultPoster.accept(() -> finish(result, null, error));
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Runs {@code task}, which uses the model, on the thread that calls the public methods: right away if no command
+     * is running, and otherwise as soon as the running command is done, before its result is handed back.
+     */
+    public void runWhenIdle(Runnable task) {
+        requireNonNull(task);
+        if (isRunning.get()) {
+            tasksWaiting.add(task);
+        } else {
+            task.run();
+        }
+    }
+
+    /**
+     * Returns true while a command is running.
+     */
+    public ReadOnlyBooleanProperty isRunningProperty() {
+        return isRunning.getReadOnlyProperty();
+    }
+
+    /**
+     * Waits for the running command, if any, to finish executing, and stops taking commands.
+     */
+    public void stop() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(STOP_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("Gave up waiting for command " + runningCommandText + " to finish.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void finish(CompletableFuture<CommandResult> result, CommandResult commandResult, Exception error) {
+        afterCommand.run();
+        runningCommandText = null;
+        isRunning.set(false);
+        // tasks may be held back by afterCommand too, so they are only taken once it is done
+        List<Runnable> tasks = new ArrayList<>(tasksWaiting);
+        tasksWaiting.clear();
+        tasks.forEach(Runnable::run);
+        if (error == null) {
+            result.complete(commandResult);
+        } else {
+            result.completeExceptionally(error);
+        }
+    }
+
+    /**
+     * Represents a function that executes commands on the thread that calls it.
+     */
+    @FunctionalInterface
+    public interface CommandLogic {
+        /**
+         * Executes the command and returns the result.
+         *
+         * @see seedu.address.logic.Logic#execute(String)
+         */
+        CommandResult execute(String commandText) throws CommandException, ParseException;
+    }
+}
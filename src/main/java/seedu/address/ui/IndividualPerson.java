@@ -1,8 +1,10 @@
 package seedu.address.ui;
 
+import java.time.LocalDate;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Map;
 
-import javafx.application.Platform;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
@@ -11,11 +13,15 @@ import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.Region;
+import seedu.address.commons.core.EvaluationDate;
 import seedu.address.model.person.Loan;
 import seedu.address.model.person.Person;
 
 /**
  * Controller for individual person card
+ * <p>
+ * The loans are shown in a list view, which only makes cards for the loans in view. The text of each loan is
+ * worked out when the loan first comes into view, and kept for when it does so again.
  */
 public class IndividualPerson extends UiPart<Region> {
 
@@ -23,6 +29,8 @@ public class IndividualPerson extends UiPart<Region> {
 
     private final MainWindow mainWindow;
     private final ObservableList<Person> personList;
+    private final ListChangeListener<Person> personListListener = this::handlePersonListChanged;
+    private final Map<Loan, LoanDetails> loanDetails = new IdentityHashMap<>();
     private Person person;
     private final int displayedIndex;
 
@@ -47,30 +55,60 @@ public class IndividualPerson extends UiPart<Region> {
         this.displayedIndex = displayedIndex;
         this.person = personList.get(displayedIndex - 1); // Initialize person
 
-        Platform.runLater(() -> initialize());
+        updatePersonDetails();
+        loanListView.setCellFactory(listView -> new LoanListViewCell());
+        loanListView.setItems(mainWindow.getModelMirror().getLoans(person));
+        personList.addListener(personListListener);
     }
 
-    private void initialize() {
-        updatePersonDetails();
-        initializeLoanListView();
-
-        personList.addListener((ListChangeListener<Person>) change -> {
-            while (change.next()) {
-                if (change.getFrom() <= displayedIndex - 1 && change.getTo() > displayedIndex - 1) {
-                    this.person = personList.get(displayedIndex - 1);
-                    updatePersonDetails();
-                    loanListView.setItems(person.getLoanList().getLoans());
-                }
+    /**
+     * Stops following changes to the person list and to the loans shown, so that this page can be garbage collected
+     * once it is left.
+     */
+    public void dispose() {
+        personList.removeListener(personListListener);
+        mainWindow.getModelMirror().releaseLoans(person);
+    }
+
+    private void handlePersonListChanged(ListChangeListener.Change<? extends Person> change) {
+        int zeroBasedIndex = displayedIndex - 1;
+        if (zeroBasedIndex >= personList.size()) { // the person is no longer there to be shown
+            mainWindow.switchToPersonPage();
+            return;
+        }
+        while (change.next()) {
+            if (change.getFrom() <= zeroBasedIndex && change.getTo() > zeroBasedIndex) {
+                Person shownBefore = person;
+                this.person = personList.get(zeroBasedIndex);
+                updatePersonDetails();
+                loanListView.setItems(mainWindow.getModelMirror().getLoans(person));
+                mainWindow.getModelMirror().releaseLoans(shownBefore);
+                return;
             }
-        });
+        }
     }
 
-    private void initializeLoanListView() {
-        loanListView.setItems(person.getLoanList().getLoans());
-        loanListView.setCellFactory(listView -> new LoanListViewCell());
+    /**
+     * Returns the text to show for {@code loan}, working it out only if it has not been worked out since the loan
+     * or the day last changed.
+     */
+    private LoanDetails getDetails(Loan loan) {
+        LocalDate today = EvaluationDate.today();
+        LoanDetails details = loanDetails.get(loan);
+        if (details == null || !details.isUpToDate(loan, today)) {
+            details = LoanDetails.of(loan);
+            loanDetails.put(loan, details);
+        }
+        return details;
     }
 
+    /**
+     * Custom {@code ListCell} that displays a {@code Loan} using a {@code LoanIndiv} it keeps for every loan it
+     * shows, numbered by the position of the cell.
+     */
     class LoanListViewCell extends ListCell<Loan> {
+        private LoanIndiv loanCard;
+
         @Override
         protected void updateItem(Loan loan, boolean empty) {
             super.updateItem(loan, empty);
@@ -78,13 +116,18 @@ public class IndividualPerson extends UiPart<Region> {
             if (empty || loan == null) {
                 setGraphic(null);
                 setText(null);
+                return;
+            }
+
+            if (loanCard == null) {
+                loanCard = new LoanIndiv(getDetails(loan), getIndex() + 1);
             } else {
-                setGraphic(new LoanIndiv(person.getLoanList().getLoans(), loan).getRoot());
+                loanCard.setLoan(getDetails(loan), getIndex() + 1);
             }
+            setGraphic(loanCard.getRoot());
         }
     }
 
-
     private void updatePersonDetails() {
         id.setText(displayedIndex + ". ");
         name.setText(person.getName().fullName);
@@ -0,0 +1,138 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.application.Platform;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+
+/**
+ * Filters the person list by name while a {@code find} command is being typed, before Enter is pressed.
+ * <p>
+ * A preview is shown only once typing has paused for {@link #DEBOUNCE_MILLIS}, which is timed off the JavaFX
+ * thread. Each change to the text makes every preview scheduled before it outdated, and an outdated preview is never
+ * shown. Names are matched the same way as the {@code find} command matches them once Enter is pressed, through the
+ * name index of the model, so the persons shown follow later changes to the person list on their own.
+ */
+public class LiveFind {
+
+    public static final long DEBOUNCE_MILLIS = 150;
+
+    private static final String FIND_PREFIX = FindCommand.COMMAND_WORD + " ";
+    private static final Logger logger = LogsCenter.getLogger(LiveFind.class);
+
+    private final Consumer<NameContainsKeywordsPredicate> nameFilterUpdater;
+    private final Runnable filterClearer;
+    private final ScheduledExecutorService executor;
+    private final Consumer<Runnable> resultPoster;
+
+    // the number of the latest change to the text, which is the only preview that may be shown
+    private final AtomicLong generation = new AtomicLong();
+
+    // the fields below are only used on the thread that calls the public methods
+    private ScheduledFuture<?> pendingPreview;
+    private boolean isFiltering;
+
+    /**
+     * Creates a {@code LiveFind} that passes the names to filter by to {@code nameFilterUpdater}, and asks
+     * {@code filterClearer} to show every person again, on the JavaFX thread.
+     */
+    public LiveFind(Consumer<NameContainsKeywordsPredicate> nameFilterUpdater, Runnable filterClearer) {
+        this(nameFilterUpdater, filterClearer, Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "live-find");
+            thread.setDaemon(true);
+            return thread;
+        }), Platform::runLater);
+    }
+
+    /**
+     * Creates a {@code LiveFind} that times previews on {@code executor} and hands each of them to
+     * {@code resultPoster} to be shown on the thread that calls the public methods.
+     */
+    LiveFind(Consumer<NameContainsKeywordsPredicate> nameFilterUpdater, Runnable filterClearer,
+             ScheduledExecutorService executor, Consumer<Runnable> resultPoster) {
+        requireNonNull(nameFilterUpdater);
+        requireNonNull(filterClearer);
+        requireNonNull(executor);
+        requireNonNull(resultPoster);
+        this.nameFilterUpdater = nameFilterUpdater;
+        this.filterClearer = filterClearer;
+        this.executor = executor;
+        this.resultPoster = resultPoster;
+    }
+
+    /**
+     * Schedules a preview of the names in {@code commandText} if it is a {@code find} command, in place of any
+     * preview still pending. Shows every person again if the text stopped being a {@code find} command.
+     */
+    public void handleTextChanged(String commandText) {
+        long previewGeneration = generation.incrementAndGet();
+        cancelPendingPreview();
+
+        Optional<NameContainsKeywordsPredicate> predicate = parse(commandText);
+        if (predicate.isEmpty()) {
+            if (isFiltering) {
+                isFiltering = false;
+                filterClearer.run();
+            }
+            return;
+        }
+
+        pendingPreview = executor.schedule(() -> resultPoster.accept(() -> showPreview(previewGeneration,
+                predicate.get())), DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops any preview that has not been shown yet, and leaves the person list as it is.
+     * Called before the typed command is executed, so that no preview replaces the result of the command.
+     */
+    public void cancel() {
+        generation.incrementAndGet();
+        cancelPendingPreview();
+        isFiltering = false;
+    }
+
+    /**
+     * Returns the predicate that {@code commandText} would filter by if it were executed, in the same way as
+     * {@code FindCommandParser}.
+     */
+    private static Optional<NameContainsKeywordsPredicate> parse(String commandText) {
+        String strippedText = commandText.stripLeading();
+        if (!strippedText.startsWith(FIND_PREFIX)) {
+            return Optional.empty();
+        }
+        String keywords = strippedText.substring(FIND_PREFIX.length()).trim();
+        if (keywords.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(new NameContainsKeywordsPredicate(Arrays.asList(keywords.split("\\s+"))));
+    }
+
+    private void showPreview(long previewGeneration, NameContainsKeywordsPredicate predicate) {
+        if (generation.get() != previewGeneration) {
+            return;
+        }
+        logger.fine("Live find previewing " + predicate);
+
+        isFiltering = true;
+        nameFilterUpdater.accept(predicate);
+    }
+
+    private void cancelPendingPreview() {
+        if (pendingPreview != null) {
+            pendingPreview.cancel(false);
+            pendingPreview = null;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+import seedu.address.commons.core.EvaluationDate;
+import seedu.address.model.person.Loan;
+
+/**
+ * The text that a {@code LoanIndiv} shows for a loan, worked out once so that it can be shown again without
+ * working it out afresh.
+ * <p>
+ * Most of the text depends on the amount paid towards the loan and on the day it is worked out as of, so it is only
+ * kept for as long as both stay the same.
+ */
+public class LoanDetails {
+
+    final String loanType;
+    final String overdue;
+    final boolean isOverdue;
+    final String principal;
+    final String interest;
+    final String dateCreated;
+    final String dueDate;
+    final String remainder;
+    final String amountOwed;
+    final String monthlyInstallment;
+    final String interestAccrued;
+    final String lastPaid;
+    final String amtPaid;
+    final String monthsOverdue;
+    final String monthsUntilDue;
+
+    // the state of the loan, and the day, that the text was worked out for
+    private final float amtPaidWhenWorkedOut;
+    private final LocalDate dateLastPaidWhenWorkedOut;
+    private final LocalDate workedOutAsOf;
+
+    private LoanDetails(Loan loan, LocalDate today) {
+        amtPaidWhenWorkedOut = loan.getAmtPaid();
+        dateLastPaidWhenWorkedOut = loan.getDateLastPaid();
+        workedOutAsOf = today;
+
+        loanType = "Loan Type: " + loan.getName();
+        isOverdue = loan.isOverDue();
+        overdue = isOverdue ? "Overdue" : "Not Overdue";
+
+        // 1st 4
+        principal = "Principal: $" + String.format("%.2f", loan.getPrincipal());
+        interest = "Interest: " + String.format("%.2f", loan.getInterest()) + "%";
+        dateCreated = "Date Created: " + loan.getDateCreated();
+        dueDate = "Due Date: " + loan.getDueDate();
+
+        // 2nd 4
+        remainder = "Remaning Owed: $" + String.format("%.2f", loan.getRemainingOwed());
+        amountOwed = "Total Loan Cost: $" + String.format("%.2f", loan.getLoanValue());
+        monthlyInstallment = "Monthly Instalment: $" + String.format("%.2f", loan.getMonthlyInstalmentAmount());
+        interestAccrued = "Total Interest: $" + String.format("%.2f", loan.getLoanValue() - loan.getPrincipal());
+
+        //3rd 4
+        lastPaid = "Last Paid: "
+                + (loan.getDateLastPaid() != null ? loan.getDateLastPaid().toString() : "Not Paid Yet");
+        amtPaid = "Amount Paid: $" + String.format("%.2f", loan.getAmtPaid());
+
+        float paymentDifference = loan.getPaymentDifference();
+        monthsOverdue = "Past instalments: "
+                + (paymentDifference > 0 ? "Missed $" + String.format("%.2f", paymentDifference)
+                : paymentDifference == 0 ? "All paid"
+                : "Overpaid $" + String.format("%.2f", -paymentDifference));
+
+        int monthsUntilDueDate = loan.getMonthsUntilDueDate();
+        monthsUntilDue = monthsUntilDueDate >= 0
+                ? "Months until due date: " + monthsUntilDueDate
+                : "Months overdue: " + Math.abs(monthsUntilDueDate);
+    }
+
+    /**
+     * Works out the text to show for {@code loan}, as of today.
+     */
+    static LoanDetails of(Loan loan) {
+        requireNonNull(loan);
+        // every field of the card is worked out as of the same day
+        try (EvaluationDate.Snapshot today = EvaluationDate.capture()) {
+            return new LoanDetails(loan, today.getDate());
+        }
+    }
+
+    /**
+     * Returns true if this is still the text to show for {@code loan}, which it was worked out for, as of
+     * {@code today}.
+     */
+    boolean isUpToDate(Loan loan, LocalDate today) {
+        return loan.getAmtPaid() == amtPaidWhenWorkedOut
+                && Objects.equals(loan.getDateLastPaid(), dateLastPaidWhenWorkedOut)
+                && today.equals(workedOutAsOf);
+    }
+}
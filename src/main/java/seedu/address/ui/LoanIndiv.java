@@ -1,22 +1,16 @@
 package seedu.address.ui;
 
-import javafx.application.Platform;
-import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.VBox;
-import seedu.address.model.person.Loan;
 
 /**
  * UI component that represents a single Loan in the UI.
+ * It can be shown for another loan with {@link #setLoan(LoanDetails, int)}, without loading it from FXML again.
  */
 public class LoanIndiv extends UiPart<VBox> {
     private static final String FXML = "LoanCard.fxml";
 
-    public final Loan loan;
-
-    private final ObservableList<Loan> loans;
-
     @FXML
     private Label loanType;
     @FXML
@@ -47,63 +41,37 @@ public class LoanIndiv extends UiPart<VBox> {
     private Label monthsUntilDue;
 
     /**
-     * Create a loanindiv controller
+     * Create a loanindiv controller showing {@code details} at {@code displayedIndex}.
      */
-    public LoanIndiv(ObservableList<Loan> loans, Loan loan) {
+    public LoanIndiv(LoanDetails details, int displayedIndex) {
         super(FXML);
-        this.loan = loan;
-        this.loans = loans;
-        Platform.runLater(() -> {
-            int index = this.loans.indexOf(loan) + 1;
-            loanType.setText(index + ". " + "Loan Type: " + loan.getName());
-
-            boolean isOverdue = loan.isOverDue();
-
-            if (isOverdue) {
-                overdue.setText("Overdue");
-                overdue.setStyle("-fx-text-fill: red;"); // Set text color to red
-            } else {
-                overdue.setText("Not Overdue");
-                overdue.setStyle("-fx-text-fill: green;"); // Default color
-            }
-
-
-            // 1st 4
-            principal.setText("Principal: $" + String.format("%.2f", loan.getPrincipal()));
-            interest.setText("Interest: " + String.format("%.2f", loan.getInterest()) + "%");
-            dateCreated.setText("Date Created: " + loan.getDateCreated());
-            dueDate.setText("Due Date: " + loan.getDueDate());
-
-            // 2nd 4
-            float remainingOwed = loan.getRemainingOwed();
-            remainder.setText("Remaning Owed: $" + String.format("%.2f", remainingOwed));
-
-            float loanCost = loan.getLoanValue();
-            amountOwed.setText("Total Loan Cost: $" + String.format("%.2f", loanCost));
-
-            float monthlyInstalment = loan.getMonthlyInstalmentAmount();
-            monthlyInstallment.setText("Monthly Instalment: $" + String.format("%.2f", monthlyInstalment));
-
-            float accruedInterest = loan.getLoanValue() - loan.getPrincipal();
-            interestAccrued.setText("Total Interest: $" + String.format("%.2f", accruedInterest));
-
-            //3rd 4
-            lastPaid.setText("Last Paid: "
-                + (loan.getDateLastPaid() != null ? loan.getDateLastPaid().toString() : "Not Paid Yet"));
-            amtPaid.setText("Amount Paid: $" + String.format("%.2f", loan.getAmtPaid()));
-
-            float paymentDifference = loan.getPaymentDifference();
-            monthsOverdue.setText("Past instalments: "
-                    + (paymentDifference > 0 ? "Missed $" + String.format("%.2f", paymentDifference)
-                    : paymentDifference == 0 ? "All paid"
-                    : "Overpaid $" + String.format("%.2f", -paymentDifference)));
-
-            int monthsUntilDueDate = loan.getMonthsUntilDueDate();
-            monthsUntilDue.setText(monthsUntilDueDate >= 0
-                    ? "Months until due date: " + monthsUntilDueDate
-                    : "Months overdue: " + Math.abs(monthsUntilDueDate));
+        setLoan(details, displayedIndex);
+    }
 
-        });
+    /**
+     * Shows the loan described by {@code details} at {@code displayedIndex} in place of the loan shown before.
+     */
+    public void setLoan(LoanDetails details, int displayedIndex) {
+        loanType.setText(displayedIndex + ". " + details.loanType);
+        overdue.setText(details.overdue);
+        overdue.setStyle(details.isOverdue ? "-fx-text-fill: red;" : "-fx-text-fill: green;");
+
+        // 1st 4
+        principal.setText(details.principal);
+        interest.setText(details.interest);
+        dateCreated.setText(details.dateCreated);
+        dueDate.setText(details.dueDate);
+
+        // 2nd 4
+        remainder.setText(details.remainder);
+        amountOwed.setText(details.amountOwed);
+        monthlyInstallment.setText(details.monthlyInstallment);
+        interestAccrued.setText(details.interestAccrued);
+
+        //3rd 4
+        lastPaid.setText(details.lastPaid);
+        amtPaid.setText(details.amtPaid);
+        monthsOverdue.setText(details.monthsOverdue);
+        monthsUntilDue.setText(details.monthsUntilDue);
     }
 }
-
@@ -1,7 +1,5 @@
 package seedu.address.ui;
 
-import javafx.application.Platform;
-import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.VBox;
@@ -9,13 +7,12 @@ import seedu.address.model.person.Loan;
 
 /**
  * UI component that represents a single Loan in the UI.
+ * It can be shown for another loan with {@link #setLoan(Loan, int)}, without loading it from FXML again.
  */
 public class LoanIndivSmall extends UiPart<VBox> {
     private static final String FXML = "LoanSmallCard.fxml";
 
-    public final Loan loan;
-
-    private final ObservableList<Loan> loans;
+    private Loan loan;
 
     @FXML
     private Label loanType;
@@ -29,24 +26,31 @@ public class LoanIndivSmall extends UiPart<VBox> {
     private Label lastPaid;
 
     /**
-     * Create a loanindiv controller
+     * Create a loanindiv controller showing {@code loan} at {@code displayedIndex}.
      */
-    public LoanIndivSmall(ObservableList<Loan> loans, Loan loan) {
+    public LoanIndivSmall(Loan loan, int displayedIndex) {
         super(FXML);
+        setLoan(loan, displayedIndex);
+    }
+
+    /**
+     * Shows {@code loan} at {@code displayedIndex} in place of the loan shown before.
+     */
+    public void setLoan(Loan loan, int displayedIndex) {
         this.loan = loan;
-        this.loans = loans;
-        Platform.runLater(() -> {
-            int index = this.loans.indexOf(loan) + 1;
-            loanType.setText(index + ". " + "Type: " + loan.getName());
-
-            // 1st 4
-            remainingOwed.setText("Remaining: $" + String.format("%.2f", loan.getRemainingOwed()));
-            dueDate.setText("Due: " + loan.getDueDate());
-
-            //3rd 4
-            lastPaid.setText("Last Paid: "
-                + (loan.getDateLastPaid() != null ? loan.getDateLastPaid().toString() : "N.A."));
-            amtPaid.setText("Amount Paid: $" + String.format("%.2f", loan.getAmtPaid()));
-        });
+        loanType.setText(displayedIndex + ". " + "Type: " + loan.getName());
+
+        // 1st 4
+        remainingOwed.setText("Remaining: $" + String.format("%.2f", loan.getRemainingOwed()));
+        dueDate.setText("Due: " + loan.getDueDate());
+
+        //3rd 4
+        lastPaid.setText("Last Paid: "
+            + (loan.getDateLastPaid() != null ? loan.getDateLastPaid().toString() : "N.A."));
+        amtPaid.setText("Amount Paid: $" + String.format("%.2f", loan.getAmtPaid()));
+    }
+
+    public Loan getLoan() {
+        return loan;
     }
 }
@@ -1,13 +1,13 @@
 package seedu.address.ui;
 
-import java.io.IOException;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Parent;
 import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextInputControl;
 import javafx.scene.input.KeyCombination;
@@ -18,8 +18,6 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Person;
 
 /**
@@ -34,9 +32,12 @@ public class MainWindow extends UiPart<Stage> {
 
     private Stage primaryStage;
     private Logic logic;
+    private ModelMirror modelMirror;
+    private CommandRunner commandRunner;
 
     // Independent Ui parts residing in this Ui container
     private PersonListPanel personListPanel;
+    private IndividualPerson individualPerson;
     private ResultDisplay resultDisplay;
     private HelpWindow helpWindow;
 
@@ -79,21 +80,15 @@ public class MainWindow extends UiPart<Stage> {
      * @param displayedIndex
      */
     public void switchToIndividualPersonPage(ObservableList<Person> personList, int displayedIndex) {
-        try {
-            // disallow list modification
-            logic.setPersonListChangeable(false);
-
-            // Load the new page (NewPage.fxml)
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/view/IndividualPersonCard.fxml"));
-            loader.setController(new IndividualPerson(personList, this, displayedIndex));
-            Parent newPage = loader.load();
-
-            // Clear the existing content in the placeholder and add the new page
-            personListPanelPlaceholder.getChildren().clear();
-            personListPanelPlaceholder.getChildren().add(newPage);
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+        // disallow list modification, once any command still running is done with the model
+        commandRunner.runWhenIdle(() -> logic.setPersonListChangeable(false));
+
+        disposeIndividualPersonPage();
+        individualPerson = new IndividualPerson(personList, this, displayedIndex);
+
+        // Clear the existing content in the placeholder and add the new page
+        personListPanelPlaceholder.getChildren().clear();
+        personListPanelPlaceholder.getChildren().add(individualPerson.getRoot());
     }
 
     /**
@@ -101,16 +96,22 @@ public class MainWindow extends UiPart<Stage> {
      */
     public void switchToPersonPage() {
         // Clear the individual person page
+        disposeIndividualPersonPage();
         personListPanelPlaceholder.getChildren().clear();
 
-        // allow list modification
-        logic.setPersonListChangeable(true);
+        // allow list modification, once any command still running is done with the model
+        commandRunner.runWhenIdle(() -> logic.setPersonListChangeable(true));
 
-        // Fill with the regular person list view
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList(), this);
+        // Fill with the regular person list view, which has been kept up to date while it was not shown
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
     }
 
+    private void disposeIndividualPersonPage() {
+        if (individualPerson != null) {
+            individualPerson.dispose();
+            individualPerson = null;
+        }
+    }
 
     public Stage getPrimaryStage() {
         return primaryStage;
@@ -154,16 +155,22 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList(), this);
+        modelMirror = new ModelMirror(logic, () -> commandRunner.isRunningProperty().get());
+        commandRunner = new CommandRunner(logic::execute, modelMirror::sync);
+
+        personListPanel = new PersonListPanel(modelMirror.getFilteredPersonList(), this);
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
+        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath(),
+                commandRunner.isRunningProperty());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        LiveFind liveFind = new LiveFind(logic::previewFilteredPersonListByName,
+                () -> logic.previewFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS));
+        CommandBox commandBox = new CommandBox(this::executeCommand, liveFind, commandRunner.isRunningProperty());
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
@@ -195,6 +202,15 @@ public class MainWindow extends UiPart<Stage> {
         primaryStage.show();
     }
 
+    /**
+     * Waits for the running command, if any, to finish.
+     */
+    void stop() {
+        if (commandRunner != null) {
+            commandRunner.stop();
+        }
+    }
+
     /**
      * Closes the application.
      */
@@ -211,14 +227,23 @@ public class MainWindow extends UiPart<Stage> {
         return personListPanel;
     }
 
+    public ModelMirror getModelMirror() {
+        return modelMirror;
+    }
+
     /**
-     * Executes the command and returns the result.
+     * Starts executing the command on a background thread, and shows its result once it is done.
      *
-     * @see seedu.address.logic.Logic#execute(String)
+     * @see CommandRunner#run(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        return commandRunner.run(commandText).whenComplete((commandResult, error) -> {
+            if (error != null) {
+                logger.info("An error occurred while executing command: " + commandText);
+                resultDisplay.setFeedbackToUser(error.getMessage());
+                return;
+            }
+
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
@@ -229,12 +254,6 @@ public class MainWindow extends UiPart<Stage> {
             if (commandResult.isExit()) {
                 handleExit();
             }
-
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("An error occurred while executing command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
-        }
+        });
     }
 }
@@ -0,0 +1,160 @@
+package seedu.address.ui;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * A copy of an {@code ObservableList} that is only changed when {@link #sync()} is called.
+ * <p>
+ * Changes to the source list are recorded on whichever thread makes them, and applied to the copy by {@link #sync()},
+ * which must be called on the JavaFX thread while the source list is not being changed. A few small changes are
+ * replayed one by one, so that a list view shows again only the cells they touch. Anything more, or a reordering,
+ * is applied by copying the source list afresh.
+ */
+class MirroredList<T> {
+
+    static final int MAX_EDITS_REPLAYED = 64;
+
+    private final ObservableList<T> source;
+    private final ObservableList<T> mirror;
+    private final ObservableList<T> unmodifiableMirror;
+    private final ListChangeListener<T> recorder = this::record;
+    private final Runnable onChange;
+
+    // the changes to source not applied to mirror yet, which are only used while holding the lock on this
+    private final List<Edit<T>> pendingEdits = new ArrayList<>();
+    private boolean isStale = false;
+    private boolean isRecording = false;
+    private boolean isDisposed = false;
+
+    /**
+     * Creates a copy of {@code source}, which calls {@code onChange} after each change to {@code source} is recorded.
+     */
+    MirroredList(ObservableList<T> source, Runnable onChange) {
+        this(source, onChange, true);
+    }
+
+    /**
+     * Creates a copy of {@code source}, which calls {@code onChange} after each change to {@code source} is recorded.
+     * If {@code isCopiedNow} is false, the copy starts out empty, and {@code source} is not read until the first
+     * {@link #sync()}, which copies it and starts recording changes to it.
+     */
+    MirroredList(ObservableList<T> source, Runnable onChange, boolean isCopiedNow) {
+        requireAllNonNull(source, onChange);
+        this.source = source;
+        this.onChange = onChange;
+        this.mirror = FXCollections.observableArrayList();
+        this.unmodifiableMirror = FXCollections.unmodifiableObservableList(mirror);
+        if (isCopiedNow) {
+            startRecording();
+        }
+    }
+
+    /**
+     * Returns the copy as an unmodifiable {@code ObservableList}.
+     */
+    ObservableList<T> getList() {
+        return unmodifiableMirror;
+    }
+
+    /**
+     * Applies the changes made to the source list since the last sync to the copy.
+     *
+     * @return true if there were any changes to apply.
+     */
+    boolean sync() {
+        if (isDisposed) {
+            return false;
+        }
+        if (!isRecording) {
+            startRecording();
+            return true;
+        }
+
+        List<Edit<T>> edits;
+        boolean wasStale;
+        synchronized (this) {
+            edits = new ArrayList<>(pendingEdits);
+            wasStale = isStale;
+            pendingEdits.clear();
+            isStale = false;
+        }
+
+        if (wasStale) {
+            mirror.setAll(source);
+            return true;
+        }
+        for (Edit<T> edit : edits) {
+            edit.applyTo(mirror);
+        }
+        return !edits.isEmpty();
+    }
+
+    /**
+     * Stops recording changes to the source list, so that this copy can be garbage collected.
+     */
+    void dispose() {
+        if (isRecording) {
+            source.removeListener(recorder);
+        }
+        isDisposed = true;
+    }
+
+    private void startRecording() {
+        mirror.setAll(source);
+        source.addListener(recorder);
+        isRecording = true;
+    }
+
+    private void record(ListChangeListener.Change<? extends T> change) {
+        synchronized (this) {
+            while (!isStale && change.next()) {
+                if (change.wasPermutated() || change.wasUpdated() || change.getAddedSize() > MAX_EDITS_REPLAYED
+                        || pendingEdits.size() == MAX_EDITS_REPLAYED) {
+                    isStale = true;
+                    pendingEdits.clear();
+                } else {
+                    pendingEdits.add(new Edit<>(change.getFrom(), change.getRemovedSize(),
+                            new ArrayList<>(change.getAddedSubList())));
+                }
+            }
+        }
+        onChange.run();
+    }
+
+    /**
+     * One change to the source list: {@code removedSize} elements from {@code from} replaced by {@code added}.
+     */
+    private static class Edit<T> {
+        private final int from;
+        private final int removedSize;
+        private final List<T> added;
+
+        Edit(int from, int removedSize, List<T> added) {
+            this.from = from;
+            this.removedSize = removedSize;
+            this.added = added;
+        }
+
+        void applyTo(ObservableList<T> list) {
+            if (removedSize == added.size()) {
+                for (int i = 0; i < removedSize; i++) {
+                    list.set(from + i, added.get(i));
+                }
+                return;
+            }
+            if (removedSize > 0) {
+                list.remove(from, from + removedSize);
+            }
+            if (!added.isEmpty()) {
+                list.addAll(from, added);
+            }
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package seedu.address.ui;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+import javafx.application.Platform;
+import javafx.collections.ObservableList;
+import seedu.address.logic.Logic;
+import seedu.address.model.person.Loan;
+import seedu.address.model.person.Person;
+
+/**
+ * Copies of the lists of the model that the UI shows, which are only changed on the JavaFX thread.
+ * <p>
+ * Commands change the model on a background thread (see {@link CommandRunner}), so the UI never shows the lists of
+ * the model itself. Changes made by a command are applied to these copies by {@link #sync()} once it is done.
+ * Changes made on the JavaFX thread, such as by {@link LiveFind}, are applied as soon as they are made.
+ * The loans of a person are copied only while something shows them, from {@link #getLoans(Person)} until the
+ * matching {@link #releaseLoans(Person)}. While a command is running, they are only read from the next sync.
+ */
+public class ModelMirror {
+
+    private final MirroredList<Person> persons;
+    private final MirroredList<Person> filteredPersons;
+    private final Map<Person, ShownLoans> loansByPerson = new IdentityHashMap<>();
+    private final BooleanSupplier isUiThread;
+    private final BooleanSupplier isCommandRunning;
+
+    /**
+     * Creates copies of the lists of the model behind {@code logic}, while {@code isCommandRunning} tells whether a
+     * command is changing the model.
+     * Must be called on the JavaFX thread while no command is running.
+     */
+    public ModelMirror(Logic logic, BooleanSupplier isCommandRunning) {
+        this(logic.getAddressBook().getPersonList(), logic.getFilteredPersonList(), Platform::isFxApplicationThread,
+                isCommandRunning);
+    }
+
+    /**
+     * Creates copies of {@code persons} and {@code filteredPersons}, which apply changes made on a thread for which
+     * {@code isUiThread} is true as soon as they are made.
+     */
+    ModelMirror(ObservableList<Person> persons, ObservableList<Person> filteredPersons, BooleanSupplier isUiThread,
+                BooleanSupplier isCommandRunning) {
+        requireAllNonNull(persons, filteredPersons, isUiThread, isCommandRunning);
+        this.isUiThread = isUiThread;
+        this.isCommandRunning = isCommandRunning;
+        this.persons = new MirroredList<>(persons, this::syncIfOnUiThread);
+        this.filteredPersons = new MirroredList<>(filteredPersons, this::syncIfOnUiThread);
+    }
+
+    /**
+     * Returns a copy of every person in the address book.
+     */
+    public ObservableList<Person> getPersonList() {
+        return persons.getList();
+    }
+
+    /**
+     * Returns a copy of the filtered person list.
+     */
+    public ObservableList<Person> getFilteredPersonList() {
+        return filteredPersons.getList();
+    }
+
+    /**
+     * Returns a copy of the loans shown for {@code person}, which is kept until {@link #releaseLoans(Person)} is
+     * called as many times as this. If a command is running, the copy stays empty until the next sync.
+     * Must be called on the JavaFX thread.
+     */
+    public ObservableList<Loan> getLoans(Person person) {
+        ShownLoans shownLoans = loansByPerson.computeIfAbsent(person, this::mirrorLoans);
+        shownLoans.users++;
+        return shownLoans.loans.getList();
+    }
+
+    /**
+     * Stops copying the loans of {@code person} once nothing else shows them, after the running command if any.
+     * Must be called on the JavaFX thread.
+     */
+    public void releaseLoans(Person person) {
+        ShownLoans shownLoans = loansByPerson.get(person);
+        if (shownLoans == null || shownLoans.users == 0) {
+            return;
+        }
+        shownLoans.users--;
+        if (!isCommandRunning.getAsBoolean()) {
+            disposeUnusedLoans();
+        }
+    }
+
+    /**
+     * Applies every change made to the model since the last sync to the copies.
+     * Must be called on the JavaFX thread while no command is running.
+     */
+    public void sync() {
+        persons.sync();
+        filteredPersons.sync();
+        disposeUnusedLoans();
+        // showing the changes may ask for the loans of more persons, which are copied at the next sync
+        for (ShownLoans shownLoans : new ArrayList<>(loansByPerson.values())) {
+            shownLoans.loans.sync();
+        }
+    }
+
+    private void syncIfOnUiThread() {
+        if (isUiThread.getAsBoolean()) {
+            sync();
+        }
+    }
+
+    private void disposeUnusedLoans() {
+        loansByPerson.values().removeIf(shownLoans -> {
+            if (shownLoans.users > 0) {
+                return false;
+            }
+            shownLoans.loans.dispose();
+            return true;
+        });
+    }
+
+    private ShownLoans mirrorLoans(Person person) {
+        return new ShownLoans(new MirroredList<>(person.getLoanList().getLoans(), this::syncIfOnUiThread,
+                !isCommandRunning.getAsBoolean()));
+    }
+
+    /**
+     * The copy of the loans of a person, and how many parts of the UI show it.
+     */
+    private static class ShownLoans {
+        private final MirroredList<Loan> loans;
+        private int users = 0;
+
+        ShownLoans(MirroredList<Loan> loans) {
+            this.loans = loans;
+        }
+    }
+}
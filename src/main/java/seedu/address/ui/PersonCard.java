@@ -15,18 +15,23 @@ import seedu.address.model.person.Person;
 
 /**
  * A UI component that displays information of a {@code Person}.
+ * <p>
+ * A card is loaded from FXML once, and can then be shown for another person with {@link #setPerson(Person, int)},
+ * so that a list cell keeps the same card as it is scrolled.
  */
 public class PersonCard extends UiPart<Region> {
 
     private static final String FXML = "PersonListCard.fxml";
-
-    public final Person person;
+    private static final String LOANS_LABEL = "Loans: ";
+    private static final String NO_LOANS_LABEL = "No loans found.";
 
     private final ObservableList<Person> personList;
 
     private final MainWindow mainWindow;
 
-    private final int displayedIndex;
+    private Person person;
+
+    private int displayedIndex;
 
     @FXML
     private Button personButton;
@@ -55,12 +60,38 @@ public class PersonCard extends UiPart<Region> {
      */
     public PersonCard(Person person, int displayedIndex, MainWindow mainWindow, ObservableList<Person> personList) {
         super(FXML);
-        this.person = person;
         this.mainWindow = mainWindow;
-        this.displayedIndex = displayedIndex;
         this.personList = personList;
+        loanListView.setCellFactory(listView -> new LoanListViewCell());
+        setPerson(person, displayedIndex);
+    }
+
+    /**
+     * Shows {@code person} at {@code displayedIndex} in this card, in place of the person shown before.
+     */
+    public void setPerson(Person person, int displayedIndex) {
+        Person shownBefore = this.person;
+        this.person = person;
+        this.displayedIndex = displayedIndex;
         initializePersonDetails(displayedIndex);
         initializeLoanListView();
+        if (shownBefore != null) {
+            mainWindow.getModelMirror().releaseLoans(shownBefore);
+        }
+    }
+
+    /**
+     * Stops showing the person on this card, so that their loans need not be copied any longer.
+     */
+    public void clearPerson() {
+        if (person != null) {
+            mainWindow.getModelMirror().releaseLoans(person);
+            person = null;
+        }
+    }
+
+    public Person getPerson() {
+        return person;
     }
 
     private void initializePersonDetails(int displayedIndex) {
@@ -77,14 +108,20 @@ public class PersonCard extends UiPart<Region> {
     }
 
     private void initializeLoanListView() {
-        loanListView.setItems(person.getLoanList().getLoans());
-        if (person.getLoanList().getLoans().isEmpty()) {
-            loans.setText("No loans found.");
+        ObservableList<Loan> personLoans = mainWindow.getModelMirror().getLoans(person);
+        if (loanListView.getItems() != personLoans) {
+            loanListView.setItems(personLoans);
         }
-        loanListView.setCellFactory(listView -> new LoanListViewCell());
+        loans.setText(personLoans.isEmpty() ? NO_LOANS_LABEL : LOANS_LABEL);
     }
 
+    /**
+     * Custom {@code ListCell} that displays a {@code Loan} using a {@code LoanIndivSmall} it keeps for every loan
+     * it shows.
+     */
     class LoanListViewCell extends ListCell<Loan> {
+        private LoanIndivSmall loanCard;
+
         @Override
         protected void updateItem(Loan loan, boolean empty) {
             super.updateItem(loan, empty);
@@ -92,9 +129,15 @@ public class PersonCard extends UiPart<Region> {
             if (empty || loan == null) {
                 setGraphic(null);
                 setText(null);
+                return;
+            }
+
+            if (loanCard == null) {
+                loanCard = new LoanIndivSmall(loan, getIndex() + 1);
             } else {
-                setGraphic(new LoanIndivSmall(person.getLoanList().getLoans(), loan).getRoot());
+                loanCard.setLoan(loan, getIndex() + 1);
             }
+            setGraphic(loanCard.getRoot());
         }
     }
 
@@ -33,9 +33,11 @@ public class PersonListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
+     * The cell loads its card once, and shows each person it is given on that same card.
      */
     class PersonListViewCell extends ListCell<Person> {
         private MainWindow mainWindow;
+        private PersonCard card;
 
         public PersonListViewCell(MainWindow mainWindow) {
             this.mainWindow = mainWindow;
@@ -46,11 +48,20 @@ public class PersonListPanel extends UiPart<Region> {
             super.updateItem(person, empty);
 
             if (empty || person == null) {
+                if (card != null) {
+                    card.clearPerson();
+                }
                 setGraphic(null);
                 setText(null);
+                return;
+            }
+
+            if (card == null) {
+                card = new PersonCard(person, getIndex() + 1, mainWindow, personList);
             } else {
-                setGraphic(new PersonCard(person, getIndex() + 1, mainWindow, personList).getRoot());
+                card.setPerson(person, getIndex() + 1);
             }
+            setGraphic(card.getRoot());
         }
     }
 
@@ -10,4 +10,7 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /** Waits for the command that is running, if any, to finish, so that the app can be stopped. */
+    void stop();
+
 }
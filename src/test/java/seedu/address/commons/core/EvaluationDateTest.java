@@ -0,0 +1,127 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class EvaluationDateTest {
+
+    private static final Instant LATE_EVENING = Instant.parse("2024-03-10T23:59:00Z");
+
+    @AfterEach
+    public void tearDown() {
+        EvaluationDate.useSystemClock();
+    }
+
+    @Test
+    public void today_fixedClock_returnsClockDate() {
+        EvaluationDate.setClock(Clock.fixed(LATE_EVENING, ZoneOffset.UTC));
+        assertEquals(LocalDate.of(2024, 3, 10), EvaluationDate.today());
+
+        // the clock's zone decides the day
+        EvaluationDate.setClock(Clock.fixed(LATE_EVENING, ZoneId.of("Asia/Singapore")));
+        assertEquals(LocalDate.of(2024, 3, 11), EvaluationDate.today());
+    }
+
+    @Test
+    public void today_clockPassesMidnight_returnsNextDay() {
+        MutableClock clock = new MutableClock(LATE_EVENING);
+        EvaluationDate.setClock(clock);
+        assertEquals(LocalDate.of(2024, 3, 10), EvaluationDate.today());
+
+        clock.advance(Duration.ofMinutes(2));
+        assertEquals(LocalDate.of(2024, 3, 11), EvaluationDate.today());
+    }
+
+    @Test
+    public void capture_clockPassesMidnight_keepsCapturedDay() {
+        MutableClock clock = new MutableClock(LATE_EVENING);
+        EvaluationDate.setClock(clock);
+
+        try (EvaluationDate.Snapshot outer = EvaluationDate.capture()) {
+            clock.advance(Duration.ofMinutes(2));
+            assertEquals(LocalDate.of(2024, 3, 10), EvaluationDate.today());
+
+            try (EvaluationDate.Snapshot inner = EvaluationDate.capture()) {
+                assertEquals(outer.getDate(), inner.getDate());
+            }
+            assertEquals(LocalDate.of(2024, 3, 10), EvaluationDate.today());
+        }
+
+        assertEquals(LocalDate.of(2024, 3, 11), EvaluationDate.today());
+    }
+
+    @Test
+    public void capture_otherThreadClosesOutOfOrder_doesNotPinThisThread() throws Exception {
+        MutableClock clock = new MutableClock(LATE_EVENING);
+        EvaluationDate.setClock(clock);
+
+        EvaluationDate.Snapshot mine = EvaluationDate.capture();
+        Thread other = new Thread(() -> EvaluationDate.capture());
+        other.start();
+        other.join();
+        mine.close();
+
+        clock.advance(Duration.ofMinutes(2));
+        assertEquals(LocalDate.of(2024, 3, 11), EvaluationDate.today());
+    }
+
+    @Test
+    public void pin_givenDate_pinsUntilClosed() throws Exception {
+        EvaluationDate.setClock(Clock.fixed(LATE_EVENING, ZoneOffset.UTC));
+        LocalDate captured = LocalDate.of(2024, 1, 1);
+
+        LocalDate[] seen = new LocalDate[1];
+        Thread worker = new Thread(() -> {
+            try (EvaluationDate.Snapshot snapshot = EvaluationDate.pin(captured)) {
+                seen[0] = EvaluationDate.today();
+            }
+        });
+        worker.start();
+        worker.join();
+        assertEquals(captured, seen[0]);
+
+        try (EvaluationDate.Snapshot snapshot = EvaluationDate.pin(captured)) {
+            assertEquals(captured, EvaluationDate.today());
+        }
+        assertEquals(LocalDate.of(2024, 3, 10), EvaluationDate.today());
+    }
+
+    /**
+     * A clock that only moves when told to.
+     */
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -12,7 +14,10 @@ import static seedu.address.testutil.TypicalPersons.AMY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -21,15 +26,22 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.LoanCommand;
+import seedu.address.logic.commands.PayCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ArchivedNameChange;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyLoanArchive;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Loan;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.MappedLoanArchiveStorage;
 import seedu.address.storage.StorageManager;
 import seedu.address.testutil.PersonBuilder;
 
@@ -70,6 +82,74 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_readOnlyCommand_skipsSave() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("addressBook.json");
+        model.markAddressBookSaved();
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertFalse(Files.exists(addressBookPath));
+        assertEquals(1L, ((LogicManager) logic).getSkippedSaveCount());
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        assertTrue(Files.exists(addressBookPath));
+        assertEquals(1L, ((LogicManager) logic).getSkippedSaveCount());
+    }
+
+    @Test
+    public void execute_payOffLoan_archivesLoan() throws Exception {
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        logic.execute(LoanCommand.COMMAND_WORD + " 1 s 100 5 2099-12-31");
+        logic.execute(PayCommand.COMMAND_WORD + " 1 1 all");
+
+        assertTrue(model.getUnarchivedLoans().isEmpty());
+        ReadOnlyLoanArchive archive = new MappedLoanArchiveStorage(
+                temporaryFolder.resolve(MappedLoanArchiveStorage.DEFAULT_FILE_NAME)).readLoanArchive();
+        assertEquals(1, archive.getArchivedLoanCount(AMY.getName()));
+    }
+
+    @Test
+    public void execute_archiveFails_paidOffLoanNotSavedAway() throws Exception {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        MappedLoanArchiveStorage loanArchiveStorage = new MappedLoanArchiveStorage(
+                temporaryFolder.resolve(MappedLoanArchiveStorage.DEFAULT_FILE_NAME)) {
+            @Override
+            public void archiveLoans(List<ArchivedNameChange> nameChanges, Map<Name, List<Loan>> loans)
+                    throws IOException {
+                throw DUMMY_IO_EXCEPTION;
+            }
+        };
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage, loanArchiveStorage));
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        logic.execute(LoanCommand.COMMAND_WORD + " 1 s 100 5 2099-12-31");
+        assertThrows(CommandException.class, () -> logic.execute(PayCommand.COMMAND_WORD + " 1 1 all"));
+
+        // the loan is still in the saved address book, and is archived after the next command
+        ReadOnlyAddressBook saved = addressBookStorage.readAddressBook().get();
+        assertEquals(1, saved.getPersonList().get(0).getLoanList().getLoans().size());
+        assertEquals(1, model.getUnarchivedLoans().size());
+    }
+
+    @Test
+    public void execute_unchangedAfterBackgroundSaveFailed_reportsFailure() throws Exception {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage) {
+            @Override
+            public void checkSaves() throws IOException {
+                throw DUMMY_IO_EXCEPTION;
+            }
+        });
+        logic.execute(ListCommand.COMMAND_WORD); // saves the model, which has never been saved
+
+        assertCommandException(ListCommand.COMMAND_WORD, String.format(
+                LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()));
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
@@ -10,20 +10,31 @@ import static seedu.address.testutil.TypicalPersons.ALICE;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.core.AddressBookFormat;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.ArchivedNameChange;
 import seedu.address.model.Model;
+import seedu.address.model.PersonSearchResult;
+import seedu.address.model.PortfolioSummary;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyLoanArchive;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.person.Loan;
 import seedu.address.model.person.LoanList;
 import seedu.address.model.person.LoanPredicate;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.testutil.PersonBuilder;
 
@@ -94,6 +105,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public String getLastLoanFilterPlan() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public LoanList getLoanList() {
             throw new AssertionError("This method should not be called.");
@@ -139,6 +155,16 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public AddressBookFormat getAddressBookFormat() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setAddressBookFormat(AddressBookFormat addressBookFormat) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void addPerson(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -183,6 +209,76 @@ public class AddCommandTest {
         public void sortPeople(String sort, String order) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public void addLoan(Person person, Loan loan) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void payLoan(Person person, int zeroBasedLoanIndex, float amount) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void deleteLoan(Person person, int zeroBasedLoanIndex) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addAddressBookChangeListener(AddressBookChange.Listener listener) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasUnsavedChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void markAddressBookSaved() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<Name, List<Loan>> getUnarchivedLoans() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<ArchivedNameChange> getUnarchivedNameChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void markLoansArchived() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ReadOnlyLoanArchive getLoanArchive() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setLoanArchive(ReadOnlyLoanArchive loanArchive) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public PortfolioSummary getPortfolioSummary() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredPersonListByName(NameContainsKeywordsPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<PersonSearchResult> searchPersons(List<String> words) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
@@ -0,0 +1,111 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Loan;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.SimpleInterestLoan;
+import seedu.address.storage.MappedLoanArchiveStorage;
+
+/**
+ * Contains integration tests (interaction with the Model and the loan archive) for {@code ArchiveCommand}.
+ */
+public class ArchiveCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model;
+    private Model expectedModel;
+    private Person firstPerson;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        firstPerson = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+
+        List<Loan> loans = new ArrayList<>();
+        for (int i = 1; i <= ArchiveCommand.PAGE_SIZE + 2; i++) {
+            Loan loan = new SimpleInterestLoan(String.valueOf(i * 100), "3", "2050-01-01");
+            loan.pay(loan.getRemainingOwed());
+            loans.add(loan);
+        }
+        MappedLoanArchiveStorage archive = new MappedLoanArchiveStorage(testFolder.resolve("paidloans.bin"));
+        archive.archiveLoans(List.of(), Map.of(firstPerson.getName(), loans));
+        model.setLoanArchive(archive.readLoanArchive());
+    }
+
+    @Test
+    public void execute_lastPage_showsRestOfLoans() throws Exception {
+        CommandResult result = new ArchiveCommand(INDEX_FIRST_PERSON, Index.fromOneBased(2)).execute(model);
+        String feedback = result.getFeedbackToUser();
+        assertTrue(feedback.startsWith(String.format(ArchiveCommand.MESSAGE_ARCHIVED_LOANS,
+                firstPerson.getName().fullName, 2, 2, "")));
+        assertTrue(feedback.contains((ArchiveCommand.PAGE_SIZE + 1) + ". S: [Principal: $1100.00"));
+        assertTrue(feedback.contains((ArchiveCommand.PAGE_SIZE + 2) + ". S: [Principal: $1200.00"));
+        assertFalse(feedback.contains("\n1. "));
+    }
+
+    @Test
+    public void execute_noArchivedLoans_success() {
+        Person secondPerson = model.getFilteredPersonList().get(INDEX_SECOND_PERSON.getZeroBased());
+        assertCommandSuccess(new ArchiveCommand(INDEX_SECOND_PERSON, Index.fromOneBased(1)), model,
+                String.format(ArchiveCommand.MESSAGE_NO_ARCHIVED_LOANS, secondPerson.getName().fullName),
+                expectedModel);
+    }
+
+    @Test
+    public void execute_pageOutOfRange_throwsCommandException() {
+        assertCommandFailure(new ArchiveCommand(INDEX_FIRST_PERSON, Index.fromOneBased(3)), model,
+                String.format(ArchiveCommand.MESSAGE_INVALID_PAGE, 2, firstPerson.getName().fullName));
+    }
+
+    @Test
+    public void execute_invalidPersonIndex_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
+        assertCommandFailure(new ArchiveCommand(outOfBoundIndex, Index.fromOneBased(1)), model,
+                Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void equals() {
+        ArchiveCommand firstPageCommand = new ArchiveCommand(INDEX_FIRST_PERSON, Index.fromOneBased(1));
+        ArchiveCommand secondPageCommand = new ArchiveCommand(INDEX_FIRST_PERSON, Index.fromOneBased(2));
+
+        // same object -> returns true
+        assertTrue(firstPageCommand.equals(firstPageCommand));
+
+        // same values -> returns true
+        assertTrue(firstPageCommand.equals(new ArchiveCommand(INDEX_FIRST_PERSON, Index.fromOneBased(1))));
+
+        // null -> returns false
+        assertFalse(firstPageCommand.equals(null));
+
+        // different page -> returns false
+        assertFalse(firstPageCommand.equals(secondPageCommand));
+
+        // different person -> returns false
+        assertFalse(firstPageCommand.equals(new ArchiveCommand(INDEX_SECOND_PERSON, Index.fromOneBased(1))));
+    }
+}
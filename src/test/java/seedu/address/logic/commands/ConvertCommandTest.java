@@ -0,0 +1,57 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.AddressBookFormat;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class ConvertCommandTest {
+
+    @Test
+    public void execute_otherFormat_success() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Path expectedFilePath = Paths.get("data", "addressbook.bin");
+        expectedModel.setAddressBookFormat(AddressBookFormat.BINARY);
+        expectedModel.setAddressBookFilePath(expectedFilePath);
+
+        String expectedMessage = String.format(ConvertCommand.MESSAGE_SUCCESS, AddressBookFormat.BINARY,
+                expectedFilePath);
+        assertCommandSuccess(new ConvertCommand(AddressBookFormat.BINARY), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_sameFormat_throwsCommandException() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        assertCommandFailure(new ConvertCommand(AddressBookFormat.JSON), model,
+                String.format(ConvertCommand.MESSAGE_ALREADY_IN_FORMAT, AddressBookFormat.JSON));
+    }
+
+    @Test
+    public void equals() {
+        ConvertCommand convertToBinaryCommand = new ConvertCommand(AddressBookFormat.BINARY);
+
+        // same object -> returns true
+        assertTrue(convertToBinaryCommand.equals(convertToBinaryCommand));
+
+        // same values -> returns true
+        assertTrue(convertToBinaryCommand.equals(new ConvertCommand(AddressBookFormat.BINARY)));
+
+        // null -> returns false
+        assertFalse(convertToBinaryCommand.equals(null));
+
+        // different format -> returns false
+        assertFalse(convertToBinaryCommand.equals(new ConvertCommand(AddressBookFormat.JSON)));
+    }
+}
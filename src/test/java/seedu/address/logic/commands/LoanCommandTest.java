@@ -4,9 +4,15 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.EvaluationDate;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
@@ -22,9 +28,16 @@ public class LoanCommandTest {
 
     @BeforeEach
     public void setUp() {
+        // due dates in this test must stay in the future
+        EvaluationDate.setClock(Clock.fixed(Instant.parse("2025-01-01T00:00:00Z"), ZoneOffset.UTC));
         model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
     }
 
+    @AfterEach
+    public void tearDown() {
+        EvaluationDate.useSystemClock();
+    }
+
     @Test
     public void execute_validSimpleLoan_success() throws Exception {
         LoanCommand command = new LoanCommand(
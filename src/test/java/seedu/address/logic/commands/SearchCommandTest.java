@@ -0,0 +1,74 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code SearchCommand}.
+ */
+public class SearchCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        SearchCommand searchFirstCommand = new SearchCommand(List.of("first"));
+        SearchCommand searchSecondCommand = new SearchCommand(List.of("second"));
+
+        // same object -> returns true
+        assertTrue(searchFirstCommand.equals(searchFirstCommand));
+
+        // same values -> returns true
+        assertTrue(searchFirstCommand.equals(new SearchCommand(List.of("first"))));
+
+        // different types -> returns false
+        assertFalse(searchFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(searchFirstCommand.equals(null));
+
+        // different words -> returns false
+        assertFalse(searchFirstCommand.equals(searchSecondCommand));
+    }
+
+    @Test
+    public void execute_noMatch_noPersonFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0);
+        expectedModel.updateFilteredPersonList(person -> false);
+        assertCommandSuccess(new SearchCommand(List.of("zzz")), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_partAndTypo_bestMatchesNamedFirst() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3)
+                + String.format(SearchCommand.MESSAGE_BEST_MATCH, 1, BENSON.getName(), "name meier, phone 98765432")
+                + String.format(SearchCommand.MESSAGE_BEST_MATCH, 2, DANIEL.getName(), "name meier")
+                + String.format(SearchCommand.MESSAGE_BEST_MATCH, 3, ELLE.getName(), "name meyer");
+        expectedModel.updateFilteredPersonList(person -> List.of(BENSON, DANIEL, ELLE).contains(person));
+        assertCommandSuccess(new SearchCommand(List.of("meier", "9876")), model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON, DANIEL, ELLE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        SearchCommand searchCommand = new SearchCommand(List.of("word"));
+        String expected = SearchCommand.class.getCanonicalName() + "{words=[word]}";
+        assertEquals(expected, searchCommand.toString());
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.LoanList;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for SummaryCommand.
+ */
+public class SummaryCommandTest {
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_noLoans_showsZeroes() {
+        String expectedMessage = String.format(SummaryCommand.MESSAGE_SUMMARY,
+                String.format(SummaryCommand.MESSAGE_LOAN_TOTALS, 0, 0.0, 0.0, 0.0, 0.0),
+                String.format(SummaryCommand.MESSAGE_LOAN_TOTALS, 0, 0.0, 0.0, 0.0, 0.0),
+                String.format(SummaryCommand.MESSAGE_LOAN_TOTALS, 0, 0.0, 0.0, 0.0, 0.0),
+                0, 0.0);
+        assertCommandSuccess(new SummaryCommand(), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_withLoans_countsEveryLoan() {
+        // a new person, so that the shared typical persons are left without loans
+        Person loanee = new PersonBuilder().withName("Loanee").build();
+        model.addPerson(loanee);
+        model.addLoan(loanee, LoanList.stringToLoanList(
+                "1000.00/250.00/5.00/2050-12-27/2023-12-24/2004-12-24/S/0").getLoans().get(0));
+
+        String feedback = new SummaryCommand().execute(model).getFeedbackToUser();
+
+        assertTrue(feedback.contains("All loans: 1, principal $1000.00"));
+        assertTrue(feedback.contains("paid $250.00"));
+        assertTrue(feedback.contains("Compound interest loans: 0,"));
+    }
+
+    @Test
+    public void equals() {
+        SummaryCommand summaryCommand = new SummaryCommand();
+
+        assertEquals(summaryCommand, new SummaryCommand());
+        assertFalse(summaryCommand.equals(null));
+        assertFalse(summaryCommand.equals(new ListCommand()));
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
@@ -13,8 +14,13 @@ import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.AddressBookFormat;
+import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ArchiveCommand;
 import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.ConvertCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
@@ -22,7 +28,11 @@ import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.LoanFilterCommand;
+import seedu.address.logic.commands.SearchCommand;
+import seedu.address.logic.commands.SummaryCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ModelManager;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
@@ -46,6 +56,24 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ClearCommand.COMMAND_WORD + " 3") instanceof ClearCommand);
     }
 
+    @Test
+    public void parseCommand_archive() throws Exception {
+        assertEquals(new ArchiveCommand(INDEX_FIRST_PERSON, Index.fromOneBased(1)),
+                parser.parseCommand(ArchiveCommand.COMMAND_WORD + " " + INDEX_FIRST_PERSON.getOneBased()));
+        assertEquals(new ArchiveCommand(INDEX_FIRST_PERSON, Index.fromOneBased(3)),
+                parser.parseCommand(ArchiveCommand.COMMAND_WORD + " " + INDEX_FIRST_PERSON.getOneBased() + " 3"));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                ArchiveCommand.MESSAGE_USAGE), () -> parser.parseCommand(ArchiveCommand.COMMAND_WORD + " 1 0"));
+    }
+
+    @Test
+    public void parseCommand_convert() throws Exception {
+        assertEquals(new ConvertCommand(AddressBookFormat.BINARY),
+                parser.parseCommand(ConvertCommand.COMMAND_WORD + " " + AddressBookFormat.BINARY));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                ConvertCommand.MESSAGE_USAGE), () -> parser.parseCommand(ConvertCommand.COMMAND_WORD + " xml"));
+    }
+
     @Test
     public void parseCommand_delete() throws Exception {
         DeleteCommand command = (DeleteCommand) parser.parseCommand(
@@ -88,6 +116,32 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3") instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_search() throws Exception {
+        List<String> words = Arrays.asList("alcie", "9435", "jurong");
+        SearchCommand command = (SearchCommand) parser.parseCommand(
+                SearchCommand.COMMAND_WORD + " " + String.join(" ", words));
+        assertEquals(new SearchCommand(words), command);
+    }
+
+    @Test
+    public void parseCommand_summary() throws Exception {
+        assertTrue(parser.parseCommand(SummaryCommand.COMMAND_WORD) instanceof SummaryCommand);
+        assertTrue(parser.parseCommand(SummaryCommand.COMMAND_WORD + " 3") instanceof SummaryCommand);
+    }
+
+    @Test
+    public void parseCommand_filterExplain() throws Exception {
+        Command command = parser.parseCommand(LoanFilterCommand.COMMAND_WORD + " explain pred/ isPaid n");
+        assertTrue(command instanceof LoanFilterCommand);
+        String feedback = command.execute(new ModelManager()).getFeedbackToUser();
+        assertTrue(feedback.contains(String.format(LoanFilterCommand.MESSAGE_PLAN, "full scan")));
+
+        feedback = parser.parseCommand(LoanFilterCommand.COMMAND_WORD + " pred/ isPaid n")
+                .execute(new ModelManager()).getFeedbackToUser();
+        assertFalse(feedback.contains(String.format(LoanFilterCommand.MESSAGE_PLAN, "")));
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
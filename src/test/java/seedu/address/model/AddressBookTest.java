@@ -7,17 +7,27 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.PortfolioSummary.LoanTotals;
+import seedu.address.model.person.Loan;
+import seedu.address.model.person.LoanList;
+import seedu.address.model.person.LoanPredicate;
+import seedu.address.model.person.LoanPredicate.LoanParameter;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.testutil.PersonBuilder;
@@ -83,6 +93,109 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
     }
 
+    @Test
+    public void getPortfolioSummary_afterChanges_matchesRebuiltSummary() throws Exception {
+        Person alice = new PersonBuilder(ALICE).build();
+        Person benson = new PersonBuilder(BENSON).build();
+        addressBook.addPerson(alice);
+        addressBook.addPerson(benson);
+        addressBook.addLoan(alice, newLoan("1000.00/0.00/5.00/2050-12-27/NA/2020-12-24/S/0"));
+        addressBook.addLoan(alice, newLoan("2000.00/0.00/3.00/2050-12-27/NA/2020-12-24/C/0"));
+        addressBook.addLoan(benson, newLoan("500.00/0.00/4.00/2021-12-27/NA/2020-12-24/S/0"));
+        assertPortfolioMatchesRebuilt();
+
+        LoanTotals overdueLoans = addressBook.getPortfolioSummary().getOverdueLoans();
+        assertEquals(1, overdueLoans.getCount());
+        assertEquals(3, addressBook.getPortfolioSummary().getAllLoans().getCount());
+
+        addressBook.payLoan(alice, 0, 100);
+        assertPortfolioMatchesRebuilt();
+
+        Person editedBenson = new PersonBuilder(benson).withPhone("91234567").build();
+        addressBook.setPerson(benson, editedBenson);
+        assertPortfolioMatchesRebuilt();
+
+        addressBook.removeLoan(alice, 1);
+        addressBook.removePerson(editedBenson);
+        assertPortfolioMatchesRebuilt();
+        assertEquals(1, addressBook.getPortfolioSummary().getSimpleInterestLoans().getCount());
+        assertEquals(LoanTotals.NONE, addressBook.getPortfolioSummary().getOverdueLoans());
+    }
+
+    @Test
+    public void getLoansDueBetween_afterChanges_findsLoansInRange() throws Exception {
+        Person alice = new PersonBuilder(ALICE).build();
+        Person benson = new PersonBuilder(BENSON).build();
+        addressBook.addPerson(alice);
+        addressBook.addPerson(benson);
+        Loan early = newLoan("1000.00/0.00/5.00/2040-01-10/NA/2020-12-24/S/0");
+        Loan late = newLoan("2000.00/0.00/3.00/2050-12-27/NA/2020-12-24/C/0");
+        Loan bensonLoan = newLoan("500.00/0.00/4.00/2040-01-20/NA/2020-12-24/S/0");
+        addressBook.addLoan(alice, early);
+        addressBook.addLoan(alice, late);
+        addressBook.addLoan(benson, bensonLoan);
+
+        Map<Person, Set<Loan>> dueIn2040 = addressBook.getLoansDueBetween(LocalDate.of(2040, 1, 1),
+                LocalDate.of(2040, 12, 31));
+        assertEquals(Set.of(early), dueIn2040.get(alice));
+        assertEquals(Set.of(bensonLoan), dueIn2040.get(benson));
+
+        // paid off, so removed from the loan list and the index
+        addressBook.payLoan(alice, 0, early.getRemainingOwed());
+        Person editedBenson = new PersonBuilder(benson).withPhone("91234567").build();
+        editedBenson.addLoanList(benson.getLoanList()); // as EditCommand does
+        addressBook.setPerson(benson, editedBenson);
+        dueIn2040 = addressBook.getLoansDueBetween(LocalDate.of(2040, 1, 1), LocalDate.of(2040, 12, 31));
+        assertFalse(dueIn2040.containsKey(alice));
+        assertFalse(dueIn2040.containsKey(benson));
+        assertEquals(1, dueIn2040.get(editedBenson).size());
+
+        addressBook.removePerson(editedBenson);
+        assertTrue(addressBook.getLoansDueBetween(LocalDate.of(2040, 1, 1), LocalDate.of(2040, 12, 31)).isEmpty());
+    }
+
+    @Test
+    public void filter_dueDateForAll_keepsFilterOnLaterLoans() {
+        Person alice = new PersonBuilder(ALICE).build();
+        Person benson = new PersonBuilder(BENSON).build();
+        addressBook.addPerson(alice);
+        addressBook.addPerson(benson);
+        addressBook.addLoan(alice, newLoan("1000.00/0.00/5.00/2040-01-10/NA/2020-12-24/S/0"));
+        addressBook.addLoan(alice, newLoan("2000.00/0.00/3.00/2050-12-27/NA/2020-12-24/C/0"));
+        addressBook.addLoan(benson, newLoan("2000.00/0.00/3.00/2050-12-27/NA/2020-12-24/C/0"));
+
+        addressBook.filter(-2, new LoanPredicate(LoanParameter.DUE_DATE, Optional.empty(), Optional.empty(),
+                Optional.of(LocalDate.of(2045, 1, 1)), Optional.of('<')));
+        assertEquals(1, alice.getLoans().size());
+        assertEquals(0, benson.getLoans().size());
+
+        addressBook.addLoan(benson, newLoan("500.00/0.00/4.00/2040-01-20/NA/2020-12-24/S/0"));
+        assertEquals(1, benson.getLoans().size());
+
+        addressBook.filter(-2, null);
+        assertEquals(2, alice.getLoans().size());
+        assertEquals(2, benson.getLoans().size());
+    }
+
+    private void assertPortfolioMatchesRebuilt() {
+        PortfolioSummary actual = addressBook.getPortfolioSummary();
+        PortfolioSummary expected = new AddressBook(addressBook).getPortfolioSummary();
+        assertLoanTotalsClose(expected.getSimpleInterestLoans(), actual.getSimpleInterestLoans());
+        assertLoanTotalsClose(expected.getCompoundInterestLoans(), actual.getCompoundInterestLoans());
+        assertLoanTotalsClose(expected.getOverdueLoans(), actual.getOverdueLoans());
+    }
+
+    private static void assertLoanTotalsClose(LoanTotals expected, LoanTotals actual) {
+        assertEquals(expected.getCount(), actual.getCount());
+        assertTrue(Math.abs(expected.getPrincipal() - actual.getPrincipal()) < 0.01);
+        assertTrue(Math.abs(expected.getOwed() - actual.getOwed()) < 0.01);
+        assertTrue(Math.abs(expected.getPaid() - actual.getPaid()) < 0.01);
+    }
+
+    private static Loan newLoan(String loanString) {
+        return LoanList.stringToLoanList(loanString).getLoans().get(0);
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName() + "{persons=" + addressBook.getPersonList() + "}";
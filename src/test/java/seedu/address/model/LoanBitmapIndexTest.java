@@ -0,0 +1,83 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Loan;
+import seedu.address.model.person.LoanList;
+import seedu.address.model.person.LoanPredicate;
+import seedu.address.model.person.LoanPredicate.LoanParameter;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class LoanBitmapIndexTest {
+
+    private final AddressBook addressBook = new AddressBook();
+    private final LoanBitmapIndex index = new LoanBitmapIndex();
+
+    @Test
+    public void select_noCoveredCondition_returnsEmpty() {
+        LoanPredicate amount = new LoanPredicate(LoanParameter.AMOUNT, Optional.empty(), Optional.of(10f),
+                Optional.empty(), Optional.of('>'));
+        assertTrue(index.select(List.of(amount)).isEmpty());
+    }
+
+    @Test
+    public void onChange_editedCopy_keepsLoanIds() {
+        addressBook.addChangeListener(index);
+        Person alice = new PersonBuilder().withName("Alice").build();
+        addressBook.addPerson(alice);
+        Loan simple = newLoan("100.00/0.00/5.00/2040-01-10/NA/2020-12-24/S/0");
+        Loan compound = newLoan("300.00/0.00/4.00/2051-06-20/NA/2020-12-24/C/0");
+        addressBook.addLoan(alice, simple);
+        addressBook.addLoan(alice, compound);
+        int simpleId = index.getId(simple);
+        int compoundId = index.getId(compound);
+
+        Person editedAlice = new PersonBuilder(alice).withPhone("91234567").build();
+        editedAlice.addLoanList(alice.getLoanList()); // as EditCommand does
+        addressBook.setPerson(alice, editedAlice);
+        assertEquals(simpleId, index.getId(simple));
+        assertEquals(compoundId, index.getId(compound));
+
+        BitSet compoundLoans = index.select(List.of(loanType('c'))).get();
+        assertEquals(1, compoundLoans.cardinality());
+        assertTrue(index.getLoans(compoundLoans).get(editedAlice).contains(compound));
+        assertFalse(index.getLoans(compoundLoans).containsKey(alice));
+    }
+
+    @Test
+    public void onChange_removedLoan_freesId() {
+        addressBook.addChangeListener(index);
+        Person alice = new PersonBuilder().withName("Alice").build();
+        addressBook.addPerson(alice);
+        Loan first = newLoan("100.00/0.00/5.00/2040-01-10/NA/2020-12-24/S/0");
+        addressBook.addLoan(alice, first);
+        int firstId = index.getId(first);
+
+        addressBook.removeLoan(alice, 0);
+        assertEquals(-1, index.getId(first));
+        assertEquals(0, index.size());
+
+        Loan second = newLoan("300.00/0.00/4.00/2051-06-20/NA/2020-12-24/C/0");
+        addressBook.addLoan(alice, second);
+        assertEquals(firstId, index.getId(second));
+        assertEquals(0, index.select(List.of(loanType('s'))).get().cardinality());
+    }
+
+    private static LoanPredicate loanType(char operator) {
+        return new LoanPredicate(LoanParameter.LOAN_TYPE, Optional.empty(), Optional.empty(), Optional.empty(),
+                Optional.of(operator));
+    }
+
+    private static Loan newLoan(String loanString) {
+        return LoanList.stringToLoanList(loanString).getLoans().get(0);
+    }
+}
@@ -0,0 +1,134 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Loan;
+import seedu.address.model.person.LoanList;
+import seedu.address.model.person.LoanPredicate;
+import seedu.address.model.person.LoanPredicate.LoanParameter;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class LoanQueryPlannerTest {
+
+    private final AddressBook addressBook = new AddressBook();
+    private Person alice;
+    private Person bob;
+
+    @BeforeEach
+    public void setUp() {
+        alice = new PersonBuilder().withName("Alice").build();
+        bob = new PersonBuilder().withName("Bob").build();
+        addressBook.addPerson(alice);
+        addressBook.addPerson(bob);
+        addressBook.addLoan(alice, newLoan("100.00/0.00/5.00/2040-01-10/NA/2020-12-24/S/0"));
+        addressBook.addLoan(alice, newLoan("5000.00/0.00/3.00/2050-12-27/NA/2020-12-24/C/0"));
+        addressBook.addLoan(bob, newLoan("200.00/0.00/4.00/2050-06-20/NA/2020-12-24/S/0"));
+        addressBook.addLoan(bob, newLoan("300.00/0.00/4.00/2051-06-20/NA/2020-12-24/C/0"));
+    }
+
+    @Test
+    public void filter_narrowDueDateRange_usesDueDateIndex() {
+        LoanPredicate predicate = dueBefore(LocalDate.of(2041, 1, 1)).and(amountAtLeast(50));
+        addressBook.filter(-2, predicate);
+
+        assertEquals("index scan on dueDate (, 2040-12-31] (1 of 4 loans), residual filter: amount > 50.0",
+                addressBook.getLastLoanFilterPlan());
+        assertEquals(1, alice.getLoanList().getLoans().size());
+        assertEquals(0, bob.getLoanList().getLoans().size());
+    }
+
+    @Test
+    public void filter_narrowAmountRange_usesAmountIndex() {
+        LoanPredicate predicate = dueBefore(LocalDate.of(2060, 1, 1)).and(amountAtLeast(3000));
+        addressBook.filter(-2, predicate);
+
+        assertEquals("index scan on amount [3000.0, ) (1 of 4 loans), residual filter: due < 2060-01-01",
+                addressBook.getLastLoanFilterPlan());
+        assertEquals(1, alice.getLoanList().getLoans().size());
+        assertTrue(alice.getLoanList().getLoans().get(0).getRemainingOwed() >= 3000);
+        assertEquals(0, bob.getLoanList().getLoans().size());
+    }
+
+    @Test
+    public void filter_noSelectiveIndex_scansEveryLoan() {
+        LoanPredicate predicate = dueBefore(LocalDate.of(2060, 1, 1)).and(isPaid('n'));
+        addressBook.filter(-2, predicate);
+
+        assertEquals("full scan (4 of 4 loans), filter: due < 2060-01-01, status unpaid",
+                addressBook.getLastLoanFilterPlan());
+        assertEquals(2, alice.getLoanList().getLoans().size());
+        assertEquals(2, bob.getLoanList().getLoans().size());
+    }
+
+    @Test
+    public void filter_loanTypeAndPaidStatus_usesBitmaps() {
+        LoanPredicate predicate = loanType('c').and(isPaid('n')).and(amountAtLeast(50));
+        addressBook.filter(-2, predicate);
+
+        assertEquals("bitmap scan on loan type compound interest, status unpaid (2 of 4 loans), "
+                + "residual filter: amount > 50.0", addressBook.getLastLoanFilterPlan());
+        assertEquals(1, alice.getLoanList().getLoans().size());
+        assertEquals(1, bob.getLoanList().getLoans().size());
+    }
+
+    @Test
+    public void filter_narrowRangeAndLoanType_intersectsRangeWithBitmap() {
+        LoanPredicate predicate = loanType('c').and(dueBefore(LocalDate.of(2041, 1, 1)));
+        addressBook.filter(-2, predicate);
+
+        assertEquals("index scan on dueDate (, 2040-12-31] (1 of 4 loans), bitmap filter: "
+                + "loan type compound interest, residual filter: none", addressBook.getLastLoanFilterPlan());
+        assertEquals(0, alice.getLoanList().getLoans().size());
+        assertEquals(0, bob.getLoanList().getLoans().size());
+    }
+
+    @Test
+    public void filter_sameResultAsFullScan() {
+        List<LoanPredicate> predicates = List.of(
+                dueBefore(LocalDate.of(2051, 1, 1)).and(amountAtLeast(150)),
+                amountAtLeast(150).and(isPaid('n')),
+                amountAtLeast(250).and(dueBefore(LocalDate.of(2050, 12, 28))),
+                loanType('s').and(dueBefore(LocalDate.of(2050, 12, 28))),
+                loanType('c').and(isPaid('n')).and(amountAtLeast(150)));
+        for (LoanPredicate predicate : predicates) {
+            addressBook.filter(-2, predicate);
+            for (Person person : List.of(alice, bob)) {
+                long expected = person.getLoanList().stream().filter(predicate).count();
+                assertEquals(expected, (long) person.getLoanList().getLoans().size());
+            }
+        }
+    }
+
+    private static LoanPredicate dueBefore(LocalDate date) {
+        return new LoanPredicate(LoanParameter.DUE_DATE, Optional.empty(), Optional.empty(), Optional.of(date),
+                Optional.of('<'));
+    }
+
+    private static LoanPredicate amountAtLeast(float amount) {
+        return new LoanPredicate(LoanParameter.AMOUNT, Optional.empty(), Optional.of(amount), Optional.empty(),
+                Optional.of('>'));
+    }
+
+    private static LoanPredicate loanType(char operator) {
+        return new LoanPredicate(LoanParameter.LOAN_TYPE, Optional.empty(), Optional.empty(), Optional.empty(),
+                Optional.of(operator));
+    }
+
+    private static LoanPredicate isPaid(char operator) {
+        return new LoanPredicate(LoanParameter.IS_PAID, Optional.empty(), Optional.empty(), Optional.empty(),
+                Optional.of(operator));
+    }
+
+    private static Loan newLoan(String loanString) {
+        return LoanList.stringToLoanList(loanString).getLoans().get(0);
+    }
+}
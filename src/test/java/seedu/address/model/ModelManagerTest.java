@@ -11,12 +11,18 @@ import static seedu.address.testutil.TypicalPersons.BENSON;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.Loan;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.SimpleInterestLoan;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -88,6 +94,38 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void setPerson_renamedAfterPayingOffLoan_movesArchivedLoans() throws Exception {
+        Person amy = new PersonBuilder().withName("Amy Bee").build();
+        modelManager.addPerson(amy);
+        Loan loan = new SimpleInterestLoan("100", "5", "2099-12-31");
+        modelManager.addLoan(amy, loan);
+        modelManager.payLoan(amy, 0, loan.getRemainingOwed());
+
+        Person renamedAmy = new PersonBuilder().withName("Amy Tan").build();
+        modelManager.setPerson(amy, renamedAmy);
+        assertEquals(List.of(ArchivedNameChange.moved(amy.getName(), renamedAmy.getName())),
+                modelManager.getUnarchivedNameChanges());
+        assertEquals(Set.of(renamedAmy.getName()), modelManager.getUnarchivedLoans().keySet());
+
+        modelManager.deletePerson(renamedAmy);
+        assertEquals(ArchivedNameChange.retired(renamedAmy.getName(), List.of(loan)),
+                modelManager.getUnarchivedNameChanges().get(1));
+        assertTrue(modelManager.getUnarchivedLoans().isEmpty());
+
+        modelManager.markLoansArchived();
+        assertTrue(modelManager.getUnarchivedNameChanges().isEmpty());
+    }
+
+    @Test
+    public void setAddressBook_personsLeft_retiresTheirArchivedLoans() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.setAddressBook(new AddressBookBuilder().withPerson(BENSON).build());
+        assertEquals(List.of(ArchivedNameChange.retired(ALICE.getName(), List.of())),
+                modelManager.getUnarchivedNameChanges());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
@@ -0,0 +1,92 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonSearchIndexTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+
+    @Test
+    public void search_wholeName_exactMatch() {
+        List<PersonSearchResult> results = addressBook.searchPersons(List.of("KURZ"));
+        assertEquals(CARL, results.get(0).getPerson());
+        assertEquals(PersonSearchIndex.EXACT, results.get(0).getDistance());
+        assertEquals(List.of("name kurz"), results.get(0).getMatches());
+
+        // one typo away from kunz, so ranked after the exact match
+        assertEquals(List.of(CARL, FIONA), personsOf(results));
+    }
+
+    @Test
+    public void search_partOfPhone_prefixAndSubstringMatch() {
+        List<PersonSearchResult> results = addressBook.searchPersons(List.of("9435"));
+        assertEquals(List.of(ALICE), personsOf(results));
+        assertEquals(PersonSearchIndex.PREFIX, results.get(0).getDistance());
+
+        results = addressBook.searchPersons(List.of("2241"));
+        assertEquals(List.of(ELLE), personsOf(results));
+        assertEquals(PersonSearchIndex.SUBSTRING, results.get(0).getDistance());
+    }
+
+    @Test
+    public void search_misspelledName_fuzzyMatch() {
+        // swapped letters
+        List<PersonSearchResult> results = addressBook.searchPersons(List.of("alcie"));
+        assertEquals(List.of(ALICE), personsOf(results));
+        assertEquals(PersonSearchIndex.FUZZY + 1, results.get(0).getDistance());
+
+        // one letter replaced
+        assertEquals(List.of(BENSON), personsOf(addressBook.searchPersons(List.of("bensen"))));
+
+        // short words must match without typos
+        assertTrue(addressBook.searchPersons(List.of("bex")).isEmpty());
+    }
+
+    @Test
+    public void search_moreWordsMatched_rankedFirst() {
+        List<PersonSearchResult> results = addressBook.searchPersons(List.of("meier", "9876"));
+        assertEquals(List.of(BENSON, DANIEL, ELLE), personsOf(results));
+        assertEquals(2, results.get(0).getMatchedWordCount());
+    }
+
+    @Test
+    public void search_afterChanges_findsCurrentDetails() {
+        Person renamed = new PersonBuilder(CARL).withName("Carla Kurzweil").build();
+        addressBook.setPerson(CARL, renamed);
+        assertEquals(List.of(renamed), personsOf(addressBook.searchPersons(List.of("kurzw"))));
+        assertTrue(addressBook.searchPersons(List.of("carl")).stream()
+                .allMatch(result -> result.getDistance() > PersonSearchIndex.EXACT));
+
+        addressBook.removePerson(renamed);
+        assertTrue(addressBook.searchPersons(List.of("kurzweil")).isEmpty());
+    }
+
+    @Test
+    public void editDistance() {
+        assertEquals(0, PersonSearchIndex.editDistance("alice", "alice", 2));
+        assertEquals(1, PersonSearchIndex.editDistance("alice", "alise", 2));
+        assertEquals(1, PersonSearchIndex.editDistance("alice", "alcie", 2));
+        assertEquals(1, PersonSearchIndex.editDistance("alice", "alic", 2));
+        assertEquals(3, PersonSearchIndex.editDistance("alice", "bob", 2));
+    }
+
+    private static List<Person> personsOf(List<PersonSearchResult> results) {
+        return results.stream().map(PersonSearchResult::getPerson).collect(Collectors.toList());
+    }
+}
@@ -1,9 +1,13 @@
 package seedu.address.model.person;
 
 // import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.time.LocalDate;
+import java.util.Random;
+
 import org.junit.jupiter.api.Test;
 public class CompoundInterestLoanTest {
     public static final String INVALID_AMT = "amount";
@@ -42,4 +46,70 @@ public class CompoundInterestLoanTest {
         loan.setDueDate(PAST_DATE);
         assertTrue(loan.isOverDue());
     }
+
+    @Test
+    public void getPaymentDifference_randomLoans_matchesIterativeCalculation() {
+        Random random = new Random(2103);
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i < 2000; i++) {
+            int principal = 1 + random.nextInt(100000);
+            LocalDate dateCreated = today.minusMonths(random.nextInt(6) == 0 ? random.nextInt(240) : random.nextInt(4))
+                    .minusDays(random.nextInt(28));
+            LocalDate dueDate = dateCreated.plusMonths(1 + random.nextInt(360));
+            String interest = random.nextInt(5) == 0 ? "0" : String.format("%.2f", random.nextFloat() * 30);
+            String amtPaid = String.format("%.2f", random.nextFloat() * principal);
+            CompoundInterestLoan loan = new CompoundInterestLoan(String.valueOf(principal), amtPaid, interest,
+                    dueDate.toString(), "NA", dateCreated.toString(), "0");
+
+            float expected = getIterativePaymentDifference(loan);
+            float actual = loan.getPaymentDifference();
+            assertTrue(isClose(expected, actual, principal), loan + ": expected " + expected + " but was " + actual);
+        }
+    }
+
+    @Test
+    public void getAmortizationSchedule_unchangedLoan_returnsEqualSchedule() {
+        CompoundInterestLoan loan = new CompoundInterestLoan(VALID_AMT, VALID_INTEREST, VALID_DATE);
+        assertEquals(loan.getAmortizationSchedule(), loan.getAmortizationSchedule());
+    }
+
+    /**
+     * The month-by-month calculation that {@link CompoundInterestLoan#getPaymentDifference()} used to do.
+     */
+    private static float getIterativePaymentDifference(CompoundInterestLoan loan) {
+        float balance = loan.getPrincipal();
+        float monthlyRate = loan.getMonthlyInterest();
+        int months = loan.getMonthsSinceLoan();
+
+        for (int i = 0; i < months; i++) {
+            balance = balance * (1 + monthlyRate) - loan.getMonthlyInstalmentAmount();
+        }
+
+        if (months > loan.getLoanLengthMonths()) {
+            int extraMonths = months - loan.getLoanLengthMonths();
+            for (int i = 0; i < extraMonths; i++) {
+                balance = balance * (1 + monthlyRate);
+            }
+        }
+
+        float expectedPaid = loan.getPrincipal() - Math.max(0, balance);
+        return expectedPaid - loan.getAmtPaid();
+    }
+
+    /**
+     * Returns true if the two results agree to within float rounding of the larger of them and the principal.
+     * Results beyond 1e37 in size are treated as having overflowed, since the iterative calculation can overflow
+     * a step before or after the closed form does.
+     */
+    private static boolean isClose(float expected, float actual, float principal) {
+        if (Float.isNaN(expected) || Float.isNaN(actual)) {
+            return Float.isNaN(expected) && Float.isNaN(actual);
+        }
+        if (Math.abs(expected) > 1e37 || Math.abs(actual) > 1e37) {
+            return Math.signum(expected) == Math.signum(actual) && Math.abs(expected) > 1e37
+                    && Math.abs(actual) > 1e37;
+        }
+        double scale = Math.max(principal, Math.max(Math.abs(expected), Math.abs(actual)));
+        return Math.abs(expected - actual) <= 1e-3 * scale;
+    }
 }
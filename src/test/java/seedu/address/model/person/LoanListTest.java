@@ -1,7 +1,10 @@
 package seedu.address.model.person;
 
 // import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.LoanUtil.toSaveString;
 //import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -19,9 +22,58 @@ public class LoanListTest {
     @Test
     public void isValidLoan() {
         LoanList loanList = LoanList.stringToLoanList(VALID_LOAN_STRING);
-        assertTrue(loanList.toSaveString().equals(VALID_OUTPUT_LOAN_STRING));
+        assertTrue(toSaveString(loanList).equals(VALID_OUTPUT_LOAN_STRING));
 
         loanList = LoanList.stringToLoanList("");
-        assertTrue(loanList.toSaveString().equals(LoanList.EMPTY_STRING));
+        assertTrue(toSaveString(loanList).equals(LoanList.EMPTY_STRING));
+    }
+
+    @Test
+    public void aggregates_afterAddPayAndRemove_matchLoans() throws Exception {
+        LoanList loanList = LoanList.stringToLoanList(VALID_LOAN_STRING);
+        assertAggregatesMatchLoans(loanList);
+
+        loanList.add(new SimpleInterestLoan("500", "3", "2050-01-01"));
+        assertAggregatesMatchLoans(loanList);
+
+        assertTrue(loanList.payLoan(0, 10).isEmpty());
+        assertAggregatesMatchLoans(loanList);
+
+        Loan paidOffLoan = loanList.getLoans().get(3);
+        assertSame(paidOffLoan, loanList.payLoan(3, paidOffLoan.getRemainingOwed()).get()); // paid off, so removed
+        assertEquals(3, loanList.getLoans().size());
+        assertAggregatesMatchLoans(loanList);
+
+        loanList.remove(0);
+        loanList.remove(loanList.getLoans().get(0));
+        assertAggregatesMatchLoans(loanList);
+
+        loanList.remove(0);
+        assertEquals(0f, loanList.getTotalLoanOwed());
+        assertEquals(0f, loanList.getTotalAmountPaid());
+        assertEquals(Float.NEGATIVE_INFINITY, loanList.getMostOverdueMonths());
+    }
+
+    private static void assertAggregatesMatchLoans(LoanList loanList) {
+        float owed = 0;
+        float paid = 0;
+        float mostOverdue = Float.NEGATIVE_INFINITY;
+        int paidCount = 0;
+        int simpleCount = 0;
+        for (Loan loan : loanList.getLoans()) {
+            owed += loan.getAmountOwed();
+            paid += loan.getAmtPaid();
+            mostOverdue = Math.max(mostOverdue, loan.getMissedInstalmentsMonthsPrecise());
+            paidCount += loan.isPaid() ? 1 : 0;
+            simpleCount += loan.getName().equals(SimpleInterestLoan.LOAN_TYPE) ? 1 : 0;
+        }
+
+        assertTrue(Math.abs(owed - loanList.getTotalLoanOwed()) < 0.01);
+        assertTrue(Math.abs(paid - loanList.getTotalAmountPaid()) < 0.01);
+        assertEquals(mostOverdue, loanList.getMostOverdueMonths());
+        assertEquals(paidCount, loanList.getPaidLoanCount());
+        assertEquals(loanList.getLoans().size() - paidCount, loanList.getUnpaidLoanCount());
+        assertEquals(simpleCount, loanList.getLoanCount(SimpleInterestLoan.LOAN_TYPE));
+        assertEquals(loanList.getLoans().size() - simpleCount, loanList.getLoanCount(CompoundInterestLoan.LOAN_TYPE));
     }
 }
@@ -1,10 +1,21 @@
 package seedu.address.model.person;
 
 // import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.LoanUtil.toSaveString;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.EvaluationDate;
+
 public class SimpleInterestLoanTest {
     public static final String INVALID_AMT = "amount";
     public static final String INVALID_INTEREST = "interest";
@@ -42,6 +53,89 @@ public class SimpleInterestLoanTest {
         assertTrue(Loan.isValidLoan(loan));
 
         loan = Loan.stringToLoan(VALID_LOAN_STRING);
-        assertTrue(loan.toSaveString().equals(VALID_LOAN_STRING));
+        assertTrue(toSaveString(loan).equals(VALID_LOAN_STRING));
+    }
+
+    @Test
+    public void stringToLoan_paidOnDayCreated_success() {
+        String paidOnDayCreated = "1000.91/45.60/4.19/2050-12-27/2004-12-24/2004-12-24/S/0";
+        assertEquals(paidOnDayCreated, toSaveString(Loan.stringToLoan(paidOnDayCreated)));
+
+        // paid before it was created
+        assertThrows(IllegalArgumentException.class, () ->
+            Loan.stringToLoan("1000.91/45.60/4.19/2050-12-27/2004-12-23/2004-12-24/S/0"));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        EvaluationDate.useSystemClock();
+    }
+
+    @Test
+    public void getLoanValue_calledRepeatedly_computedOnce() {
+        CountingLoan loan = new CountingLoan();
+        float loanValue = loan.getLoanValue();
+
+        assertEquals(loanValue, loan.getLoanValue());
+        assertEquals(loanValue, loan.getLoanValue());
+        assertEquals(1, loan.loanValueCount);
+    }
+
+    @Test
+    public void getPaymentDifference_afterPayment_recomputed() throws Exception {
+        CountingLoan loan = new CountingLoan();
+        float paymentDifference = loan.getPaymentDifference();
+
+        loan.pay(100);
+
+        assertNotEquals(paymentDifference, loan.getPaymentDifference());
+        assertEquals(2, loan.paymentDifferenceCount);
+    }
+
+    @Test
+    public void getLoanValue_afterUpdateIsPaid_recomputed() {
+        CountingLoan loan = new CountingLoan();
+        float loanValue = loan.getLoanValue();
+
+        loan.updateIsPaid();
+
+        assertEquals(loanValue, loan.getLoanValue());
+        assertEquals(2, loan.loanValueCount);
+    }
+
+    @Test
+    public void getMonthsUntilDueDate_dateRollsOver_recomputed() {
+        EvaluationDate.setClock(Clock.fixed(Instant.parse("2030-01-15T00:00:00Z"), ZoneOffset.UTC));
+        Loan loan = Loan.stringToLoan(VALID_LOAN_STRING);
+        int monthsUntilDueDate = loan.getMonthsUntilDueDate();
+
+        EvaluationDate.setClock(Clock.fixed(Instant.parse("2030-02-15T00:00:00Z"), ZoneOffset.UTC));
+
+        assertNotEquals(monthsUntilDueDate, loan.getMonthsUntilDueDate());
+        assertEquals(monthsUntilDueDate - 1, loan.getMonthsUntilDueDate());
+    }
+
+    /**
+     * A loan that counts how often its derived values are worked out.
+     */
+    private static class CountingLoan extends SimpleInterestLoan {
+        private int loanValueCount = 0;
+        private int paymentDifferenceCount = 0;
+
+        CountingLoan() {
+            super("1000.00", "0.00", "5.00", "2050-12-27", "NA", "2004-12-24", "0");
+        }
+
+        @Override
+        protected float computeLoanValue() {
+            loanValueCount++;
+            return super.computeLoanValue();
+        }
+
+        @Override
+        protected float computePaymentDifference() {
+            paymentDifferenceCount++;
+            return super.computePaymentDifference();
+        }
     }
 }
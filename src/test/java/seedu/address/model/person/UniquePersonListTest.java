@@ -9,12 +9,20 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+
+import seedu.address.logic.commands.SortCommand;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -102,6 +110,14 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_updatesContains() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void setPerson_editedPersonHasNonUniqueIdentity_throwsDuplicatePersonException() {
         uniquePersonList.add(ALICE);
@@ -127,6 +143,15 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_existingPerson_updatesContains() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -162,6 +187,135 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void sort_byEachKey_matchesComparatorSort() {
+        // large enough to compute the keys in parallel, with repeated amounts so that stability matters
+        Random random = new Random(2103);
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            Person person = new PersonBuilder().withName("Person " + i).build();
+            int loanCount = random.nextInt(3);
+            for (int j = 0; j < loanCount; j++) {
+                person.addLoan(Loan.stringToLoan((100 * (1 + random.nextInt(20))) + ".00/0.00/5.00/"
+                        + (2030 + random.nextInt(20)) + "-01-15/2023-12-24/2004-12-24/" + (j % 2 == 0 ? "S" : "C")
+                        + "/0"));
+            }
+            persons.add(person);
+        }
+        Collections.shuffle(persons, random);
+
+        Map<String, Comparator<Person>> comparators = Map.of(
+                SortCommand.NAME, Comparator.comparing(person -> person.getName().toString()),
+                SortCommand.OVERDUE, Comparator.comparing(person -> person.getLoanList().getMostOverdueMonths()),
+                SortCommand.AMOUNT, Comparator.comparing(person -> person.getLoanList().getTotalLoanOwed()));
+        for (Map.Entry<String, Comparator<Person>> entry : comparators.entrySet()) {
+            for (String order : List.of(SortCommand.ASC, SortCommand.DESC)) {
+                uniquePersonList.setPersons(persons);
+                List<Person> expected = new ArrayList<>(persons);
+                expected.sort(order.equals(SortCommand.DESC) ? entry.getValue().reversed() : entry.getValue());
+
+                uniquePersonList.sort(entry.getKey(), order);
+
+                List<Person> actual = uniquePersonList.asUnmodifiableObservableList();
+                for (int i = 0; i < expected.size(); i++) {
+                    assertTrue(expected.get(i) == actual.get(i), entry.getKey() + " " + order + " at " + i);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void sort_alreadySorted_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        assertFalse(uniquePersonList.sort(SortCommand.NAME, SortCommand.ASC));
+        assertTrue(uniquePersonList.sort(SortCommand.NAME, SortCommand.DESC));
+    }
+
+    @Test
+    public void getPersonsWithNameWords_afterChanges_findsCurrentPersons() {
+        Person alice = new PersonBuilder().withName("Alice Pauline").build();
+        Person bob = new PersonBuilder().withName("Bob Choo").build();
+        uniquePersonList.add(alice);
+        uniquePersonList.add(bob);
+        assertEquals(Set.of(alice, bob), uniquePersonList.getPersonsWithNameWords(List.of("pauline", "bob")));
+
+        Person editedBob = new PersonBuilder().withName("Bob Pauline").build();
+        uniquePersonList.setPerson(bob, editedBob);
+        assertEquals(Set.of(alice, editedBob), uniquePersonList.getPersonsWithNameWords(List.of("pauline")));
+        assertTrue(uniquePersonList.getPersonsWithNameWords(List.of("choo")).isEmpty());
+
+        uniquePersonList.remove(alice);
+        assertEquals(Set.of(editedBob), uniquePersonList.getPersonsWithNameWords(List.of("pauline", "alice")));
+
+        uniquePersonList.setPersons(List.of(alice));
+        assertEquals(Set.of(alice), uniquePersonList.getPersonsWithNameWords(List.of("pauline")));
+    }
+
+    @Test
+    public void refresh_personInList_reportsOnlyThatPerson() {
+        Person alice = new PersonBuilder().withName("Alice Pauline").build();
+        Person bob = new PersonBuilder().withName("Bob Choo").build();
+        uniquePersonList.add(alice);
+        uniquePersonList.add(bob);
+        List<String> changes = recordChanges();
+
+        uniquePersonList.refresh(bob);
+        assertEquals(List.of("replaced 1 to 2"), changes);
+        assertEquals(List.of(alice, bob), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPerson_afterPersonsMoved_replacesRightPerson() {
+        Person alice = new PersonBuilder().withName("Alice Pauline").build();
+        Person bob = new PersonBuilder().withName("Bob Choo").build();
+        Person carl = new PersonBuilder().withName("Carl Kurz").build();
+        uniquePersonList.setPersons(List.of(carl, bob, alice));
+        uniquePersonList.remove(carl);
+        uniquePersonList.sort(SortCommand.NAME, SortCommand.DESC);
+
+        Person editedAlice = new PersonBuilder().withName("Alice Tan").build();
+        uniquePersonList.setPerson(alice, editedAlice);
+        uniquePersonList.add(carl);
+        uniquePersonList.remove(bob);
+        assertEquals(List.of(editedAlice, carl), uniquePersonList.asUnmodifiableObservableList());
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(alice));
+    }
+
+    @Test
+    public void refresh_personNotInList_throwsPersonNotFoundException() {
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.refresh(ALICE));
+    }
+
+    @Test
+    public void filterEach_loansShownChangedForOnePerson_reportsOnlyThatPerson() throws Exception {
+        Person alice = new PersonBuilder().withName("Alice Pauline").build();
+        Person bob = new PersonBuilder().withName("Bob Choo").build();
+        alice.addLoan(new SimpleInterestLoan("500", "3", "2050-01-01"));
+        uniquePersonList.add(alice);
+        uniquePersonList.add(bob);
+        List<String> changes = recordChanges();
+
+        uniquePersonList.filterEach(person -> loan -> false);
+        assertEquals(List.of("replaced 0 to 1"), changes);
+
+        // the same filter again hides no more loans
+        changes.clear();
+        uniquePersonList.filterEach(person -> loan -> false);
+        assertTrue(changes.isEmpty());
+    }
+
+    private List<String> recordChanges() {
+        List<String> changes = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                changes.add((change.wasReplaced() ? "replaced " : "other ") + change.getFrom() + " to "
+                        + change.getTo());
+            }
+        });
+        return changes;
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
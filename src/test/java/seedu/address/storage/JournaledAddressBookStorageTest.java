@@ -0,0 +1,262 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.LoanUtil.assertLoansEqual;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Loan;
+import seedu.address.model.person.LoanList;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+    private static final String LOAN_STRING = "1000.00/0.00/5.00/2050-12-27/2023-12-24/2004-12-24/S/0";
+    private static final Path LOAN_STRING_FORMAT_FILE = Paths.get("src", "test", "data",
+            "JsonSerializableAddressBookTest", "typicalPersonsAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private AddressBook addressBook;
+    private Person alice;
+    private Person benson;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("addressbook.json");
+        addressBook = new AddressBook();
+        alice = new PersonBuilder(ALICE).build();
+        benson = new PersonBuilder(BENSON).build();
+    }
+
+    @Test
+    public void saveAddressBook_afterSnapshot_onlyAppendsToJournal() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        addressBook.addChangeListener(storage);
+        addressBook.addPerson(alice);
+        storage.saveAddressBook(addressBook);
+        String snapshot = FileUtil.readFromFile(filePath);
+
+        addressBook.addPerson(benson);
+        addressBook.addLoan(benson, newLoan());
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(snapshot, FileUtil.readFromFile(filePath));
+        Path journalPath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        assertEquals(2, Files.readAllLines(journalPath).size());
+        assertReadBackEquals(addressBook, filePath);
+    }
+
+    @Test
+    public void saveAddressBook_throughStorageManager_appendsToJournal() throws Exception {
+        JournaledAddressBookStorage addressBookStorage = new JournaledAddressBookStorage(filePath);
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json")));
+        addressBook.addChangeListener(addressBookStorage);
+        addressBook.addPerson(alice);
+        storage.saveAddressBook(addressBook);
+        String snapshot = FileUtil.readFromFile(filePath);
+
+        addressBook.addPerson(benson);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(snapshot, FileUtil.readFromFile(filePath));
+        assertTrue(Files.exists(JournaledAddressBookStorage.getJournalFilePath(filePath)));
+        assertReadBackEquals(addressBook, filePath);
+    }
+
+    @Test
+    public void readAddressBook_journalReplayed_matchesModel() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        addressBook.addChangeListener(storage);
+        addressBook.addPerson(alice);
+        storage.saveAddressBook(addressBook);
+
+        Person carl = new PersonBuilder(CARL).build();
+        addressBook.addPerson(benson);
+        addressBook.addPerson(carl);
+        addressBook.addLoan(carl, newLoan());
+        addressBook.payLoan(carl, 0, 10);
+        Person editedBenson = new PersonBuilder(benson).withName("Benson Renamed").build();
+        addressBook.setPerson(benson, editedBenson);
+        addressBook.removePerson(alice);
+        addressBook.sortPeople(SortCommand.NAME, SortCommand.DESC);
+        storage.saveAddressBook(addressBook);
+
+        assertReadBackEquals(addressBook, filePath);
+    }
+
+    @Test
+    public void prepareSave_mergedSaves_writeEveryEntry() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        addressBook.addChangeListener(storage);
+        addressBook.addPerson(alice);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(benson);
+        PendingSave first = storage.prepareSave(addressBook);
+        addressBook.addLoan(alice, newLoan());
+        PendingSave second = storage.prepareSave(addressBook);
+
+        first.mergeWith(second).write();
+
+        assertEquals(2, Files.readAllLines(JournaledAddressBookStorage.getJournalFilePath(filePath)).size());
+
+        assertReadBackEquals(addressBook, filePath);
+    }
+
+    @Test
+    public void compact_foldsJournalIntoSnapshot() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        addressBook.addChangeListener(storage);
+        addressBook.addPerson(alice);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(benson);
+        addressBook.addLoan(alice, newLoan());
+        storage.saveAddressBook(addressBook);
+
+        storage.compact();
+
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalFilePath(filePath)));
+        assertReadBackEquals(addressBook, filePath);
+    }
+
+    @Test
+    public void saveAddressBook_afterReset_writesSnapshot() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        addressBook.addChangeListener(storage);
+        addressBook.addPerson(alice);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(benson);
+        storage.saveAddressBook(addressBook);
+
+        addressBook.resetData(new AddressBook());
+        storage.saveAddressBook(addressBook);
+
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalFilePath(filePath)));
+        assertReadBackEquals(addressBook, filePath);
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastEntry_ignored() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        addressBook.addChangeListener(storage);
+        addressBook.addPerson(alice);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(benson);
+        storage.saveAddressBook(addressBook);
+
+        FileUtil.appendToFile(JournaledAddressBookStorage.getJournalFilePath(filePath), "{\"op\":\"PU");
+
+        assertReadBackEquals(addressBook, filePath);
+    }
+
+    @Test
+    public void saveAddressBook_loanChanged_journalsOnlyThatLoan() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        addressBook.addChangeListener(storage);
+        addressBook.addPerson(alice);
+        addressBook.addLoan(alice, newLoan());
+        addressBook.addLoan(alice, newLoan());
+        storage.saveAddressBook(addressBook);
+
+        addressBook.addLoan(alice, newLoan());
+        addressBook.payLoan(alice, 1, 10);
+        addressBook.removeLoan(alice, 0);
+        storage.saveAddressBook(addressBook);
+
+        List<String> entries = Files.readAllLines(JournaledAddressBookStorage.getJournalFilePath(filePath));
+        assertEquals(3, entries.size());
+        assertTrue(entries.get(0).contains("\"ADD_LOAN\""));
+        assertTrue(entries.get(1).contains("\"PAY_LOAN\""));
+        assertTrue(entries.get(2).contains("\"REMOVE_LOAN\""));
+        entries.forEach(entry -> assertFalse(entry.contains("\"person\"")));
+        assertReadBackEquals(addressBook, filePath);
+    }
+
+    @Test
+    public void readAddressBook_foldStoppedBeforeRemovingJournal_entriesNotAppliedTwice() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        addressBook.addChangeListener(storage);
+        addressBook.addPerson(alice);
+        storage.saveAddressBook(addressBook);
+        addressBook.addLoan(alice, newLoan());
+        addressBook.addLoan(alice, newLoan());
+        addressBook.removeLoan(alice, 0);
+        storage.saveAddressBook(addressBook);
+        Path journalPath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        String journal = FileUtil.readFromFile(journalPath);
+
+        storage.compact();
+        // as if the fold had written the snapshot but stopped before deleting the journal it folded
+        FileUtil.writeToFile(journalPath.resolveSibling(journalPath.getFileName()
+                + JournaledAddressBookStorage.FOLDING_SUFFIX), journal);
+
+        assertReadBackEquals(addressBook, filePath);
+    }
+
+    @Test
+    public void compact_snapshotInOlderFormat_savedInCurrentFormat() throws Exception {
+        Files.copy(LOAN_STRING_FORMAT_FILE, filePath);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        addressBook = new AddressBook(storage.readAddressBook().get());
+        addressBook.addChangeListener(storage);
+        addressBook.addLoan(addressBook.getPersonList().get(0), newLoan());
+        storage.saveAddressBook(addressBook);
+        assertReadBackEquals(addressBook, filePath);
+
+        storage.compact();
+
+        String snapshot = FileUtil.readFromFile(filePath);
+        assertTrue(snapshot.contains("\"" + JsonSerializableAddressBook.FORMAT_VERSION_FIELD + "\""));
+        assertFalse(snapshot.contains("\"loanList\""));
+        assertReadBackEquals(addressBook, filePath);
+    }
+
+    @Test
+    public void saveAddressBook_pastThreshold_compactsInBackground() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 2);
+        addressBook.addChangeListener(storage);
+        addressBook.addPerson(alice);
+        storage.saveAddressBook(addressBook);
+        addressBook.addLoan(alice, newLoan());
+        addressBook.addPerson(benson);
+        storage.saveAddressBook(addressBook);
+
+        // the background fold runs under the same lock as a manual one, so this waits for it to finish
+        storage.compact();
+
+        assertTrue(Files.exists(filePath));
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalFilePath(filePath)));
+        assertReadBackEquals(addressBook, filePath);
+    }
+
+    private static Loan newLoan() {
+        return LoanList.stringToLoanList(LOAN_STRING).getLoans().get(0);
+    }
+
+    private static void assertReadBackEquals(AddressBook expected, Path filePath) throws Exception {
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(expected, new AddressBook(readBack));
+        for (int i = 0; i < expected.getPersonList().size(); i++) {
+            assertLoansEqual(expected.getPersonList().get(i).getLoans(), readBack.getPersonList().get(i).getLoans());
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.storage.JsonAdaptedLoan.INVALID_LOAN_MESSAGE;
+import static seedu.address.storage.JsonAdaptedLoan.MISSING_FIELD_MESSAGE_FORMAT;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.LoanUtil.assertLoanEquals;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.person.CompoundInterestLoan;
+import seedu.address.model.person.Loan;
+import seedu.address.model.person.LoanList;
+import seedu.address.model.person.SimpleInterestLoan;
+
+public class JsonAdaptedLoanTest {
+    private static final long DUE_EPOCH_DAY = LocalDate.of(2050, 12, 27).toEpochDay();
+    private static final long LAST_PAID_EPOCH_DAY = LocalDate.of(2023, 12, 24).toEpochDay();
+    private static final long CREATED_EPOCH_DAY = LocalDate.of(2004, 12, 24).toEpochDay();
+
+    @Test
+    public void toModelType_savedLoans_sameAsBefore() throws Exception {
+        LoanList loans = LoanList.stringToLoanList("1000.91/45.60/4.19/2050-12-27/2023-12-24/2004-12-24/S/0,"
+                + "3000.91/45.60/4.19/2050-12-27/NA/2004-12-24/C/0");
+        for (Loan loan : loans.getLoans()) {
+            String json = JsonUtil.toJsonString(new JsonAdaptedLoan(loan));
+            Loan readBack = JsonUtil.fromJsonString(json, JsonAdaptedLoan.class).toModelType();
+            assertLoanEquals(loan, readBack);
+            assertEquals(loan.getRemainingOwed(), readBack.getRemainingOwed());
+        }
+    }
+
+    @Test
+    public void toModelType_validLoanDetails_returnsLoan() throws Exception {
+        Loan loan = new JsonAdaptedLoan(CompoundInterestLoan.LOAN_TYPE, 100f, 0f, 2f, DUE_EPOCH_DAY, null,
+                CREATED_EPOCH_DAY, false).toModelType();
+        assertTrue(loan instanceof CompoundInterestLoan);
+        assertEquals(LocalDate.of(2050, 12, 27), loan.getDueDate());
+        assertEquals(LocalDate.of(2004, 12, 24), loan.getDateCreated());
+        assertNull(loan.getDateLastPaid());
+    }
+
+    @Test
+    public void toModelType_markedPaidButStillOwed_marksUnpaid() throws Exception {
+        Loan loan = new JsonAdaptedLoan(SimpleInterestLoan.LOAN_TYPE, 100f, 0f, 0f, DUE_EPOCH_DAY,
+                LAST_PAID_EPOCH_DAY, CREATED_EPOCH_DAY, true).toModelType();
+        assertFalse(loan.isPaid());
+    }
+
+    @Test
+    public void toModelType_missingField_throwsIllegalValueException() {
+        JsonAdaptedLoan loan = new JsonAdaptedLoan(SimpleInterestLoan.LOAN_TYPE, 100f, 0f, 2f, null, null,
+                CREATED_EPOCH_DAY, false);
+        assertThrows(IllegalValueException.class, String.format(MISSING_FIELD_MESSAGE_FORMAT, "dueEpochDay"),
+                loan::toModelType);
+    }
+
+    @Test
+    public void toModelType_unknownType_throwsIllegalValueException() {
+        JsonAdaptedLoan loan = new JsonAdaptedLoan("X", 100f, 0f, 2f, DUE_EPOCH_DAY, null, CREATED_EPOCH_DAY, false);
+        assertThrows(IllegalValueException.class, INVALID_LOAN_MESSAGE, loan::toModelType);
+    }
+
+    @Test
+    public void toModelType_dueBeforeCreated_throwsIllegalValueException() {
+        JsonAdaptedLoan loan = new JsonAdaptedLoan(SimpleInterestLoan.LOAN_TYPE, 100f, 0f, 2f, CREATED_EPOCH_DAY - 1,
+                null, CREATED_EPOCH_DAY, false);
+        assertThrows(IllegalValueException.class, INVALID_LOAN_MESSAGE, loan::toModelType);
+    }
+
+    @Test
+    public void toModelType_negativePrincipal_throwsIllegalValueException() {
+        JsonAdaptedLoan loan = new JsonAdaptedLoan(SimpleInterestLoan.LOAN_TYPE, -1f, 0f, 2f, DUE_EPOCH_DAY, null,
+                CREATED_EPOCH_DAY, false);
+        assertThrows(IllegalValueException.class, INVALID_LOAN_MESSAGE, loan::toModelType);
+    }
+}
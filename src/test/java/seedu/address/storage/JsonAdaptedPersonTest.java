@@ -1,8 +1,12 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.storage.JsonAdaptedPerson.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.LoanUtil.assertLoansEqual;
+import static seedu.address.testutil.LoanUtil.toSaveString;
 import static seedu.address.testutil.TypicalPersons.BENSON;
 
 import java.util.ArrayList;
@@ -12,9 +16,12 @@ import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
+import seedu.address.model.person.LoanList;
 import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 
 public class JsonAdaptedPersonTest {
@@ -28,7 +35,7 @@ public class JsonAdaptedPersonTest {
     private static final String VALID_PHONE = BENSON.getPhone().toString();
     private static final String VALID_EMAIL = BENSON.getEmail().toString();
     private static final String VALID_ADDRESS = BENSON.getAddress().toString();
-    private static final String VALID_LOAN_LIST = BENSON.getLoanList().toSaveString();
+    private static final String VALID_LOAN_LIST = toSaveString(BENSON.getLoanList());
     private static final List<JsonAdaptedTag> VALID_TAGS = BENSON.getTags().stream()
             .map(JsonAdaptedTag::new)
             .collect(Collectors.toList());
@@ -39,6 +46,37 @@ public class JsonAdaptedPersonTest {
         assertEquals(BENSON, person.toModelType());
     }
 
+    @Test
+    public void toModelType_legacyLoanList_migratesLoans() throws Exception {
+        JsonAdaptedPerson legacyPerson = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+                VALID_LOAN_LIST, VALID_TAGS);
+        Person person = legacyPerson.toModelType();
+        assertLoansEqual(BENSON.getLoans(), person.getLoans());
+
+        // saved again, the loans are in the structured field only
+        String json = JsonUtil.toJsonString(new JsonAdaptedPerson(person));
+        assertTrue(json.contains("\"loans\""));
+        assertFalse(json.contains("\"loanList\""));
+        Person reloaded = JsonUtil.fromJsonString(json, JsonAdaptedPerson.class).toModelType();
+        assertLoansEqual(BENSON.getLoans(), reloaded.getLoans());
+    }
+
+    @Test
+    public void toModelType_nullLoans_throwsIllegalValueException() {
+        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+                null, null, VALID_TAGS);
+        String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, LoanList.class.getSimpleName());
+        assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
+    }
+
+    @Test
+    public void toModelType_invalidLoan_leavesLoanOut() throws Exception {
+        JsonAdaptedLoan invalidLoan = new JsonAdaptedLoan("X", 100f, 0f, 1f, 30000L, null, 10000L, false);
+        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+                null, List.of(invalidLoan), VALID_TAGS);
+        assertEquals(0, person.toModelType().getLoanList().getLoans().size());
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedPerson person =
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
@@ -9,6 +10,7 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -16,11 +18,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
+    private static final String CURRENT_FORMAT_VERSION = "\"" + JsonSerializableAddressBook.FORMAT_VERSION_FIELD
+            + "\": " + JsonSerializableAddressBook.FORMAT_VERSION;
 
     @TempDir
     public Path testFolder;
@@ -62,6 +67,59 @@ public class JsonAddressBookStorageTest {
     }
 
 
+    @Test
+    public void readAddressBook_duplicatePersons_throwDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("DuplicateAddressBook.json");
+        String alice = JsonUtil.toJsonString(new JsonAdaptedPerson(ALICE));
+        Files.writeString(filePath,
+                "{ " + CURRENT_FORMAT_VERSION + ", \"persons\": [ " + alice + ", " + alice + " ] }");
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_otherFieldsAroundPersons_readsPersons() throws Exception {
+        Path filePath = testFolder.resolve("OtherFieldsAddressBook.json");
+        Files.writeString(filePath, "{ \"notes\": { \"persons\": [ 1, 2 ] }, " + CURRENT_FORMAT_VERSION
+                + ", \"persons\": [ "
+                + JsonUtil.toJsonString(new JsonAdaptedPerson(ALICE)) + " ], \"tags\": null }");
+
+        AddressBook expected = new AddressBook();
+        expected.addPerson(ALICE);
+        assertEquals(expected, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_newerFormatVersion_throwDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("NewerAddressBook.json");
+        Files.writeString(filePath, "{ \"formatVersion\": " + (JsonSerializableAddressBook.FORMAT_VERSION + 1)
+                + ", \"persons\": [ ] }");
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_formatVersionAfterPersons_throwDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("LateVersionAddressBook.json");
+        Files.writeString(filePath, "{ \"persons\": [ " + JsonUtil.toJsonString(new JsonAdaptedPerson(ALICE))
+                + " ], " + CURRENT_FORMAT_VERSION + " }");
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_formatVersionSavedBeforePersons() throws Exception {
+        Path filePath = testFolder.resolve("VersionedAddressBook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        String json = Files.readString(filePath);
+        assertTrue(json.contains("\"formatVersion\" : " + JsonSerializableAddressBook.FORMAT_VERSION));
+        assertTrue(json.indexOf("\"formatVersion\"") < json.indexOf("\"persons\""));
+    }
+
+    @Test
+    public void readAddressBook_noPersonsField_emptyAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("NoPersonsAddressBook.json");
+        Files.writeString(filePath, "{ }");
+        assertEquals(new AddressBook(), new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
     @Test
     public void readAndSaveAddressBook_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempAddressBook.json");
@@ -0,0 +1,198 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.LoanUtil.assertLoanEquals;
+import static seedu.address.testutil.LoanUtil.assertLoansEqual;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ArchivedNameChange;
+import seedu.address.model.ReadOnlyLoanArchive;
+import seedu.address.model.person.CompoundInterestLoan;
+import seedu.address.model.person.Loan;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.SimpleInterestLoan;
+
+public class MappedLoanArchiveStorageTest {
+    private static final Name ALICE = new Name("Alice Pauline");
+    private static final Name BENSON = new Name("Benson Meier");
+    private static final Name CARL = new Name("Carl Kurz");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readLoanArchive_missingFile_emptyArchive() throws Exception {
+        ReadOnlyLoanArchive archive = new MappedLoanArchiveStorage(testFolder.resolve("NonExistentFile.bin"))
+                .readLoanArchive();
+        assertEquals(0, archive.getArchivedLoanCount(ALICE));
+        assertTrue(archive.getArchivedLoans(ALICE, 0, 10).isEmpty());
+    }
+
+    @Test
+    public void readLoanArchive_notArchiveFormat_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("notArchive.bin");
+        Files.writeString(filePath, "{ \"persons\": [] }");
+        assertThrows(DataLoadingException.class, () -> new MappedLoanArchiveStorage(filePath).readLoanArchive());
+    }
+
+    @Test
+    public void archiveLoans_thenRead_sameLoansByPerson() throws Exception {
+        Path filePath = testFolder.resolve("archive.bin");
+        List<Loan> aliceLoans = List.of(paidOffLoan("100"), paidOffLoan("200"));
+        List<Loan> bensonLoans = List.of(paidOffLoan("300"));
+
+        MappedLoanArchiveStorage storage = new MappedLoanArchiveStorage(filePath);
+        storage.archiveLoans(List.of(), Map.of(ALICE, aliceLoans, BENSON, bensonLoans));
+        assertArchived(aliceLoans, storage, ALICE);
+        assertArchived(bensonLoans, storage, BENSON);
+
+        ReadOnlyLoanArchive readBack = new MappedLoanArchiveStorage(filePath).readLoanArchive();
+        assertArchived(aliceLoans, readBack, ALICE);
+        assertArchived(bensonLoans, readBack, BENSON);
+    }
+
+    @Test
+    public void archiveLoans_afterReopening_addsToEnd() throws Exception {
+        Path filePath = testFolder.resolve("archive.bin");
+        List<Loan> loans = new ArrayList<>(List.of(paidOffLoan("100")));
+        new MappedLoanArchiveStorage(filePath).archiveLoans(List.of(), Map.of(ALICE, loans));
+
+        MappedLoanArchiveStorage reopened = new MappedLoanArchiveStorage(filePath);
+        Loan compoundLoan = new CompoundInterestLoan("400", "2", "2050-01-01");
+        compoundLoan.pay(compoundLoan.getRemainingOwed());
+        reopened.archiveLoans(List.of(), Map.of(ALICE, List.of(compoundLoan)));
+        loans.add(compoundLoan);
+
+        assertArchived(loans, reopened, ALICE);
+        assertArchived(loans, new MappedLoanArchiveStorage(filePath).readLoanArchive(), ALICE);
+    }
+
+    @Test
+    public void archiveLoans_nameChanges_followedAfterReopening() throws Exception {
+        Path filePath = testFolder.resolve("archive.bin");
+        List<Loan> aliceLoans = List.of(paidOffLoan("100"));
+        List<Loan> bensonLoans = List.of(paidOffLoan("300"));
+        MappedLoanArchiveStorage storage = new MappedLoanArchiveStorage(filePath);
+        storage.archiveLoans(List.of(), Map.of(ALICE, aliceLoans, BENSON, bensonLoans));
+
+        List<Loan> carlLoans = List.of(paidOffLoan("100"), paidOffLoan("200"));
+        storage.archiveLoans(List.of(ArchivedNameChange.moved(ALICE, CARL),
+                ArchivedNameChange.retired(BENSON, List.of()), ArchivedNameChange.retired(ALICE, List.of())),
+                Map.of(CARL, carlLoans.subList(1, 2)));
+
+        for (ReadOnlyLoanArchive archive : List.of(storage, new MappedLoanArchiveStorage(filePath).readLoanArchive())) {
+            assertArchived(List.of(), archive, ALICE);
+            assertArchived(List.of(), archive, BENSON);
+            assertArchived(carlLoans, archive, CARL);
+            assertRetired(List.of(), archive, ALICE);
+            assertRetired(bensonLoans, archive, BENSON);
+        }
+    }
+
+    @Test
+    public void archiveLoans_personRetired_loansKeptApartFromLaterPerson() throws Exception {
+        Path filePath = testFolder.resolve("archive.bin");
+        List<Loan> retiredLoans = List.of(paidOffLoan("100"), paidOffLoan("200"));
+        MappedLoanArchiveStorage storage = new MappedLoanArchiveStorage(filePath);
+        storage.archiveLoans(List.of(), Map.of(ALICE, retiredLoans.subList(0, 1)));
+
+        // the second loan was paid off just before the person was deleted, so it was never archived under the name
+        List<Loan> laterLoans = List.of(paidOffLoan("300"));
+        storage.archiveLoans(List.of(ArchivedNameChange.retired(ALICE, retiredLoans.subList(1, 2))),
+                Map.of(ALICE, laterLoans));
+
+        for (ReadOnlyLoanArchive archive : List.of(storage, new MappedLoanArchiveStorage(filePath).readLoanArchive())) {
+            assertArchived(laterLoans, archive, ALICE);
+            assertRetired(retiredLoans, archive, ALICE);
+        }
+    }
+
+    @Test
+    public void archiveLoans_nameWithoutLoans_writesNothing() throws Exception {
+        Path filePath = testFolder.resolve("archive.bin");
+        MappedLoanArchiveStorage storage = new MappedLoanArchiveStorage(filePath);
+        storage.archiveLoans(List.of(ArchivedNameChange.moved(ALICE, BENSON),
+                ArchivedNameChange.retired(ALICE, List.of())), Map.of());
+        assertFalse(Files.exists(filePath));
+    }
+
+    @Test
+    public void getArchivedLoans_page_onlyLoansOfPage() throws Exception {
+        MappedLoanArchiveStorage storage = new MappedLoanArchiveStorage(testFolder.resolve("archive.bin"));
+        List<Loan> loans = new ArrayList<>();
+        for (int i = 1; i <= 25; i++) {
+            loans.add(paidOffLoan(String.valueOf(i * 10)));
+        }
+        storage.archiveLoans(List.of(), Map.of(ALICE, loans));
+
+        List<Loan> page = storage.getArchivedLoans(ALICE, 20, 10);
+        assertEquals(5, page.size());
+        assertLoanEquals(loans.get(20), page.get(0));
+        assertTrue(storage.getArchivedLoans(ALICE, 25, 10).isEmpty());
+    }
+
+    @Test
+    public void readLoanArchive_cutShortRecord_dropsRecord() throws Exception {
+        Path filePath = testFolder.resolve("archive.bin");
+        List<Loan> loans = List.of(paidOffLoan("100"), paidOffLoan("200"));
+        new MappedLoanArchiveStorage(filePath).archiveLoans(List.of(), Map.of(ALICE, loans));
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 3));
+
+        MappedLoanArchiveStorage storage = new MappedLoanArchiveStorage(filePath);
+        storage.readLoanArchive();
+        assertArchived(loans.subList(0, 1), storage, ALICE);
+
+        // records added afterwards start where the last whole record ends
+        storage.archiveLoans(List.of(), Map.of(ALICE, loans.subList(1, 2)));
+        assertArchived(loans, new MappedLoanArchiveStorage(filePath).readLoanArchive(), ALICE);
+    }
+
+    @Test
+    public void readLoanArchive_recordsSpanSeveralChunks_readsEveryRecord() throws Exception {
+        Path filePath = testFolder.resolve("archive.bin");
+        List<Loan> loans = new ArrayList<>();
+        for (int i = 1; i <= 1500; i++) {
+            loans.add(paidOffLoan(String.valueOf(i)));
+        }
+        new MappedLoanArchiveStorage(filePath).archiveLoans(List.of(), Map.of(ALICE, loans));
+        assertTrue(Files.size(filePath) > MappedLoanArchiveStorage.READ_CHUNK_SIZE);
+
+        assertArchived(loans, new MappedLoanArchiveStorage(filePath).readLoanArchive(), ALICE);
+    }
+
+    @Test
+    public void archiveLoans_nullLoans_throwsNullPointerException() {
+        MappedLoanArchiveStorage storage = new MappedLoanArchiveStorage(testFolder.resolve("archive.bin"));
+        assertThrows(NullPointerException.class, () -> storage.archiveLoans(List.of(), null));
+    }
+
+    private static Loan paidOffLoan(String principal) throws Exception {
+        Loan loan = new SimpleInterestLoan(principal, "3", "2050-01-01");
+        loan.pay(loan.getRemainingOwed());
+        return loan;
+    }
+
+    private static void assertArchived(List<Loan> expected, ReadOnlyLoanArchive archive, Name name) {
+        assertEquals(expected.size(), archive.getArchivedLoanCount(name));
+        assertLoansEqual(expected, archive.getArchivedLoans(name, 0, expected.size()));
+    }
+
+    private static void assertRetired(List<Loan> expected, ReadOnlyLoanArchive archive, Name name) {
+        assertEquals(expected.size(), archive.getRetiredLoanCount(name));
+        assertLoansEqual(expected, archive.getRetiredLoans(name, 0, expected.size()));
+    }
+}
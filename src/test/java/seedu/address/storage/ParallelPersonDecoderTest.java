@@ -0,0 +1,77 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ParallelPersonDecoderTest {
+
+    private static final int PERSON_COUNT = ParallelPersonDecoder.CHUNK_SIZE * 12 + 7;
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void finish_manyChunks_keepsOrder() throws Exception {
+        List<Person> expected = new ArrayList<>();
+        ParallelPersonDecoder decoder = new ParallelPersonDecoder(pool);
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            Person person = new PersonBuilder().withName("Person " + i).build();
+            expected.add(person);
+            decoder.add(new JsonAdaptedPerson(person));
+        }
+        assertEquals(expected, decoder.finish());
+    }
+
+    @Test
+    public void finish_duplicateInLaterChunk_throwsIllegalValueException() {
+        List<JsonAdaptedPerson> persons = adaptedPersons();
+        persons.add(new JsonAdaptedPerson(new PersonBuilder().withName("Person 3").build()));
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                decodeAll(persons));
+    }
+
+    @Test
+    public void finish_invalidBeforeDuplicate_throwsFirstError() {
+        List<JsonAdaptedPerson> persons = adaptedPersons();
+        persons.add(ParallelPersonDecoder.CHUNK_SIZE + 1, new JsonAdaptedPerson("R@chel", "98765432",
+                "rachel@example.com", "Block 1", "", null));
+        persons.add(new JsonAdaptedPerson(new PersonBuilder().withName("Person 3").build()));
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, () -> decodeAll(persons));
+    }
+
+    private static List<JsonAdaptedPerson> adaptedPersons() {
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            persons.add(new JsonAdaptedPerson(new PersonBuilder().withName("Person " + i).build()));
+        }
+        return persons;
+    }
+
+    private List<Person> decodeAll(List<JsonAdaptedPerson> persons) throws IllegalValueException {
+        ParallelPersonDecoder decoder = new ParallelPersonDecoder(pool);
+        try {
+            for (JsonAdaptedPerson person : persons) {
+                decoder.add(person);
+            }
+            return decoder.finish();
+        } finally {
+            decoder.cancel();
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class WriteBehindStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private WriteBehindStorage createStorage(AddressBookStorage addressBookStorage) {
+        return new WriteBehindStorage(new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json"))));
+    }
+
+    @Test
+    public void saveAddressBook_thenFlush_writesLatestState() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        WriteBehindStorage storage = createStorage(new JsonAddressBookStorage(filePath));
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        storage.flush();
+
+        ReadOnlyAddressBook readBack = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void saveAddressBook_whileWriting_coalescesQueuedSaves() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        CountDownLatch isFirstWriteStarted = new CountDownLatch(1);
+        CountDownLatch canFinishFirstWrite = new CountDownLatch(1);
+        AtomicInteger writeCount = new AtomicInteger();
+        WriteBehindStorage storage = createStorage(new JsonAddressBookStorage(filePath) {
+            @Override
+            public PendingSave prepareSave(ReadOnlyAddressBook addressBook) {
+                PendingSave save = super.prepareSave(addressBook);
+                return () -> {
+                    if (writeCount.incrementAndGet() == 1) {
+                        isFirstWriteStarted.countDown();
+                        awaitQuietly(canFinishFirstWrite);
+                    }
+                    save.write();
+                };
+            }
+        });
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        isFirstWriteStarted.await();
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        canFinishFirstWrite.countDown();
+        storage.flush();
+
+        assertEquals(2, writeCount.get());
+        ReadOnlyAddressBook readBack = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void flush_backgroundWriteFailed_retriesWrite() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AtomicInteger writeCount = new AtomicInteger();
+        WriteBehindStorage storage = createStorage(new JsonAddressBookStorage(filePath) {
+            @Override
+            public PendingSave prepareSave(ReadOnlyAddressBook addressBook) {
+                PendingSave save = super.prepareSave(addressBook);
+                return () -> {
+                    if (writeCount.incrementAndGet() == 1) {
+                        throw new IOException("dummy IO exception");
+                    }
+                    save.write();
+                };
+            }
+        });
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        storage.flush();
+
+        assertEquals(2, writeCount.get());
+        ReadOnlyAddressBook readBack = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void flush_writeKeepsFailing_throwsIoException() throws Exception {
+        WriteBehindStorage storage = createStorage(new JsonAddressBookStorage(testFolder.resolve("addressBook.json")) {
+            @Override
+            public PendingSave prepareSave(ReadOnlyAddressBook addressBook) {
+                return () -> {
+                    throw new IOException("dummy IO exception");
+                };
+            }
+        });
+
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertThrows(IOException.class, "dummy IO exception", storage::flush);
+    }
+
+    @Test
+    public void checkSaves_backgroundWriteFailed_reportsFailureAndRetries() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AtomicInteger writeCount = new AtomicInteger();
+        ExecutorService writer = Executors.newSingleThreadExecutor();
+        WriteBehindStorage storage = new WriteBehindStorage(new StorageManager(new JsonAddressBookStorage(filePath) {
+            @Override
+            public PendingSave prepareSave(ReadOnlyAddressBook addressBook) {
+                PendingSave save = super.prepareSave(addressBook);
+                return () -> {
+                    if (writeCount.incrementAndGet() == 1) {
+                        throw new IOException("dummy IO exception");
+                    }
+                    save.write();
+                };
+            }
+        }, new JsonUserPrefsStorage(testFolder.resolve("prefs.json"))), writer);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        writer.submit(() -> { }).get(); // waits for the write to fail
+        assertThrows(IOException.class, String.format(WriteBehindStorage.MESSAGE_EARLIER_SAVE_FAILED,
+                "dummy IO exception"), storage::checkSaves);
+        writer.submit(() -> { }).get(); // waits for the retry
+
+        assertEquals(2, writeCount.get());
+        storage.checkSaves();
+        ReadOnlyAddressBook readBack = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        writer.shutdown();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.address.testutil;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import seedu.address.model.person.Loan;
+import seedu.address.model.person.LoanList;
+
+/**
+ * A utility class for Loan.
+ */
+public class LoanUtil {
+
+    /**
+     * Returns {@code loan} in the string format that older data files save loans in, with fields separated by '/'.
+     */
+    public static String toSaveString(Loan loan) {
+        return String.format("%.2f", loan.getPrincipal()) + '/'
+                + String.format("%.2f", loan.getAmtPaid()) + '/'
+                + String.format("%.2f", loan.getInterest()) + '/'
+                + toSaveString(loan.getDueDate()) + '/'
+                + toSaveString(loan.getDateLastPaid()) + '/'
+                + toSaveString(loan.getDateCreated()) + '/'
+                + loan.getName() + '/'
+                + (loan.isPaid() ? "1" : "0");
+    }
+
+    /**
+     * Returns the loans in {@code loanList} in the string format that older data files save loans in, separated
+     * by ','.
+     */
+    public static String toSaveString(LoanList loanList) {
+        if (loanList.getLoans().isEmpty()) {
+            return LoanList.EMPTY_STRING;
+        }
+
+        StringBuilder loanListString = new StringBuilder();
+        for (Loan loan : loanList.getLoans()) {
+            loanListString.append(toSaveString(loan)).append(',');
+        }
+        loanListString.deleteCharAt(loanListString.length() - 1);
+        return loanListString.toString();
+    }
+
+    private static String toSaveString(LocalDate date) {
+        return date == null ? Loan.UNAVAILABLE_DATE : date.toString();
+    }
+
+    /**
+     * Asserts that {@code actual} has the same type and fields as {@code expected}.
+     */
+    public static void assertLoanEquals(Loan expected, Loan actual) {
+        assertEquals(expected.getName(), actual.getName());
+        assertEquals(expected.getPrincipal(), actual.getPrincipal());
+        assertEquals(expected.getAmtPaid(), actual.getAmtPaid());
+        assertEquals(expected.getInterest(), actual.getInterest());
+        assertEquals(expected.getDueDate(), actual.getDueDate());
+        assertEquals(expected.getDateLastPaid(), actual.getDateLastPaid());
+        assertEquals(expected.getDateCreated(), actual.getDateCreated());
+        assertEquals(expected.isPaid(), actual.isPaid());
+    }
+
+    /**
+     * Asserts that {@code actual} holds loans with the same types and fields as those in {@code expected}, in the
+     * same order.
+     */
+    public static void assertLoansEqual(List<Loan> expected, List<Loan> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertLoanEquals(expected.get(i), actual.get(i));
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+public class CommandRunnerTest {
+
+    private static final long WAIT_MILLIS = 5000;
+
+    private final BlockingQueue<Runnable> postedResults = new LinkedBlockingQueue<>();
+    private final CountDownLatch commandMayFinish = new CountDownLatch(1);
+    private ExecutorService executor;
+    private int syncCount = 0;
+    private CommandRunner commandRunner;
+
+    @BeforeEach
+    public void setUp() {
+        executor = Executors.newSingleThreadExecutor();
+        commandRunner = new CommandRunner(this::execute, () -> syncCount++, executor, postedResults::add);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void run_commandSucceeds_resultPassedOnAfterSync() throws Exception {
+        CompletableFuture<CommandResult> result = commandRunner.run("list");
+        assertTrue(commandRunner.isRunningProperty().get());
+        commandMayFinish.countDown();
+
+        Runnable posted = nextPostedResult();
+        assertFalse(result.isDone()); // only completed on the thread that started the command
+        posted.run();
+        assertEquals(new CommandResult("done: list"), result.get());
+        assertEquals(1, syncCount);
+        assertFalse(commandRunner.isRunningProperty().get());
+    }
+
+    @Test
+    public void run_commandFails_failsWithSameException() throws Exception {
+        commandMayFinish.countDown();
+        CompletableFuture<CommandResult> result = commandRunner.run("fail");
+        nextPostedResult().run();
+        assertFailsWith(CommandException.class, "failed: fail", result);
+        assertEquals(1, syncCount);
+    }
+
+    @Test
+    public void run_unexpectedError_failsWithCommandException() throws Exception {
+        commandMayFinish.countDown();
+        CompletableFuture<CommandResult> result = commandRunner.run("crash");
+        nextPostedResult().run();
+        assertFailsWith(CommandException.class, String.format(CommandRunner.MESSAGE_UNEXPECTED_ERROR, "crash",
+                new IllegalStateException("crashed")), result);
+        assertFalse(commandRunner.isRunningProperty().get());
+    }
+
+    @Test
+    public void run_commandAlreadyRunning_turnedDown() throws Exception {
+        CompletableFuture<CommandResult> first = commandRunner.run("list");
+        CompletableFuture<CommandResult> second = commandRunner.run("clear");
+        assertFailsWith(CommandException.class, String.format(CommandRunner.MESSAGE_BUSY, "list"), second);
+
+        commandMayFinish.countDown();
+        nextPostedResult().run();
+        assertEquals(new CommandResult("done: list"), first.get());
+        assertEquals(0, postedResults.size());
+
+        // a command entered after the first is done runs as usual
+        CompletableFuture<CommandResult> third = commandRunner.run("clear");
+        nextPostedResult().run();
+        assertEquals(new CommandResult("done: clear"), third.get());
+    }
+
+    @Test
+    public void runWhenIdle_commandRunning_runsOnceCommandDone() throws Exception {
+        List<String> tasksRun = new ArrayList<>();
+        commandRunner.runWhenIdle(() -> tasksRun.add("idle"));
+        assertEquals(List.of("idle"), tasksRun);
+
+        CompletableFuture<CommandResult> result = commandRunner.run("list");
+        commandRunner.runWhenIdle(() -> tasksRun.add("waiting " + syncCount));
+        commandMayFinish.countDown();
+        Runnable posted = nextPostedResult();
+        assertEquals(List.of("idle"), tasksRun);
+
+        result.thenRun(() -> tasksRun.add("result"));
+        posted.run();
+        assertEquals(List.of("idle", "waiting 1", "result"), tasksRun);
+    }
+
+    @Test
+    public void stop_commandRunning_waitsForCommand() throws Exception {
+        commandRunner.run("list");
+        commandMayFinish.countDown();
+        commandRunner.stop();
+        assertTrue(executor.isTerminated());
+        assertEquals(1, postedResults.size());
+    }
+
+    private CommandResult execute(String commandText) throws CommandException, ParseException {
+        try {
+            commandMayFinish.await(WAIT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (commandText.equals("fail")) {
+            throw new CommandException("failed: " + commandText);
+        }
+        if (commandText.equals("crash")) {
+            throw new IllegalStateException("crashed");
+        }
+        return new CommandResult("done: " + commandText);
+    }
+
+    private Runnable nextPostedResult() throws InterruptedException {
+        Runnable result = postedResults.poll(WAIT_MILLIS, TimeUnit.MILLISECONDS);
+        assertTrue(result != null, "no command result was posted");
+        return result;
+    }
+
+    private static void assertFailsWith(Class<? extends Exception> expectedType, String expectedMessage,
+            CompletableFuture<CommandResult> result) {
+        assertTrue(result.isCompletedExceptionally());
+        ExecutionException e = assertThrows(ExecutionException.class, result::get);
+        assertEquals(expectedType, e.getCause().getClass());
+        assertEquals(expectedMessage, e.getCause().getMessage());
+    }
+}
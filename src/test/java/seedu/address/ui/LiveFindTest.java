@@ -0,0 +1,138 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class LiveFindTest {
+
+    private static final long WAIT_MILLIS = LiveFind.DEBOUNCE_MILLIS * 20;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final BlockingQueue<Runnable> postedResults = new LinkedBlockingQueue<>();
+    private ScheduledExecutorService executor;
+    private int filterUpdateCount = 0;
+    private LiveFind liveFind;
+
+    @BeforeEach
+    public void setUp() {
+        executor = Executors.newSingleThreadScheduledExecutor();
+        liveFind = new LiveFind(predicate -> {
+            filterUpdateCount++;
+            model.updateFilteredPersonListByName(predicate);
+        }, () -> {
+            filterUpdateCount++;
+            model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        }, executor, postedResults::add);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void handleTextChanged_findCommand_showsMatchingNames() throws Exception {
+        liveFind.handleTextChanged("find meier");
+        showNextResult();
+        assertEquals(List.of(BENSON, DANIEL), shownPersons());
+    }
+
+    @Test
+    public void handleTextChanged_moreTyped_matchesLikeFindCommand() throws Exception {
+        // an unfinished word matches no name, as it would once Enter is pressed
+        liveFind.handleTextChanged("find mei");
+        showNextResult();
+        assertEquals(List.of(), shownPersons());
+        liveFind.handleTextChanged("find meier");
+        showNextResult();
+        assertEquals(List.of(BENSON, DANIEL), shownPersons());
+
+        // names that match any keyword are shown
+        liveFind.handleTextChanged("find meier elle");
+        showNextResult();
+        assertEquals(List.of(BENSON, DANIEL, ELLE), shownPersons());
+        liveFind.handleTextChanged("find alice");
+        showNextResult();
+        assertEquals(List.of(ALICE), shownPersons());
+    }
+
+    @Test
+    public void handleTextChanged_typedQuickly_onlyLatestResultShown() throws Exception {
+        liveFind.handleTextChanged("find m");
+        liveFind.handleTextChanged("find me");
+        liveFind.handleTextChanged("find meyer");
+        showNextResult();
+        assertEquals(List.of(ELLE), shownPersons());
+        assertNull(postedResults.poll(LiveFind.DEBOUNCE_MILLIS * 2, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void handleTextChanged_personsChanged_previewFollowsChanges() throws Exception {
+        liveFind.handleTextChanged("find meier");
+        showNextResult();
+
+        model.deletePerson(DANIEL);
+        assertEquals(List.of(BENSON), shownPersons());
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alice Meier").build();
+        model.setPerson(ALICE, renamedAlice);
+        assertEquals(List.of(renamedAlice, BENSON), shownPersons());
+    }
+
+    @Test
+    public void handleTextChanged_notFindCommand_showsAllPersonsAgain() throws Exception {
+        liveFind.handleTextChanged("find meier");
+        showNextResult();
+        liveFind.handleTextChanged("list");
+        assertEquals(getTypicalPersons(), shownPersons());
+    }
+
+    @Test
+    public void cancel_searchPending_resultNotShown() throws Exception {
+        liveFind.handleTextChanged("find meier");
+        liveFind.cancel();
+        Runnable result = postedResults.poll(LiveFind.DEBOUNCE_MILLIS * 2, TimeUnit.MILLISECONDS);
+        if (result != null) {
+            result.run();
+        }
+        assertEquals(0, filterUpdateCount);
+
+        // the text cleared after the command does not undo the result of the command
+        liveFind.handleTextChanged("");
+        assertEquals(0, filterUpdateCount);
+    }
+
+    private void showNextResult() throws InterruptedException {
+        Runnable result = postedResults.poll(WAIT_MILLIS, TimeUnit.MILLISECONDS);
+        assertTrue(result != null, "no search result was posted");
+        result.run();
+    }
+
+    private List<Person> shownPersons() {
+        return List.copyOf(model.getFilteredPersonList());
+    }
+}
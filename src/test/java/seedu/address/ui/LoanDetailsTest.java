@@ -0,0 +1,59 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.EvaluationDate;
+import seedu.address.model.person.Loan;
+import seedu.address.model.person.SimpleInterestLoan;
+
+public class LoanDetailsTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2030, 1, 15);
+
+    @BeforeEach
+    public void setUp() {
+        EvaluationDate.setClock(Clock.fixed(Instant.parse("2030-01-15T00:00:00Z"), ZoneOffset.UTC));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        EvaluationDate.useSystemClock();
+    }
+
+    @Test
+    public void of_unpaidLoan_describesLoan() throws Exception {
+        LoanDetails details = LoanDetails.of(new SimpleInterestLoan("500", "3", "2050-01-01"));
+        assertEquals("Loan Type: S", details.loanType);
+        assertEquals("Principal: $500.00", details.principal);
+        assertEquals("Amount Paid: $0.00", details.amtPaid);
+        assertEquals("Last Paid: Not Paid Yet", details.lastPaid);
+    }
+
+    @Test
+    public void isUpToDate_loanPaid_returnsFalse() throws Exception {
+        Loan loan = new SimpleInterestLoan("500", "3", "2050-01-01");
+        LoanDetails details = LoanDetails.of(loan);
+        assertTrue(details.isUpToDate(loan, TODAY));
+
+        loan.pay(100);
+        assertFalse(details.isUpToDate(loan, TODAY));
+        assertEquals("Amount Paid: $100.00", LoanDetails.of(loan).amtPaid);
+    }
+
+    @Test
+    public void isUpToDate_anotherDay_returnsFalse() throws Exception {
+        Loan loan = new SimpleInterestLoan("500", "3", "2050-01-01");
+        assertFalse(LoanDetails.of(loan).isUpToDate(loan, TODAY.plusDays(1)));
+    }
+}
@@ -0,0 +1,83 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class MirroredListTest {
+
+    private final ObservableList<String> source = FXCollections.observableArrayList("a", "b", "c");
+    private int changeCount = 0;
+    private final MirroredList<String> mirroredList = new MirroredList<>(source, () -> changeCount++);
+
+    @Test
+    public void sync_changesToSource_appliedOnlyOnSync() {
+        source.add("d");
+        source.remove("a");
+        source.set(0, "e");
+        assertEquals(List.of("a", "b", "c"), mirroredList.getList());
+        assertEquals(3, changeCount);
+
+        assertTrue(mirroredList.sync());
+        assertEquals(source, mirroredList.getList());
+        assertFalse(mirroredList.sync());
+    }
+
+    @Test
+    public void sync_replacedWithItself_reportsOnlyThatElement() {
+        List<String> changes = recordChanges();
+        source.set(1, source.get(1));
+        mirroredList.sync();
+        assertEquals(List.of("replaced 1 to 2"), changes);
+    }
+
+    @Test
+    public void sync_manyChanges_copiesSourceAfresh() {
+        for (int i = 0; i <= MirroredList.MAX_EDITS_REPLAYED; i++) {
+            source.add(String.valueOf(i));
+        }
+        source.remove(0);
+        List<String> changes = recordChanges();
+        mirroredList.sync();
+        assertEquals(source, mirroredList.getList());
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void sync_sourceSorted_sameOrderAsSource() {
+        source.setAll(IntStream.range(0, 10).mapToObj(i -> String.valueOf(9 - i)).collect(Collectors.toList()));
+        FXCollections.sort(source);
+        mirroredList.sync();
+        assertEquals(source, mirroredList.getList());
+    }
+
+    @Test
+    public void dispose_changesToSource_notRecorded() {
+        mirroredList.dispose();
+        source.add("d");
+        assertEquals(0, changeCount);
+        assertFalse(mirroredList.sync());
+    }
+
+    private List<String> recordChanges() {
+        List<String> changes = new ArrayList<>();
+        mirroredList.getList().addListener((ListChangeListener<String>) change -> {
+            while (change.next()) {
+                changes.add((change.wasReplaced() ? "replaced " : "other ") + change.getFrom() + " to "
+                        + change.getTo());
+            }
+        });
+        return changes;
+    }
+}
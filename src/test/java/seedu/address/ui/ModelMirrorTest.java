@@ -0,0 +1,104 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ObservableList;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Loan;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.SimpleInterestLoan;
+import seedu.address.testutil.PersonBuilder;
+
+public class ModelMirrorTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private boolean isUiThread = false;
+    private boolean isCommandRunning = false;
+    private final ModelMirror modelMirror = new ModelMirror(model.getAddressBook().getPersonList(),
+            model.getFilteredPersonList(), () -> isUiThread, () -> isCommandRunning);
+
+    @Test
+    public void sync_commandChangedLoans_loansShownAfterSync() throws Exception {
+        Person person = new PersonBuilder().withName("Zed Loanee").build();
+        model.addPerson(person);
+        modelMirror.sync();
+        ObservableList<Loan> shownLoans = modelMirror.getLoans(person);
+        Loan loan = new SimpleInterestLoan("500", "3", "2050-01-01");
+        model.addLoan(person, loan);
+        assertTrue(shownLoans.isEmpty());
+
+        modelMirror.sync();
+        assertEquals(List.of(loan), shownLoans);
+    }
+
+    @Test
+    public void getLoans_commandRunning_loansCopiedAtSync() throws Exception {
+        Person person = new PersonBuilder().withName("Zed Loanee").build();
+        model.addPerson(person);
+        Loan loan = new SimpleInterestLoan("500", "3", "2050-01-01");
+        model.addLoan(person, loan);
+
+        isCommandRunning = true;
+        ObservableList<Loan> shownLoans = modelMirror.getLoans(person);
+        assertTrue(shownLoans.isEmpty());
+
+        modelMirror.sync();
+        assertEquals(List.of(loan), shownLoans);
+    }
+
+    @Test
+    public void releaseLoans_noLongerShown_loansCopiedAfresh() throws Exception {
+        Person person = new PersonBuilder().withName("Zed Loanee").build();
+        model.addPerson(person);
+        ObservableList<Loan> shownLoans = modelMirror.getLoans(person);
+        modelMirror.releaseLoans(person);
+
+        Loan loan = new SimpleInterestLoan("500", "3", "2050-01-01");
+        model.addLoan(person, loan);
+        modelMirror.sync();
+        assertTrue(shownLoans.isEmpty()); // the released copy no longer follows the loans
+        assertEquals(List.of(loan), modelMirror.getLoans(person));
+    }
+
+    @Test
+    public void releaseLoans_stillShownElsewhere_loansStillCopied() throws Exception {
+        Person person = new PersonBuilder().withName("Zed Loanee").build();
+        model.addPerson(person);
+        ObservableList<Loan> shownLoans = modelMirror.getLoans(person);
+        assertSame(shownLoans, modelMirror.getLoans(person));
+        modelMirror.releaseLoans(person);
+
+        Loan loan = new SimpleInterestLoan("500", "3", "2050-01-01");
+        model.addLoan(person, loan);
+        modelMirror.sync();
+        assertEquals(List.of(loan), shownLoans);
+    }
+
+    @Test
+    public void sync_commandChangedPersons_personsShownAfterSync() {
+        Person person = model.getFilteredPersonList().get(0);
+        model.deletePerson(person);
+        assertEquals(person, modelMirror.getFilteredPersonList().get(0));
+
+        modelMirror.sync();
+        assertEquals(model.getFilteredPersonList(), modelMirror.getFilteredPersonList());
+        assertEquals(model.getAddressBook().getPersonList(), modelMirror.getPersonList());
+    }
+
+    @Test
+    public void changeOnUiThread_shownAtOnce() {
+        isUiThread = true;
+        model.updateFilteredPersonList(person -> false);
+        assertTrue(modelMirror.getFilteredPersonList().isEmpty());
+    }
+}